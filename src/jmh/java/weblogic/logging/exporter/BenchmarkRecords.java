@@ -0,0 +1,47 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import weblogic.logging.WLLevel;
+import weblogic.logging.WLLogRecord;
+
+/** Synthetic WebLogic log records with message sizes like the ones seen in real server logs. */
+class BenchmarkRecords {
+
+  static final String DOMAIN_UID = "domain1";
+
+  private BenchmarkRecords() {}
+
+  /** @return a one-line notice such as a server state change */
+  static WLLogRecord shortMessage() {
+    return create(WLLevel.NOTICE, "BEA-000360", "The server started in RUNNING mode.");
+  }
+
+  /** @return an error carrying a typical 40-frame stack trace with tabs, quotes and line breaks */
+  static WLLogRecord stackTrace() {
+    StringBuilder message =
+        new StringBuilder(
+            "Connection for pool \"JDBC Data Source-0\" closed.\n"
+                + "java.sql.SQLRecoverableException: IO Error: Connection reset by peer");
+    for (int i = 0; i < 40; i++) {
+      message
+          .append("\n\tat oracle.jdbc.driver.T4CConnection.doSetNetworkTimeout(T4CConnection.java:")
+          .append(7000 + i)
+          .append(')');
+    }
+    return create(WLLevel.ERROR, "BEA-001129", message.toString());
+  }
+
+  private static WLLogRecord create(WLLevel level, String id, String message) {
+    WLLogRecord record = new WLLogRecord(level, message);
+    record.setId(id);
+    record.setServerName("managed-server-1");
+    record.setMachineName("domain1-managed-server-1.domain1.svc.cluster.local");
+    record.setThreadName("[ACTIVE] ExecuteThread: '12' for queue: 'weblogic.kernel.Default'");
+    record.setUserId("<WLS Kernel>");
+    record.setTransactionId("");
+    record.setLoggerName("JDBC");
+    return record;
+  }
+}
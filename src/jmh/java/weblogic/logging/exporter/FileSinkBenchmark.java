@@ -0,0 +1,111 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.FileHandler;
+import java.util.logging.Handler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import weblogic.logging.WLLogRecord;
+import weblogic.logging.exporter.config.FileCompression;
+import weblogic.logging.exporter.config.FileRotationInterval;
+import weblogic.logging.exporter.config.FileSyncPolicy;
+
+/**
+ * Measures the records per second that four logging threads get through a file handler writing
+ * the ECS JSON log file: the JDK's {@link FileHandler}, which writes under one lock, against the
+ * {@link AsyncFileHandler} and the {@link MappedFileHandler}. Files rotate at 50 MB, as in the
+ * sample configuration.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class FileSinkBenchmark {
+
+  private static final int LIMIT = 50 * 1024 * 1024;
+  private static final int COUNT = 3;
+
+  @Param({"handler", "async", "mapped"})
+  public String writer;
+
+  @Param({"short", "stackTrace"})
+  public String message;
+
+  private File directory;
+  private Handler handler;
+  private WLLogRecord record;
+
+  @Setup
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("benchmark").toFile();
+    String pattern = new File(directory, "json%g.log").getPath();
+    if ("handler".equals(writer)) {
+      handler = new FileHandler(pattern, LIMIT, COUNT, false);
+    } else if ("mapped".equals(writer)) {
+      handler =
+          new MappedFileHandler(
+              pattern,
+              LIMIT,
+              COUNT,
+              false,
+              FileRotationInterval.NONE,
+              FileCompression.NONE,
+              0,
+              FileSyncPolicy.NONE,
+              1000);
+    } else {
+      handler =
+          new AsyncFileHandler(
+              pattern,
+              LIMIT,
+              COUNT,
+              false,
+              FileRotationInterval.NONE,
+              FileCompression.NONE,
+              0,
+              FileSyncPolicy.NONE,
+              1000,
+              8192);
+    }
+    handler.setFormatter(new EcsRecordFormatter());
+    record =
+        "short".equals(message) ? BenchmarkRecords.shortMessage() : BenchmarkRecords.stackTrace();
+  }
+
+  @TearDown
+  public void tearDown() {
+    handler.close();
+    File[] files = directory.listFiles();
+    if (files != null) {
+      for (File file : files) {
+        file.delete();
+      }
+    }
+    directory.delete();
+  }
+
+  @Benchmark
+  public void publish() {
+    handler.publish(record);
+  }
+}
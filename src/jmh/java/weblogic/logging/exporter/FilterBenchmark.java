@@ -0,0 +1,65 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import weblogic.diagnostics.logging.LogVariablesImpl;
+import weblogic.diagnostics.query.Query;
+import weblogic.diagnostics.query.QueryException;
+import weblogic.diagnostics.query.QueryFactory;
+import weblogic.logging.WLLogRecord;
+
+/**
+ * Compares the cost per record of a filter expression compiled by {@link FilterExpressionCompiler}
+ * with the same expression run by the WLDF query engine.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FilterBenchmark {
+
+  @Param({
+    "MSGID != 'BEA-000449'",
+    "SUBSYSTEM = 'JDBC'",
+    "SEVERITY IN ('Error','Critical')",
+    "SUBSYSTEM LIKE 'JD%' AND (SEVERITY = 'Error' OR USERID = 'weblogic')"
+  })
+  public String expression;
+
+  private WLLogRecord record;
+  private RecordPredicate predicate;
+  private Query query;
+
+  @Setup
+  public void setUp() throws QueryException {
+    record = BenchmarkRecords.stackTrace();
+    predicate = FilterExpressionCompiler.compile(expression);
+    LogVariablesImpl lv = LogVariablesImpl.getInstance();
+    query = QueryFactory.createQuery(lv, lv, expression);
+  }
+
+  @Benchmark
+  public int nativePredicate() {
+    return predicate.test(record);
+  }
+
+  @Benchmark
+  public boolean wldfQuery() throws QueryException {
+    return query.executeQuery(LogVariablesImpl.getInstance().getLogVariablesResolver(record));
+  }
+}
@@ -0,0 +1,105 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import weblogic.logging.exporter.config.Config;
+
+/**
+ * An in-process stand-in for Elasticsearch that reads every request to the end and answers it as
+ * accepted, so that a benchmark measures the exporter rather than a cluster.
+ */
+class HttpSink implements AutoCloseable {
+
+  private static final byte[] ACCEPTED = "{\"errors\":false}".getBytes(StandardCharsets.UTF_8);
+
+  static {
+    // the server writes response headers and body separately; without this, Nagle's algorithm and
+    // delayed acknowledgements stall every response by tens of milliseconds
+    System.setProperty("sun.net.httpserver.nodelay", "true");
+  }
+
+  private final HttpServer server;
+  private final ExecutorService serverThreads = Executors.newFixedThreadPool(4);
+  private final LongAdder requests = new LongAdder();
+  private final LongAdder bytes = new LongAdder();
+
+  HttpSink() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext("/", this::handle);
+    server.setExecutor(serverThreads);
+    server.start();
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    try {
+      byte[] buffer = new byte[8192];
+      long read = 0;
+      try (InputStream in = exchange.getRequestBody()) {
+        int count;
+        while ((count = in.read(buffer)) >= 0) {
+          read += count;
+        }
+      }
+      requests.increment();
+      bytes.add(read);
+      exchange.sendResponseHeaders(200, ACCEPTED.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(ACCEPTED);
+      }
+    } finally {
+      exchange.close();
+    }
+  }
+
+  /**
+   * Creates a handler that exports to this sink.
+   *
+   * @param extraYaml more configuration lines, may be empty
+   * @return the handler
+   */
+  LogExportHandler createHandler(String extraYaml) throws IOException {
+    File file = File.createTempFile("benchmark", ".yaml");
+    try {
+      try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+        writer.write("publishHost: " + InetAddress.getLoopbackAddress().getHostAddress() + "\n");
+        writer.write("publishPort: " + server.getAddress().getPort() + "\n");
+        writer.write("domainUID: " + BenchmarkRecords.DOMAIN_UID + "\n");
+        writer.write(extraYaml);
+      }
+      return new LogExportHandler(Config.loadConfig(file));
+    } finally {
+      file.delete();
+    }
+  }
+
+  /** @return the number of requests received */
+  long getRequestCount() {
+    return requests.sum();
+  }
+
+  /** @return the number of body bytes received */
+  long getByteCount() {
+    return bytes.sum();
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+    serverThreads.shutdownNow();
+  }
+}
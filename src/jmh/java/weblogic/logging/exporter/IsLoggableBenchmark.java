@@ -0,0 +1,76 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import weblogic.logging.WLLogRecord;
+
+/**
+ * Measures {@link LogExportHandler#isLoggable} for a record that passes every filter, so that all
+ * of them are evaluated. The filters are either ones that {@link FilterExpressionCompiler} turns
+ * into Java, or ones left to the WLDF query engine.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IsLoggableBenchmark {
+
+  @Param({"0", "5", "20"})
+  public int filterCount;
+
+  @Param({"native", "wldf"})
+  public String filterKind;
+
+  private HttpSink sink;
+  private LogExportHandler handler;
+  private WLLogRecord record;
+
+  @Setup
+  public void setUp() throws IOException {
+    StringBuilder filters = new StringBuilder();
+    if (filterCount > 0) {
+      filters.append("weblogicLoggingExporterFilters:\n");
+    }
+    for (int i = 0; i < filterCount; i++) {
+      // none of these match the record, so every filter lets it through
+      String expression =
+          "native".equals(filterKind)
+              ? "MSGID != 'BEA-9900" + (10 + i) + "'"
+              : "MACHINE != 'host" + i + "'";
+      filters.append("- FilterExpression: ").append(expression).append('\n');
+    }
+    // no statistics summaries in the middle of the measurement
+    filters.append("weblogicLoggingExporterFilterStatsIntervalMs: 0\n");
+    sink = new HttpSink();
+    handler = sink.createHandler(filters.toString());
+    record = BenchmarkRecords.shortMessage();
+  }
+
+  @TearDown
+  public void tearDown() {
+    handler.close();
+    sink.close();
+  }
+
+  @Benchmark
+  public boolean isLoggable() {
+    return handler.isLoggable(record);
+  }
+}
@@ -0,0 +1,107 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import weblogic.logging.WLLogRecord;
+
+/**
+ * Compares {@link JsonRecordEncoder} with the String concatenation it replaced. Run with {@code
+ * -prof gc} to see the allocation rate per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JsonRecordEncoderBenchmark {
+
+  @Param({"short", "stackTrace"})
+  public String message;
+
+  private WLLogRecord record;
+  private JsonRecordEncoder encoder;
+  private final StringBuilder reusedBuffer = new StringBuilder(8192);
+
+  @Setup
+  public void setUp() {
+    record =
+        "short".equals(message) ? BenchmarkRecords.shortMessage() : BenchmarkRecords.stackTrace();
+    encoder = new JsonRecordEncoder(BenchmarkRecords.DOMAIN_UID);
+  }
+
+  @Benchmark
+  public String encoder() {
+    return encoder.encode(record);
+  }
+
+  @Benchmark
+  public int encoderIntoReusedBuffer() {
+    reusedBuffer.setLength(0);
+    encoder.encodeTo(record, reusedBuffer);
+    return reusedBuffer.length();
+  }
+
+  @Benchmark
+  public String concatenation() {
+    return concatenatedPayload(record, BenchmarkRecords.DOMAIN_UID);
+  }
+
+  // the recordToPayload implementation that JsonRecordEncoder replaced, kept as the baseline
+  private static String concatenatedPayload(WLLogRecord wlLogRecord, String domainUID) {
+    return "{"
+        + dataAsJson("messageID", wlLogRecord.getId())
+        + ","
+        + dataAsJson("message", wlLogRecord.getMessage())
+        + ","
+        + dataAsJson("timestamp", wlLogRecord.getMillis())
+        + ","
+        + dataAsJson("serverName", wlLogRecord.getServerName())
+        + ","
+        + dataAsJson("threadName", wlLogRecord.getThreadName())
+        + ","
+        + dataAsJson("severity", wlLogRecord.getSeverityString())
+        + ","
+        + dataAsJson("userId", wlLogRecord.getUserId())
+        + ","
+        + dataAsJson("level", wlLogRecord.getLevel().toString())
+        + ","
+        + dataAsJson("loggerName", wlLogRecord.getLoggerName())
+        + ","
+        + dataAsJson("formattedDate", wlLogRecord.getFormattedDate())
+        + ","
+        + dataAsJson("subSystem", wlLogRecord.getSubsystem())
+        + ","
+        + dataAsJson("machineName", wlLogRecord.getMachineName())
+        + ","
+        + dataAsJson("transactionId", wlLogRecord.getTransactionId())
+        + ","
+        + dataAsJson("diagnosticContextId", wlLogRecord.getDiagnosticContextId())
+        + ","
+        + dataAsJson("sequenceNumber", wlLogRecord.getSequenceNumber())
+        + ","
+        + dataAsJson("domainUID", domainUID)
+        + "}";
+  }
+
+  private static String dataAsJson(String fieldName, String data) {
+    return "\"" + fieldName + "\": \"" + data.replace("\"", "\\\"") + "\"";
+  }
+
+  private static String dataAsJson(String fieldName, long data) {
+    return "\"" + fieldName + "\": " + data;
+  }
+}
@@ -0,0 +1,85 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import weblogic.logging.WLLogRecord;
+
+/**
+ * Measures {@link LogExportHandler#publish} end to end, from the record to the bytes received by an
+ * in-process {@link HttpSink}: one request per record, bulk requests sent on the publishing thread,
+ * or bulk requests sent from the async queue. With the queue, the publishing thread only pays for
+ * the hand-over; the queue blocks when full, so the senders still set the pace.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PublishBenchmark {
+
+  @Param({"single", "bulk", "async"})
+  public String mode;
+
+  @Param({"short", "stackTrace"})
+  public String message;
+
+  private HttpSink sink;
+  private LogExportHandler handler;
+  private WLLogRecord record;
+
+  @Setup
+  public void setUp() throws IOException {
+    String yaml;
+    switch (mode) {
+      case "single":
+        yaml = "weblogicLoggingExporterBulkSize: 1\n";
+        break;
+      case "bulk":
+        yaml = "weblogicLoggingExporterBulkSize: 100\n";
+        break;
+      default:
+        yaml =
+            "weblogicLoggingExporterBulkSize: 100\n"
+                + "weblogicLoggingExporterAsyncEnabled: true\n"
+                + "weblogicLoggingExporterQueueOverflowPolicy: block\n";
+        break;
+    }
+    sink = new HttpSink();
+    handler = sink.createHandler(yaml);
+    record =
+        "short".equals(message) ? BenchmarkRecords.shortMessage() : BenchmarkRecords.stackTrace();
+  }
+
+  @TearDown
+  public void tearDown() {
+    handler.close();
+    System.out.println(
+        " sink received "
+            + sink.getRequestCount()
+            + " requests, "
+            + sink.getByteCount()
+            + " bytes");
+    sink.close();
+  }
+
+  @Benchmark
+  public void publish() {
+    handler.publish(record);
+  }
+}
@@ -0,0 +1,102 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the pool of platform threads that {@link SenderExecutors} makes before Java 21 with a
+ * virtual thread per request, for bulk requests that block for a millisecond as if waiting for
+ * Elasticsearch. Each operation sends a batch of requests with at most {@code inFlight} of them at
+ * once; the peak number of platform threads is printed after each iteration. The virtual executor
+ * is looked up reflectively, as the benchmarks are compiled for Java 8, and needs Java 21 to run.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SenderExecutorBenchmark {
+
+  private static final int REQUESTS_PER_OPERATION = 256;
+  private static final long REQUEST_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  @Param({"platform", "virtual"})
+  public String executorType;
+
+  @Param({"16", "256"})
+  public int inFlight;
+
+  private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+  private ExecutorService executor;
+  private Semaphore permits;
+
+  @Setup
+  public void setUp() throws ReflectiveOperationException {
+    if ("virtual".equals(executorType)) {
+      executor =
+          (ExecutorService)
+              Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } else {
+      executor = SenderExecutors.newBulkExecutor(inFlight);
+    }
+    permits = new Semaphore(inFlight);
+  }
+
+  @Setup(Level.Iteration)
+  public void resetPeak() {
+    threads.resetPeakThreadCount();
+  }
+
+  @TearDown(Level.Iteration)
+  public void printPeak() {
+    System.out.println(
+        " peak platform threads: " + threads.getPeakThreadCount() + " (" + executorType + ")");
+  }
+
+  @TearDown
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Benchmark
+  public void sendBatch() throws InterruptedException {
+    CountDownLatch done = new CountDownLatch(REQUESTS_PER_OPERATION);
+    for (int i = 0; i < REQUESTS_PER_OPERATION; i++) {
+      // as BulkSenderPool does, wait for a free slot before handing the request over
+      permits.acquire();
+      executor.execute(
+          () -> {
+            try {
+              LockSupport.parkNanos(REQUEST_NANOS);
+            } finally {
+              permits.release();
+              done.countDown();
+            }
+          });
+    }
+    done.await();
+  }
+}
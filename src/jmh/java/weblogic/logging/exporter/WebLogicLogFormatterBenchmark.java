@@ -0,0 +1,56 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import weblogic.logging.WLLogRecord;
+
+/**
+ * Measures the ECS formatting of a record for the log file written by {@link Startup}: through the
+ * ECS formatter and the MDC, and written directly by {@link EcsRecordFormatter}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WebLogicLogFormatterBenchmark {
+
+  @Param({"short", "stackTrace"})
+  public String message;
+
+  private WLLogRecord record;
+  private WebLogicLogFormatter formatter;
+  private EcsRecordFormatter directFormatter;
+
+  @Setup
+  public void setUp() {
+    record =
+        "short".equals(message) ? BenchmarkRecords.shortMessage() : BenchmarkRecords.stackTrace();
+    formatter = new WebLogicLogFormatter(BenchmarkRecords.DOMAIN_UID);
+    directFormatter = new EcsRecordFormatter();
+  }
+
+  @Benchmark
+  public String format() {
+    return formatter.format(record);
+  }
+
+  @Benchmark
+  public String formatDirect() {
+    return directFormatter.format(record);
+  }
+}
@@ -0,0 +1,104 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits the number of requests in flight, adapting the limit with additive increase and
+ * multiplicative decrease (AIMD). Each successful request that completes while at least half of the
+ * limit is in use raises the limit by {@code 1/limit}, so it grows steadily under load. A
+ * request that was rejected as overloaded halves the limit, at most once per request duration so
+ * that a burst of failures from the same round only counts once.
+ *
+ * <p>Latency alone does not lower the limit: bulk bodies range from a few records sent by the
+ * linger flush to full batches, so a full batch that takes longer than a small one says nothing
+ * about the load on the cluster.
+ */
+class AdaptiveConcurrencyLimit {
+
+  private static final double DECREASE_FACTOR = 0.5;
+
+  private final int minLimit;
+  private final int maxLimit;
+  private double limit;
+  private int inFlight;
+  private long lastDecreaseNanos;
+  private boolean decreased;
+
+  /**
+   * Creates a limit that starts at its minimum.
+   *
+   * @param minLimit the lowest the limit may go
+   * @param maxLimit the highest the limit may go
+   */
+  AdaptiveConcurrencyLimit(int minLimit, int maxLimit) {
+    this.minLimit = Math.max(1, minLimit);
+    this.maxLimit = Math.max(this.minLimit, maxLimit);
+    this.limit = this.minLimit;
+  }
+
+  /**
+   * Waits until another request may start and counts it as in flight.
+   *
+   * @throws InterruptedException if the thread is interrupted while waiting
+   */
+  synchronized void acquire() throws InterruptedException {
+    while (inFlight >= (int) limit) {
+      wait();
+    }
+    inFlight++;
+  }
+
+  /**
+   * Records the outcome of a request started with {@link #acquire()}.
+   *
+   * @param latencyNanos how long the request took
+   * @param overloaded true if the server rejected the request because it is overloaded
+   */
+  synchronized void release(long latencyNanos, boolean overloaded) {
+    boolean saturated = inFlight * 2 >= limit;
+    inFlight--;
+    if (overloaded) {
+      long now = System.nanoTime();
+      if (!decreased || now - lastDecreaseNanos >= latencyNanos) {
+        limit = Math.max(minLimit, limit * DECREASE_FACTOR);
+        lastDecreaseNanos = now;
+        decreased = true;
+      }
+    } else if (saturated) {
+      limit = Math.min(maxLimit, limit + 1.0 / limit);
+    }
+    notifyAll();
+  }
+
+  /**
+   * Waits until no requests are in flight.
+   *
+   * @param timeoutMillis the maximum time to wait
+   * @return true if no requests are in flight
+   * @throws InterruptedException if the thread is interrupted while waiting
+   */
+  synchronized boolean awaitIdle(long timeoutMillis) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    while (inFlight > 0) {
+      long remaining = deadline - System.nanoTime();
+      if (remaining <= 0) {
+        return false;
+      }
+      TimeUnit.NANOSECONDS.timedWait(this, remaining);
+    }
+    return true;
+  }
+
+  /** @return the current number of requests allowed in flight */
+  synchronized int getLimit() {
+    return (int) limit;
+  }
+
+  /** @return the number of requests in flight */
+  synchronized int getInFlight() {
+    return inFlight;
+  }
+}
@@ -0,0 +1,352 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import weblogic.logging.exporter.config.FileCompression;
+import weblogic.logging.exporter.config.FileRotationInterval;
+import weblogic.logging.exporter.config.FileSyncPolicy;
+
+/**
+ * Writes formatted records to a rotating log file, as {@link java.util.logging.FileHandler} does,
+ * without making the logging threads wait for each other on the disk. Each record is formatted and
+ * encoded on the thread that logs it and queued as bytes; a single writer thread copies the queued
+ * records into a large buffer and writes it to a {@link FileChannel} in one call. A logging thread
+ * only waits when the queue is full.
+ *
+ * <p>The current file is rotated into older generations once the next record would take it over
+ * the size limit, or would be the first of a new hour or day, and it is forced to the disk as the
+ * {@link FileSyncPolicy} says. The {@link LogFileRotation} compresses the rotated files in the
+ * background and keeps them within a total size.
+ */
+class AsyncFileHandler extends Handler {
+
+  private static final int WRITE_BUFFER_BYTES = 256 * 1024;
+  private static final int MAX_BATCH_RECORDS = 4096;
+  private static final long IDLE_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+  private static final long MAX_BLOCK_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+  private static final long FLUSH_WAIT_MILLIS = 30000;
+  private static final long SHUTDOWN_WAIT_MILLIS = 5000;
+
+  private final LogFilePattern files;
+  private final LogFileRotation rotation;
+  private final long limit;
+  private final FileRotationInterval rotationInterval;
+  private final FileSyncPolicy syncPolicy;
+  private final long syncIntervalNanos;
+  private final BoundedRingQueue<byte[]> queue;
+  private final ByteBuffer writeBuffer = ByteBuffer.allocateDirect(WRITE_BUFFER_BYTES);
+  private final AtomicLong enqueued = new AtomicLong();
+  private final Object idleLock = new Object();
+  private final Object writtenLock = new Object();
+  private final Thread writer;
+  private volatile long written;
+  private volatile boolean writerIdle;
+  private volatile boolean running = true;
+
+  // only used by the writer thread once it has started
+  private FileChannel channel;
+  private long fileSize;
+  private long nextRotationMillis;
+  private long lastSyncNanos = System.nanoTime();
+  private boolean unsynced;
+
+  /**
+   * Opens the current file and starts the writer thread.
+   *
+   * @param pattern the file names, in the syntax of {@code FileHandler}
+   * @param limit the size in bytes at which the file is rotated, 0 for no limit
+   * @param count the number of files kept, the current one included
+   * @param append true to add to the current file, false to start it empty
+   * @param rotationInterval how often the file is rotated, in addition to at the size limit
+   * @param compression how rotated files are compressed
+   * @param maxTotalBytes the size of the rotated files above which the oldest are deleted, 0 for
+   *     no limit
+   * @param syncPolicy when the file is forced to the disk
+   * @param syncIntervalMillis for {@link FileSyncPolicy#INTERVAL}, the time between syncs
+   * @param queueCapacity the number of records that can wait for the writer
+   * @throws IOException if the file cannot be opened
+   */
+  AsyncFileHandler(
+      String pattern,
+      long limit,
+      int count,
+      boolean append,
+      FileRotationInterval rotationInterval,
+      FileCompression compression,
+      long maxTotalBytes,
+      FileSyncPolicy syncPolicy,
+      long syncIntervalMillis,
+      int queueCapacity)
+      throws IOException {
+    this.files = new LogFilePattern(pattern, count);
+    this.limit = Math.max(0, limit);
+    this.rotationInterval = rotationInterval;
+    this.syncPolicy = syncPolicy;
+    this.syncIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, syncIntervalMillis));
+    this.queue = new BoundedRingQueue<>(queueCapacity);
+    openCurrentFile(append);
+    this.rotation =
+        new LogFileRotation(
+            files,
+            compression,
+            maxTotalBytes,
+            (message, e) -> reportError(message, e, ErrorManager.GENERIC_FAILURE));
+    this.writer = new Thread(this::writeLoop, "weblogic-logging-exporter-file-writer");
+    this.writer.setDaemon(true);
+    this.writer.start();
+  }
+
+  @Override
+  public void publish(LogRecord record) {
+    if (!running || !isLoggable(record)) {
+      return;
+    }
+    byte[] line;
+    try {
+      line = getFormatter().format(record).getBytes(StandardCharsets.UTF_8);
+    } catch (RuntimeException e) {
+      reportError(null, e, ErrorManager.FORMAT_FAILURE);
+      return;
+    }
+    long parkNanos = 1000;
+    while (!queue.offer(line)) {
+      if (!running) {
+        return;
+      }
+      LockSupport.parkNanos(parkNanos);
+      parkNanos = Math.min(parkNanos * 2, MAX_BLOCK_PARK_NANOS);
+    }
+    enqueued.incrementAndGet();
+    if (writerIdle) {
+      synchronized (idleLock) {
+        idleLock.notify();
+      }
+    }
+  }
+
+  /** Waits a bounded time until the records published so far have been written to the file. */
+  @Override
+  public void flush() {
+    long target = enqueued.get();
+    synchronized (idleLock) {
+      idleLock.notify();
+    }
+    long deadline = System.currentTimeMillis() + FLUSH_WAIT_MILLIS;
+    synchronized (writtenLock) {
+      while (written < target && writer.isAlive()) {
+        long remaining = deadline - System.currentTimeMillis();
+        if (remaining <= 0) {
+          return;
+        }
+        try {
+          writtenLock.wait(remaining);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+      }
+    }
+  }
+
+  /**
+   * Writes what is queued, waiting a bounded time for the writer, closes the file and stops
+   * compressing rotated files.
+   */
+  @Override
+  public void close() {
+    running = false;
+    synchronized (idleLock) {
+      idleLock.notify();
+    }
+    try {
+      writer.join(SHUTDOWN_WAIT_MILLIS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    rotation.close();
+  }
+
+  private void writeLoop() {
+    try {
+      while (running || !queue.isEmpty()) {
+        byte[] line = queue.poll();
+        if (line == null) {
+          syncIfDue();
+          awaitRecords();
+          continue;
+        }
+        int count = 0;
+        try {
+          do {
+            count++;
+            write(line);
+          } while (count < MAX_BATCH_RECORDS && (line = queue.poll()) != null);
+          writeBuffer();
+          if (syncPolicy == FileSyncPolicy.BATCH) {
+            sync();
+          } else {
+            syncIfDue();
+          }
+        } catch (IOException e) {
+          reportError("cannot write to " + files.currentFile(), e, ErrorManager.WRITE_FAILURE);
+          // start again on a new channel with the next batch; this one is lost
+          writeBuffer.clear();
+          closeChannel();
+        }
+        markWritten(count);
+      }
+    } finally {
+      // whatever stopped the writer, do not let logging threads wait for it
+      running = false;
+      try {
+        writeBuffer();
+        if (syncPolicy != FileSyncPolicy.NONE) {
+          sync();
+        }
+      } catch (IOException e) {
+        reportError(null, e, ErrorManager.WRITE_FAILURE);
+      }
+      closeChannel();
+    }
+  }
+
+  private void awaitRecords() {
+    writerIdle = true;
+    try {
+      synchronized (idleLock) {
+        if (running && queue.isEmpty()) {
+          long waitNanos = IDLE_WAIT_NANOS;
+          if (syncPolicy == FileSyncPolicy.INTERVAL && unsynced) {
+            waitNanos = Math.min(waitNanos, syncIntervalNanos);
+          }
+          TimeUnit.NANOSECONDS.timedWait(idleLock, waitNanos);
+        }
+      }
+    } catch (InterruptedException e) {
+      running = false;
+    } finally {
+      writerIdle = false;
+    }
+  }
+
+  private void markWritten(int count) {
+    synchronized (writtenLock) {
+      written += count;
+      writtenLock.notifyAll();
+    }
+  }
+
+  private void write(byte[] line) throws IOException {
+    if (channel == null) {
+      openCurrentFile(true);
+    }
+    long pending = fileSize + writeBuffer.position();
+    if (pending > 0
+        && ((limit > 0 && pending + line.length > limit)
+            || System.currentTimeMillis() >= nextRotationMillis)) {
+      writeBuffer();
+      rotate();
+    }
+    if (line.length > writeBuffer.remaining()) {
+      writeBuffer();
+    }
+    if (line.length > writeBuffer.capacity()) {
+      writeFully(ByteBuffer.wrap(line));
+    } else {
+      writeBuffer.put(line);
+    }
+  }
+
+  private void writeBuffer() throws IOException {
+    if (writeBuffer.position() == 0) {
+      return;
+    }
+    writeBuffer.flip();
+    try {
+      writeFully(writeBuffer);
+    } finally {
+      writeBuffer.clear();
+    }
+  }
+
+  private void writeFully(ByteBuffer bytes) throws IOException {
+    while (bytes.hasRemaining()) {
+      fileSize += channel.write(bytes);
+    }
+    unsynced = true;
+  }
+
+  private void syncIfDue() {
+    if (syncPolicy != FileSyncPolicy.INTERVAL
+        || !unsynced
+        || System.nanoTime() - lastSyncNanos < syncIntervalNanos) {
+      return;
+    }
+    try {
+      sync();
+    } catch (IOException e) {
+      reportError(null, e, ErrorManager.WRITE_FAILURE);
+    }
+  }
+
+  private void sync() throws IOException {
+    if (channel != null && unsynced) {
+      channel.force(false);
+    }
+    unsynced = false;
+    lastSyncNanos = System.nanoTime();
+  }
+
+  private void rotate() throws IOException {
+    if (syncPolicy != FileSyncPolicy.NONE) {
+      sync();
+    }
+    closeChannel();
+    rotation.rotate();
+    openCurrentFile(false);
+  }
+
+  private void openCurrentFile(boolean append) throws IOException {
+    File file = files.currentFile();
+    channel =
+        FileChannel.open(
+            file.toPath(),
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            append ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING);
+    fileSize = channel.size();
+    // a file added to is rotated at the end of the hour or day it was last written in
+    long lastWritten = fileSize > 0 ? file.lastModified() : System.currentTimeMillis();
+    nextRotationMillis =
+        rotationInterval.nextRotationAfter(
+            ZonedDateTime.ofInstant(Instant.ofEpochMilli(lastWritten), ZoneId.systemDefault()));
+  }
+
+  private void closeChannel() {
+    if (channel == null) {
+      return;
+    }
+    try {
+      channel.close();
+    } catch (IOException e) {
+      reportError(null, e, ErrorManager.CLOSE_FAILURE);
+    }
+    channel = null;
+  }
+}
@@ -0,0 +1,247 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.logging.LogRecord;
+import weblogic.logging.exporter.config.QueueOverflowPolicy;
+
+/**
+ * Decouples the threads that log from the threads that talk to Elasticsearch. Records are put on a
+ * {@link BoundedRingQueue} by {@link #submit(LogRecord)} and background sender threads drain them
+ * in batches of up to {@code maxBatchSize} records, handing each batch to the batch consumer. A
+ * sender waits at most the linger time for a batch to fill up before it hands it over.
+ */
+class AsyncLogSender {
+
+  private static final long IDLE_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+  private static final long MAX_BLOCK_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+  private static final long SHUTDOWN_WAIT_MILLIS = 5000;
+
+  private final BoundedRingQueue<LogRecord> queue;
+  private final QueueOverflowPolicy overflowPolicy;
+  private final int overflowLevelValue;
+  private final int maxBatchSize;
+  private final long lingerNanos;
+  private final Consumer<List<LogRecord>> batchConsumer;
+  private final Predicate<LogRecord> overflowHandler;
+  private final FailureReporter failures;
+  private final Thread[] senders;
+  private final Object idleLock = new Object();
+  private final AtomicInteger idleSenders = new AtomicInteger();
+  private final LongAdder enqueued = new LongAdder();
+  private final LongAdder dropped = new LongAdder();
+  private volatile boolean running = true;
+
+  /**
+   * Creates the sender and starts its threads.
+   *
+   * @param capacity the capacity of the hand-off queue
+   * @param overflowPolicy what to do with records that arrive when the queue is full
+   * @param overflowLevelValue for {@link QueueOverflowPolicy#DROP_BELOW_SEVERITY}, the level value
+   *     below which records are dropped rather than waited for
+   * @param senderThreads the number of background threads draining the queue
+   * @param maxBatchSize the maximum number of records handed to the consumer at once
+   * @param lingerMillis how long to wait for more records before handing over a partial batch
+   * @param batchConsumer sends one batch of records
+   * @param overflowHandler takes records that do not fit on the queue, returning false if it cannot
+   *     keep them either; null to discard such records
+   * @param failures reports the batches that the consumer fails to send
+   */
+  AsyncLogSender(
+      int capacity,
+      QueueOverflowPolicy overflowPolicy,
+      int overflowLevelValue,
+      int senderThreads,
+      int maxBatchSize,
+      long lingerMillis,
+      Consumer<List<LogRecord>> batchConsumer,
+      Predicate<LogRecord> overflowHandler,
+      FailureReporter failures) {
+    this.queue = new BoundedRingQueue<>(capacity);
+    this.overflowPolicy = overflowPolicy;
+    this.overflowLevelValue = overflowLevelValue;
+    this.maxBatchSize = Math.max(1, maxBatchSize);
+    this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, lingerMillis));
+    this.batchConsumer = batchConsumer;
+    this.overflowHandler = overflowHandler;
+    this.failures = failures;
+    this.senders = new Thread[Math.max(1, senderThreads)];
+    for (int i = 0; i < senders.length; i++) {
+      senders[i] = new Thread(this::drainLoop, "weblogic-logging-exporter-sender-" + i);
+      senders[i].setDaemon(true);
+      senders[i].start();
+    }
+  }
+
+  /**
+   * Queues a record for sending, applying the overflow policy if the queue is full.
+   *
+   * @param record the record to send
+   * @return true if the record was queued, false if it was dropped
+   */
+  boolean submit(LogRecord record) {
+    if (!running || !enqueue(record)) {
+      overflow(record);
+      return false;
+    }
+    enqueued.increment();
+    if (idleSenders.get() > 0) {
+      synchronized (idleLock) {
+        idleLock.notify();
+      }
+    }
+    return true;
+  }
+
+  private boolean enqueue(LogRecord record) {
+    if (queue.offer(record)) {
+      return true;
+    }
+    switch (overflowPolicy) {
+      case DROP_NEWEST:
+        return false;
+      case DROP_OLDEST:
+        return offerDroppingOldest(record);
+      case DROP_BELOW_SEVERITY:
+        if (record.getLevel().intValue() < overflowLevelValue) {
+          return false;
+        }
+        return offerBlocking(record);
+      case BLOCK:
+      default:
+        return offerBlocking(record);
+    }
+  }
+
+  private boolean offerDroppingOldest(LogRecord record) {
+    while (!queue.offer(record)) {
+      LogRecord oldest = queue.poll();
+      if (oldest != null) {
+        overflow(oldest);
+      }
+    }
+    return true;
+  }
+
+  private void overflow(LogRecord record) {
+    if (overflowHandler == null || !overflowHandler.test(record)) {
+      dropped.increment();
+    }
+  }
+
+  private boolean offerBlocking(LogRecord record) {
+    long parkNanos = 1000;
+    while (running) {
+      if (queue.offer(record)) {
+        return true;
+      }
+      LockSupport.parkNanos(parkNanos);
+      parkNanos = Math.min(parkNanos * 2, MAX_BLOCK_PARK_NANOS);
+    }
+    return false;
+  }
+
+  private void drainLoop() {
+    List<LogRecord> batch = new ArrayList<>(maxBatchSize);
+    while (running || !queue.isEmpty()) {
+      LogRecord record = queue.poll();
+      if (record == null) {
+        awaitRecords(IDLE_WAIT_NANOS);
+        continue;
+      }
+      batch.add(record);
+      fillBatch(batch);
+      sendBatch(batch);
+    }
+  }
+
+  private void fillBatch(List<LogRecord> batch) {
+    long deadline = System.nanoTime() + lingerNanos;
+    while (batch.size() < maxBatchSize) {
+      LogRecord record = queue.poll();
+      if (record != null) {
+        batch.add(record);
+        continue;
+      }
+      long remaining = deadline - System.nanoTime();
+      if (remaining <= 0 || !running) {
+        return;
+      }
+      awaitRecords(remaining);
+    }
+  }
+
+  private void sendBatch(List<LogRecord> batch) {
+    try {
+      batchConsumer.accept(batch);
+    } catch (RuntimeException e) {
+      failures.report("AsyncLogSender", e.getClass().getName(), batch.size(), e);
+    } finally {
+      batch.clear();
+    }
+  }
+
+  private void awaitRecords(long timeoutNanos) {
+    idleSenders.incrementAndGet();
+    try {
+      synchronized (idleLock) {
+        if (running && queue.isEmpty()) {
+          TimeUnit.NANOSECONDS.timedWait(idleLock, timeoutNanos);
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      running = false;
+    } finally {
+      idleSenders.decrementAndGet();
+    }
+  }
+
+  /**
+   * Stops accepting new records and waits a bounded time for the sender threads to drain what is
+   * already queued.
+   */
+  void shutdown() {
+    running = false;
+    synchronized (idleLock) {
+      idleLock.notifyAll();
+    }
+    long deadline = System.currentTimeMillis() + SHUTDOWN_WAIT_MILLIS;
+    for (Thread sender : senders) {
+      long remaining = deadline - System.currentTimeMillis();
+      if (remaining <= 0) {
+        break;
+      }
+      try {
+        sender.join(remaining);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+  }
+
+  /** @return the number of records accepted onto the queue */
+  long getEnqueuedCount() {
+    return enqueued.sum();
+  }
+
+  /** @return the number of records discarded because no queue slot or overflow handler took them */
+  long getDroppedCount() {
+    return dropped.sum();
+  }
+
+  /** @return the number of records waiting to be sent */
+  int getQueueDepth() {
+    return queue.size();
+  }
+}
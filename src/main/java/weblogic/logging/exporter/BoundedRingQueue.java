@@ -0,0 +1,115 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded, lock-free, multi-producer multi-consumer ring buffer. Every slot carries a sequence
+ * number that tells producers and consumers whether it is free to write or ready to read, so
+ * neither side ever takes a lock (see D. Vyukov's bounded MPMC queue).
+ *
+ * @param <E> the type of the queued elements
+ */
+class BoundedRingQueue<E> {
+
+  private final int mask;
+  private final AtomicReferenceArray<E> elements;
+  private final AtomicLongArray sequences;
+  private final AtomicLong tail = new AtomicLong();
+  private final AtomicLong head = new AtomicLong();
+
+  /**
+   * Creates a queue.
+   *
+   * @param requestedCapacity the minimum capacity; it is rounded up to a power of two
+   */
+  BoundedRingQueue(int requestedCapacity) {
+    int capacity = roundUpToPowerOfTwo(requestedCapacity);
+    mask = capacity - 1;
+    elements = new AtomicReferenceArray<>(capacity);
+    sequences = new AtomicLongArray(capacity);
+    for (int i = 0; i < capacity; i++) {
+      sequences.set(i, i);
+    }
+  }
+
+  private static int roundUpToPowerOfTwo(int value) {
+    if (value <= 1) {
+      return 1;
+    }
+    if (value > (1 << 30)) {
+      return 1 << 30;
+    }
+    return Integer.highestOneBit(value - 1) << 1;
+  }
+
+  int capacity() {
+    return mask + 1;
+  }
+
+  /**
+   * Adds an element if there is room for it.
+   *
+   * @param element the element to add, never null
+   * @return true if the element was added, false if the queue is full
+   */
+  boolean offer(E element) {
+    long position = tail.get();
+    while (true) {
+      int index = (int) position & mask;
+      long difference = sequences.get(index) - position;
+      if (difference == 0) {
+        if (tail.compareAndSet(position, position + 1)) {
+          elements.lazySet(index, element);
+          sequences.lazySet(index, position + 1);
+          return true;
+        }
+        position = tail.get();
+      } else if (difference < 0) {
+        return false;
+      } else {
+        position = tail.get();
+      }
+    }
+  }
+
+  /**
+   * Removes the oldest element.
+   *
+   * @return the element, or null if the queue is empty
+   */
+  E poll() {
+    long position = head.get();
+    while (true) {
+      int index = (int) position & mask;
+      long difference = sequences.get(index) - (position + 1);
+      if (difference == 0) {
+        if (head.compareAndSet(position, position + 1)) {
+          E element = elements.get(index);
+          elements.lazySet(index, null);
+          sequences.lazySet(index, position + mask + 1);
+          return element;
+        }
+        position = head.get();
+      } else if (difference < 0) {
+        return null;
+      } else {
+        position = head.get();
+      }
+    }
+  }
+
+  /** @return an estimate of the number of queued elements */
+  int size() {
+    long size = tail.get() - head.get();
+    return (int) Math.max(0, Math.min(size, capacity()));
+  }
+
+  boolean isEmpty() {
+    return size() == 0;
+  }
+}
@@ -0,0 +1,193 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Collects payloads into bulk batches from many logging threads at once without a global lock.
+ * Threads are spread over a number of stripes, each holding the batch currently being filled. A
+ * thread reserves a slot in its stripe's batch with a single atomic increment; the thread that
+ * writes the last slot swaps a fresh batch into the stripe and gets the full one back to send.
+ *
+ * <p>A batch is also cut short when its payloads add up to the byte limit, or when {@link
+ * #drain(long)} finds it has been waiting longer than the linger time. Each batch can be claimed
+ * exactly once, so a payload is never lost or sent twice.
+ */
+class BulkAccumulator {
+
+  private static final int MAX_STRIPES = 64;
+  private static final int SEALED = Integer.MAX_VALUE / 2;
+
+  private final int batchSize;
+  private final long maxBatchBytes;
+  private final int stripeMask;
+  private final AtomicReferenceArray<Batch> stripes;
+
+  /**
+   * Creates an accumulator with one stripe per available processor.
+   *
+   * @param batchSize the number of payloads in a full batch
+   * @param maxBatchBytes the approximate payload size of a full batch, or 0 for no limit
+   */
+  BulkAccumulator(int batchSize, long maxBatchBytes) {
+    this(batchSize, maxBatchBytes, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Creates an accumulator.
+   *
+   * @param batchSize the number of payloads in a full batch
+   * @param maxBatchBytes the approximate payload size of a full batch, or 0 for no limit
+   * @param stripeCount the minimum number of stripes; it is rounded up to a power of two
+   */
+  BulkAccumulator(int batchSize, long maxBatchBytes, int stripeCount) {
+    this.batchSize = Math.max(1, batchSize);
+    this.maxBatchBytes = maxBatchBytes;
+    int stripesNeeded = Math.min(MAX_STRIPES, Math.max(1, stripeCount));
+    int stripeTotal = Integer.highestOneBit(stripesNeeded);
+    if (stripeTotal < stripesNeeded) {
+      stripeTotal <<= 1;
+    }
+    stripeMask = stripeTotal - 1;
+    stripes = new AtomicReferenceArray<>(stripeTotal);
+    for (int i = 0; i < stripeTotal; i++) {
+      stripes.set(i, new Batch(this.batchSize));
+    }
+  }
+
+  /**
+   * Adds a payload to the batch of the calling thread's stripe.
+   *
+   * @param payload the payload to add
+   * @return a full batch that the caller is now responsible for sending, or null
+   */
+  List<String> add(String payload) {
+    int stripe = stripeFor(Thread.currentThread());
+    while (true) {
+      Batch batch = stripes.get(stripe);
+      int slot = batch.reserved.getAndIncrement();
+      if (slot < batchSize) {
+        batch.payloads[slot] = payload;
+        if (slot == 0) {
+          batch.firstAddNanos = System.nanoTime();
+        }
+        long batchBytes = batch.bytes.addAndGet(payload.length());
+        if (batch.written.incrementAndGet() == batchSize) {
+          stripes.compareAndSet(stripe, batch, new Batch(batchSize));
+          return batch.claim(batchSize);
+        }
+        if (maxBatchBytes > 0 && batchBytes >= maxBatchBytes) {
+          return seal(stripe, batch);
+        }
+        return null;
+      }
+      // somebody else filled this batch; help replace it and try again
+      stripes.compareAndSet(stripe, batch, new Batch(batchSize));
+    }
+  }
+
+  /**
+   * Removes every partially filled batch.
+   *
+   * @return the batches that the caller is now responsible for sending
+   */
+  List<List<String>> drain() {
+    return drain(0);
+  }
+
+  /**
+   * Removes the partially filled batches whose first payload was added at least the given time
+   * ago.
+   *
+   * @param minAgeNanos the minimum age of a batch to remove, or 0 to remove all of them
+   * @return the batches that the caller is now responsible for sending
+   */
+  List<List<String>> drain(long minAgeNanos) {
+    List<List<String>> drained = new ArrayList<>();
+    long now = System.nanoTime();
+    for (int stripe = 0; stripe <= stripeMask; stripe++) {
+      Batch batch = stripes.get(stripe);
+      if (batch.reserved.get() == 0 || !isOldEnough(batch, now, minAgeNanos)) {
+        continue;
+      }
+      List<String> payloads = seal(stripe, batch);
+      if (payloads != null) {
+        drained.add(payloads);
+      }
+    }
+    return drained;
+  }
+
+  private boolean isOldEnough(Batch batch, long now, long minAgeNanos) {
+    if (minAgeNanos <= 0) {
+      return true;
+    }
+    long firstAddNanos = batch.firstAddNanos;
+    return firstAddNanos != 0 && now - firstAddNanos >= minAgeNanos;
+  }
+
+  private List<String> seal(int stripe, Batch batch) {
+    stripes.compareAndSet(stripe, batch, new Batch(batchSize));
+    int count = batch.closeReservations();
+    if (count <= 0) {
+      return null;
+    }
+    while (batch.written.get() < count) {
+      // a writer has reserved a slot but not yet filled it
+      Thread.yield();
+    }
+    return batch.claim(count);
+  }
+
+  private int stripeFor(Thread thread) {
+    long id = thread.getId();
+    int hash = (int) (id ^ (id >>> 32));
+    hash ^= (hash >>> 16);
+    return (hash * 0x9E3779B9) >>> 16 & stripeMask;
+  }
+
+  private class Batch {
+    private final String[] payloads;
+    private final AtomicInteger reserved = new AtomicInteger();
+    private final AtomicInteger written = new AtomicInteger();
+    private final AtomicLong bytes = new AtomicLong();
+    private final AtomicBoolean claimed = new AtomicBoolean();
+    private volatile long firstAddNanos;
+
+    Batch(int batchSize) {
+      payloads = new String[batchSize];
+    }
+
+    /**
+     * Stops any further slots from being reserved.
+     *
+     * @return the number of slots reserved before, or -1 if the batch was already closed
+     */
+    int closeReservations() {
+      while (true) {
+        int current = reserved.get();
+        if (current >= SEALED) {
+          return -1;
+        }
+        if (reserved.compareAndSet(current, SEALED)) {
+          return Math.min(current, batchSize);
+        }
+      }
+    }
+
+    List<String> claim(int count) {
+      if (!claimed.compareAndSet(false, true)) {
+        return null;
+      }
+      return Arrays.asList(payloads).subList(0, count);
+    }
+  }
+}
@@ -0,0 +1,315 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * The body of a {@code _bulk} request, encoded once as UTF-8 into a chain of buffers taken from a
+ * {@link ByteBufferPool}. Documents are appended with their {@code index} action lines already
+ * interleaved, and the finished body is written to the connection buffer by buffer. Call {@link
+ * #release()} when the request is complete to give the buffers back to the pool. The start of each
+ * document is remembered, so that single documents can be copied into another body to retry them.
+ */
+class BulkBody implements HttpContent {
+
+  private static final byte[] INDEX_ACTION =
+      "{\"index\":{}}\n".getBytes(StandardCharsets.US_ASCII);
+
+  private final ByteBufferPool pool;
+  private final List<ByteBuffer> buffers = new ArrayList<>();
+  private ByteBuffer current;
+  private long size;
+  private int documentCount;
+  private long[] documentOffsets = new long[16];
+  private int retryCount;
+
+  BulkBody(ByteBufferPool pool) {
+    this.pool = pool;
+  }
+
+  /**
+   * Appends one document, preceded by its action line and followed by a line break.
+   *
+   * @param document a single-line JSON document
+   */
+  void appendDocument(CharSequence document) {
+    startDocument();
+    appendBytes(INDEX_ACTION);
+    appendUtf8(document);
+    appendByte('\n');
+  }
+
+  /**
+   * Appends a copy of a document, with its action line, from another body.
+   *
+   * @param source the body to copy from
+   * @param index the position of the document in the source body
+   */
+  void appendDocumentFrom(BulkBody source, int index) {
+    source.checkIndex(index);
+    startDocument();
+    source.forEachPart(
+        source.documentOffsets[index], source.documentEnd(index), this::appendBuffer);
+  }
+
+  /**
+   * Copies one document, with its action line and line break, out of the body.
+   *
+   * @param index the position of the document
+   * @return the encoded entry
+   */
+  byte[] getEntryBytes(int index) {
+    checkIndex(index);
+    long start = documentOffsets[index];
+    byte[] bytes = new byte[(int) (documentEnd(index) - start)];
+    ByteBuffer target = ByteBuffer.wrap(bytes);
+    forEachPart(start, documentEnd(index), target::put);
+    return bytes;
+  }
+
+  /**
+   * Appends an entry produced by {@link #getEntryBytes(int)} or {@link #encodeEntry(CharSequence)}.
+   *
+   * @param entry the encoded entry
+   */
+  void appendEntry(byte[] entry) {
+    startDocument();
+    appendBuffer(ByteBuffer.wrap(entry));
+  }
+
+  /**
+   * Encodes one document as a bulk entry, outside of any body.
+   *
+   * @param document a single-line JSON document
+   * @return the action line, the document and a line break as UTF-8
+   */
+  static byte[] encodeEntry(CharSequence document) {
+    byte[] json = document.toString().getBytes(StandardCharsets.UTF_8);
+    byte[] entry = new byte[INDEX_ACTION.length + json.length + 1];
+    System.arraycopy(INDEX_ACTION, 0, entry, 0, INDEX_ACTION.length);
+    System.arraycopy(json, 0, entry, INDEX_ACTION.length, json.length);
+    entry[entry.length - 1] = '\n';
+    return entry;
+  }
+
+  private void checkIndex(int index) {
+    if (index < 0 || index >= documentCount) {
+      throw new IndexOutOfBoundsException("document " + index + " of " + documentCount);
+    }
+  }
+
+  private long documentEnd(int index) {
+    return index + 1 < documentCount ? documentOffsets[index + 1] : size;
+  }
+
+  private void forEachPart(long start, long end, Consumer<ByteBuffer> action) {
+    long bufferStart = 0;
+    for (ByteBuffer buffer : buffers) {
+      long bufferEnd = bufferStart + buffer.position();
+      if (bufferEnd > start && bufferStart < end) {
+        ByteBuffer part = buffer.duplicate();
+        part.limit((int) (Math.min(end, bufferEnd) - bufferStart));
+        part.position((int) (Math.max(start, bufferStart) - bufferStart));
+        action.accept(part);
+      }
+      bufferStart = bufferEnd;
+    }
+  }
+
+  private void startDocument() {
+    if (documentCount == documentOffsets.length) {
+      documentOffsets = Arrays.copyOf(documentOffsets, documentCount * 2);
+    }
+    documentOffsets[documentCount++] = size;
+  }
+
+  /** @return the number of bytes in the body */
+  long size() {
+    return size;
+  }
+
+  @Override
+  public long getContentLength() {
+    return size;
+  }
+
+  /** @return the number of documents in the body */
+  int getDocumentCount() {
+    return documentCount;
+  }
+
+  boolean isEmpty() {
+    return documentCount == 0;
+  }
+
+  /** @return how many times the documents in this body have already been sent and rejected */
+  int getRetryCount() {
+    return retryCount;
+  }
+
+  void setRetryCount(int retryCount) {
+    this.retryCount = retryCount;
+  }
+
+  /**
+   * Writes the whole body to a channel.
+   *
+   * @param channel the channel to write to
+   * @throws IOException if the channel fails
+   */
+  @Override
+  public void writeTo(WritableByteChannel channel) throws IOException {
+    for (ByteBuffer buffer : buffers) {
+      ByteBuffer content = (ByteBuffer) buffer.duplicate().flip();
+      while (content.hasRemaining()) {
+        channel.write(content);
+      }
+    }
+  }
+
+  /**
+   * Writes the whole body to a stream.
+   *
+   * @param out the stream to write to
+   * @throws IOException if the stream fails
+   */
+  @Override
+  public void writeTo(OutputStream out) throws IOException {
+    WritableByteChannel channel = null;
+    for (ByteBuffer buffer : buffers) {
+      ByteBuffer content = (ByteBuffer) buffer.duplicate().flip();
+      if (content.hasArray()) {
+        out.write(content.array(), content.arrayOffset(), content.remaining());
+      } else {
+        if (channel == null) {
+          channel = Channels.newChannel(out);
+        }
+        while (content.hasRemaining()) {
+          channel.write(content);
+        }
+      }
+    }
+    out.flush();
+  }
+
+  /** Gives the buffers back to the pool. The body is empty afterwards. */
+  void release() {
+    for (ByteBuffer buffer : buffers) {
+      pool.release(buffer);
+    }
+    buffers.clear();
+    current = null;
+    size = 0;
+    documentCount = 0;
+    retryCount = 0;
+  }
+
+  /** @return the body decoded back into a String, for diagnostics */
+  @Override
+  public String toString() {
+    byte[] bytes = new byte[(int) Math.min(size, Integer.MAX_VALUE)];
+    int offset = 0;
+    for (ByteBuffer buffer : buffers) {
+      ByteBuffer content = (ByteBuffer) buffer.duplicate().flip();
+      int length = Math.min(content.remaining(), bytes.length - offset);
+      content.get(bytes, offset, length);
+      offset += length;
+    }
+    return new String(bytes, 0, offset, StandardCharsets.UTF_8);
+  }
+
+  private void appendBytes(byte[] bytes) {
+    for (byte b : bytes) {
+      appendByte(b);
+    }
+  }
+
+  private void appendBuffer(ByteBuffer source) {
+    while (source.hasRemaining()) {
+      ensureRemaining(1);
+      int count = Math.min(current.remaining(), source.remaining());
+      ByteBuffer part = source.duplicate();
+      part.limit(part.position() + count);
+      current.put(part);
+      source.position(source.position() + count);
+      size += count;
+    }
+  }
+
+  private void appendByte(int b) {
+    ensureRemaining(1);
+    current.put((byte) b);
+    size++;
+  }
+
+  private void appendUtf8(CharSequence chars) {
+    int length = chars.length();
+    int i = 0;
+    while (i < length) {
+      ensureRemaining(4);
+      // fast path for the ASCII run that fits in the current buffer
+      int room = current.remaining();
+      int asciiEnd = Math.min(length, i + room);
+      while (i < asciiEnd) {
+        char c = chars.charAt(i);
+        if (c >= 0x80) {
+          break;
+        }
+        current.put((byte) c);
+        size++;
+        i++;
+      }
+      if (i < length && chars.charAt(i) >= 0x80) {
+        ensureRemaining(4);
+        i = appendNonAscii(chars, i, length);
+      }
+    }
+  }
+
+  private int appendNonAscii(CharSequence chars, int index, int length) {
+    char c = chars.charAt(index);
+    if (c < 0x800) {
+      current.put((byte) (0xC0 | (c >> 6)));
+      current.put((byte) (0x80 | (c & 0x3F)));
+      size += 2;
+    } else if (Character.isHighSurrogate(c)
+        && index + 1 < length
+        && Character.isLowSurrogate(chars.charAt(index + 1))) {
+      int codePoint = Character.toCodePoint(c, chars.charAt(index + 1));
+      current.put((byte) (0xF0 | (codePoint >> 18)));
+      current.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+      current.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+      current.put((byte) (0x80 | (codePoint & 0x3F)));
+      size += 4;
+      return index + 2;
+    } else if (Character.isSurrogate(c)) {
+      // an unpaired surrogate cannot be encoded; replace it as String.getBytes() does
+      current.put((byte) '?');
+      size++;
+    } else {
+      current.put((byte) (0xE0 | (c >> 12)));
+      current.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+      current.put((byte) (0x80 | (c & 0x3F)));
+      size += 3;
+    }
+    return index + 1;
+  }
+
+  private void ensureRemaining(int bytes) {
+    if (current == null || current.remaining() < bytes) {
+      current = pool.acquire();
+      buffers.add(current);
+    }
+  }
+}
@@ -0,0 +1,98 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import java.util.Arrays;
+
+/**
+ * The outcome of a {@code _bulk} request: whether the request as a whole failed and, if it did not,
+ * which of its items failed. Items are identified by their position in the request.
+ */
+class BulkResponse {
+
+  private final int status;
+  private final String failureMessage;
+  private int[] retryableItems = new int[0];
+  private int retryableCount;
+  private int permanentFailureCount;
+  private String firstItemError;
+
+  BulkResponse(int status, String failureMessage) {
+    this.status = status;
+    this.failureMessage = failureMessage;
+  }
+
+  /**
+   * Creates the outcome of a request that got no usable response.
+   *
+   * @param status the HTTP status, or 0 if there was no response at all
+   * @param failureMessage the response body or the exception
+   * @return the outcome
+   */
+  static BulkResponse requestFailed(int status, String failureMessage) {
+    return new BulkResponse(status, failureMessage);
+  }
+
+  void addRetryableItem(int index) {
+    if (retryableCount == retryableItems.length) {
+      retryableItems = Arrays.copyOf(retryableItems, Math.max(16, retryableCount * 2));
+    }
+    retryableItems[retryableCount++] = index;
+  }
+
+  void addPermanentFailure(String error) {
+    if (firstItemError == null) {
+      firstItemError = error;
+    }
+    permanentFailureCount++;
+  }
+
+  /** @return the HTTP status of the request, or 0 if there was no response */
+  int getStatus() {
+    return status;
+  }
+
+  /** @return true if the request as a whole did not succeed */
+  boolean isRequestFailed() {
+    return status / 100 != 2;
+  }
+
+  /** @return the response body or exception of a failed request */
+  String getFailureMessage() {
+    return failureMessage;
+  }
+
+  /** @return the positions of the items that may succeed if sent again, in ascending order */
+  int[] getRetryableItems() {
+    return Arrays.copyOf(retryableItems, retryableCount);
+  }
+
+  int getRetryableCount() {
+    return retryableCount;
+  }
+
+  /** @return the number of items that failed and will fail again if retried */
+  int getPermanentFailureCount() {
+    return permanentFailureCount;
+  }
+
+  /** @return the error of the first item that failed permanently, or null */
+  String getFirstItemError() {
+    return firstItemError;
+  }
+
+  @Override
+  public String toString() {
+    return "BulkResponse{"
+        + "status="
+        + status
+        + ", retryable="
+        + retryableCount
+        + ", failed="
+        + permanentFailureCount
+        + (firstItemError == null ? "" : ", firstError='" + firstItemError + '\'')
+        + (failureMessage == null ? "" : ", failure='" + failureMessage + '\'')
+        + '}';
+  }
+}
@@ -0,0 +1,341 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads the response to a {@code _bulk} request straight from the connection, without building a
+ * tree of the whole document. When the top level {@code errors} flag is false, which Elasticsearch
+ * writes before the items, parsing stops right there. Otherwise each item's {@code status} and
+ * {@code error} are picked out and everything else is skipped.
+ */
+class BulkResponseParser {
+
+  private final InputStream in;
+  private int peeked = -2;
+
+  private BulkResponseParser(InputStream in) {
+    this.in = in instanceof BufferedInputStream ? in : new BufferedInputStream(in, 8192);
+  }
+
+  /**
+   * Reads a {@code _bulk} response.
+   *
+   * @param status the HTTP status of the response
+   * @param body the response body
+   * @return the outcome of the request
+   * @throws IOException if the body cannot be read or is not valid JSON
+   */
+  static BulkResponse read(int status, InputStream body) throws IOException {
+    if (status / 100 != 2) {
+      return BulkResponse.requestFailed(status, HttpTransport.readString(body));
+    }
+    return new BulkResponseParser(body).parse(status);
+  }
+
+  /**
+   * Tells whether a failed item or request may succeed if sent again later.
+   *
+   * @param status the HTTP status of the item or request
+   * @return true for statuses that signal a temporary overload or outage
+   */
+  static boolean isRetryable(int status) {
+    return status == 0 || status == 429 || status == 502 || status == 503 || status == 504;
+  }
+
+  private BulkResponse parse(int status) throws IOException {
+    BulkResponse response = new BulkResponse(status, null);
+    expect('{');
+    if (peek() == '}') {
+      return response;
+    }
+    do {
+      String name = readString();
+      expect(':');
+      if (name.equals("errors")) {
+        if (!readBoolean()) {
+          // no item failed, so there is nothing in the items that we need
+          return response;
+        }
+      } else if (name.equals("items")) {
+        readItems(response);
+      } else {
+        skipValue();
+      }
+    } while (nextMember('}'));
+    return response;
+  }
+
+  private void readItems(BulkResponse response) throws IOException {
+    expect('[');
+    if (peek() == ']') {
+      next();
+      return;
+    }
+    int index = 0;
+    do {
+      // each item is an object with a single member named after the action, e.g. "index"
+      expect('{');
+      readString();
+      expect(':');
+      readItem(response, index++);
+      while (nextMember('}')) {
+        readString();
+        expect(':');
+        skipValue();
+      }
+    } while (nextMember(']'));
+  }
+
+  private void readItem(BulkResponse response, int index) throws IOException {
+    int itemStatus = 0;
+    String error = null;
+    expect('{');
+    if (peek() != '}') {
+      do {
+        String name = readString();
+        expect(':');
+        if (name.equals("status")) {
+          itemStatus = readInt();
+        } else if (name.equals("error")) {
+          error = readError();
+        } else {
+          skipValue();
+        }
+      } while (nextMember('}'));
+    } else {
+      next();
+    }
+    if (error == null && itemStatus / 100 == 2) {
+      return;
+    }
+    if (isRetryable(itemStatus)) {
+      response.addRetryableItem(index);
+    } else {
+      response.addPermanentFailure(itemStatus + " " + error);
+    }
+  }
+
+  private String readError() throws IOException {
+    int c = peek();
+    if (c == '"') {
+      return readString();
+    } else if (c != '{') {
+      skipValue();
+      return "unknown error";
+    }
+    String type = null;
+    String reason = null;
+    next();
+    if (peek() == '}') {
+      next();
+      return "unknown error";
+    }
+    do {
+      String name = readString();
+      expect(':');
+      if (name.equals("type") && peek() == '"') {
+        type = readString();
+      } else if (name.equals("reason") && peek() == '"') {
+        reason = readString();
+      } else {
+        skipValue();
+      }
+    } while (nextMember('}'));
+    return type + ": " + reason;
+  }
+
+  /** Consumes a comma and returns true, or consumes the closing character and returns false. */
+  private boolean nextMember(char close) throws IOException {
+    int c = next();
+    if (c == ',') {
+      return true;
+    } else if (c == close) {
+      return false;
+    }
+    throw syntaxError(c, "',' or '" + close + "'");
+  }
+
+  private void skipValue() throws IOException {
+    int c = peek();
+    switch (c) {
+      case '"':
+        skipString();
+        break;
+      case '{':
+      case '[':
+        skipContainer();
+        break;
+      default:
+        // numbers, true, false and null run until the next structural character
+        next();
+        while ((c = peekRaw()) >= 0 && ",]} \t\r\n".indexOf(c) < 0) {
+          nextRaw();
+        }
+        break;
+    }
+  }
+
+  private void skipContainer() throws IOException {
+    int depth = 0;
+    do {
+      int c = peek();
+      if (c == '"') {
+        skipString();
+        continue;
+      }
+      next();
+      if (c == '{' || c == '[') {
+        depth++;
+      } else if (c == '}' || c == ']') {
+        depth--;
+      }
+    } while (depth > 0);
+  }
+
+  private void skipString() throws IOException {
+    expect('"');
+    int c;
+    while ((c = nextRaw()) != '"') {
+      if (c == '\\') {
+        nextRaw();
+      } else if (c < 0) {
+        throw new EOFException("Unterminated string in bulk response");
+      }
+    }
+  }
+
+  private String readString() throws IOException {
+    expect('"');
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(32);
+    StringBuilder escaped = null;
+    int c;
+    while ((c = nextRaw()) != '"') {
+      if (c < 0) {
+        throw new EOFException("Unterminated string in bulk response");
+      }
+      if (c != '\\') {
+        bytes.write(c);
+        continue;
+      }
+      // escapes are rare in responses; switch to building the string as characters
+      if (escaped == null) {
+        escaped = new StringBuilder();
+      }
+      escaped.append(new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+      bytes.reset();
+      int e = nextRaw();
+      switch (e) {
+        case 'n':
+          escaped.append('\n');
+          break;
+        case 'r':
+          escaped.append('\r');
+          break;
+        case 't':
+          escaped.append('\t');
+          break;
+        case 'b':
+          escaped.append('\b');
+          break;
+        case 'f':
+          escaped.append('\f');
+          break;
+        case 'u':
+          escaped.append((char) readHex4());
+          break;
+        default:
+          escaped.append((char) e);
+          break;
+      }
+    }
+    String tail = new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+    return escaped == null ? tail : escaped.append(tail).toString();
+  }
+
+  private int readHex4() throws IOException {
+    int value = 0;
+    for (int i = 0; i < 4; i++) {
+      int digit = Character.digit(nextRaw(), 16);
+      if (digit < 0) {
+        throw new IOException("Malformed unicode escape in bulk response");
+      }
+      value = value * 16 + digit;
+    }
+    return value;
+  }
+
+  private boolean readBoolean() throws IOException {
+    int c = peek();
+    skipValue();
+    if (c == 't') {
+      return true;
+    } else if (c == 'f') {
+      return false;
+    }
+    throw syntaxError(c, "a boolean");
+  }
+
+  private int readInt() throws IOException {
+    int c = next();
+    if (c < '0' || c > '9') {
+      throw syntaxError(c, "a number");
+    }
+    int value = c - '0';
+    while ((c = peekRaw()) >= '0' && c <= '9') {
+      nextRaw();
+      value = value * 10 + (c - '0');
+    }
+    return value;
+  }
+
+  private void expect(char expected) throws IOException {
+    int c = next();
+    if (c != expected) {
+      throw syntaxError(c, "'" + expected + "'");
+    }
+  }
+
+  private IOException syntaxError(int found, String expected) {
+    return new IOException(
+        "Malformed bulk response: expected "
+            + expected
+            + " but found "
+            + (found < 0 ? "end of input" : "'" + (char) found + "'"));
+  }
+
+  /** @return the next character that is not whitespace, without consuming it */
+  private int peek() throws IOException {
+    int c;
+    while ((c = peekRaw()) == ' ' || c == '\n' || c == '\r' || c == '\t') {
+      nextRaw();
+    }
+    return c;
+  }
+
+  /** @return the next character that is not whitespace */
+  private int next() throws IOException {
+    peek();
+    return nextRaw();
+  }
+
+  private int peekRaw() throws IOException {
+    if (peeked == -2) {
+      peeked = in.read();
+    }
+    return peeked;
+  }
+
+  private int nextRaw() throws IOException {
+    int c = peekRaw();
+    peeked = -2;
+    return c;
+  }
+}
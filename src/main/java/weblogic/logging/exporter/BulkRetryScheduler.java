@@ -0,0 +1,129 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs retries of rejected bulk items after an exponential backoff with jitter. The n-th retry
+ * waits between half and all of {@code initialBackoff * 2^(n-1)}, capped at {@link
+ * #MAX_BACKOFF_MILLIS}, so that the senders of many servers do not retry in lockstep.
+ *
+ * <p>The bodies waiting for their retry hold pooled buffers for up to the longest backoff, so
+ * their total size is capped: a retry only runs once {@link #tryReserve(long)} has found room for
+ * it.
+ */
+class BulkRetryScheduler {
+
+  static final long MAX_BACKOFF_MILLIS = 30000;
+  private static final long SHUTDOWN_WAIT_MILLIS = 5000;
+
+  private final int maxRetries;
+  private final long initialBackoffMillis;
+  private final long maxPendingBytes;
+  private final AtomicLong pendingBytes = new AtomicLong();
+  private final ScheduledExecutorService scheduler;
+
+  /**
+   * Creates the scheduler and its thread.
+   *
+   * @param maxRetries how many times a document is sent again before it is given up
+   * @param initialBackoffMillis the base delay before the first retry
+   * @param maxPendingBytes the most bytes of bodies that may wait for a retry at once
+   */
+  BulkRetryScheduler(int maxRetries, long initialBackoffMillis, long maxPendingBytes) {
+    this.maxRetries = maxRetries;
+    this.initialBackoffMillis = Math.max(1, initialBackoffMillis);
+    this.maxPendingBytes = Math.max(1, maxPendingBytes);
+    this.scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "weblogic-logging-exporter-retry");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  /**
+   * Tells whether documents that have been retried a number of times may be retried again.
+   *
+   * @param retryCount how many times the documents have been retried
+   * @return true if another retry is allowed
+   */
+  boolean canRetry(int retryCount) {
+    return retryCount < maxRetries;
+  }
+
+  /**
+   * Computes the delay before a retry.
+   *
+   * @param retryNumber the number of the retry, starting at 1
+   * @return the delay in milliseconds
+   */
+  long backoffMillis(int retryNumber) {
+    int shift = Math.min(Math.max(0, retryNumber - 1), 30);
+    long ceiling = Math.min(MAX_BACKOFF_MILLIS, initialBackoffMillis << shift);
+    long half = ceiling / 2;
+    return half + ThreadLocalRandom.current().nextLong(ceiling - half + 1);
+  }
+
+  /**
+   * Reserves room for a body that is to wait for its retry.
+   *
+   * @param bytes the size of the body
+   * @return false if the bodies already waiting leave no room for it
+   */
+  boolean tryReserve(long bytes) {
+    if (pendingBytes.addAndGet(bytes) > maxPendingBytes) {
+      pendingBytes.addAndGet(-bytes);
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Runs a retry after its backoff. The room reserved for the body is given back when the retry
+   * starts, or at once if it will not run.
+   *
+   * @param retryNumber the number of the retry, starting at 1
+   * @param bytes the size of the body, as reserved with {@link #tryReserve(long)}
+   * @param retry sends the documents again
+   * @return false if the scheduler has been shut down and the retry will not run
+   */
+  boolean schedule(int retryNumber, long bytes, Runnable retry) {
+    try {
+      scheduler.schedule(
+          () -> {
+            pendingBytes.addAndGet(-bytes);
+            retry.run();
+          },
+          backoffMillis(retryNumber),
+          TimeUnit.MILLISECONDS);
+      return true;
+    } catch (RejectedExecutionException e) {
+      pendingBytes.addAndGet(-bytes);
+      return false;
+    }
+  }
+
+  /** @return the bytes of the bodies waiting for their retry */
+  long getPendingBytes() {
+    return pendingBytes.get();
+  }
+
+  /** Runs the retries that are already scheduled, waiting a bounded time for them. */
+  void shutdown() {
+    scheduler.shutdown();
+    try {
+      scheduler.awaitTermination(SHUTDOWN_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,132 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+
+/**
+ * Sends bulk requests on a pool of threads so that several can be in flight at once. How many is
+ * decided by an {@link AdaptiveConcurrencyLimit}, which backs off when Elasticsearch answers with
+ * 429 or 503, or fails to answer. {@link #submit(BulkBody)} blocks while the limit is
+ * reached, which pushes back on whoever produces the batches.
+ *
+ * <p>The requests run on the executor made by {@link SenderExecutors}: pooled platform threads, or
+ * one virtual thread per request on Java 21 and later.
+ */
+class BulkSenderPool {
+
+  private static final long SHUTDOWN_WAIT_MILLIS = 5000;
+  private static final int TOO_MANY_REQUESTS = 429;
+  private static final int SERVICE_UNAVAILABLE = 503;
+
+  private final AdaptiveConcurrencyLimit concurrencyLimit;
+  private final Function<BulkBody, Result> sender;
+  private final ExecutorService executor;
+  private final FailureReporter failures;
+
+  /**
+   * Creates the pool. Threads are started on demand.
+   *
+   * @param minConcurrency the lowest number of requests kept in flight when there is work
+   * @param maxConcurrency the highest number of requests kept in flight
+   * @param sender sends one bulk body and returns the result
+   * @param failures reports the bodies that the sender fails to send
+   */
+  BulkSenderPool(
+      int minConcurrency,
+      int maxConcurrency,
+      Function<BulkBody, Result> sender,
+      FailureReporter failures) {
+    this.concurrencyLimit = new AdaptiveConcurrencyLimit(minConcurrency, maxConcurrency);
+    this.sender = sender;
+    this.executor =
+        SenderExecutors.newBulkExecutor(Math.max(1, Math.max(minConcurrency, maxConcurrency)));
+    this.failures = failures;
+  }
+
+  /**
+   * Sends a bulk body in the background, waiting first if the concurrency limit is reached. The
+   * pool takes ownership of the body and releases it once it has been sent.
+   *
+   * @param body the body to send
+   */
+  void submit(BulkBody body) {
+    try {
+      concurrencyLimit.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      sendAndRelease(body);
+      return;
+    }
+    try {
+      executor.execute(() -> sendAndRecord(body));
+    } catch (RejectedExecutionException e) {
+      // shut down: send on the calling thread rather than lose the records
+      sendAndRecord(body);
+    }
+  }
+
+  private void sendAndRecord(BulkBody body) {
+    long start = System.nanoTime();
+    Result result = null;
+    try {
+      result = sendAndRelease(body);
+    } finally {
+      concurrencyLimit.release(System.nanoTime() - start, isOverloaded(result));
+    }
+  }
+
+  private Result sendAndRelease(BulkBody body) {
+    try {
+      return sender.apply(body);
+    } catch (RuntimeException e) {
+      failures.report("BulkSenderPool", e.getClass().getName(), body.getDocumentCount(), e);
+      return null;
+    } finally {
+      body.release();
+    }
+  }
+
+  private static boolean isOverloaded(Result result) {
+    if (result == null) {
+      return true;
+    }
+    int status = result.getStatus();
+    // status 0 means that the request did not get a response at all
+    return status == TOO_MANY_REQUESTS || status == SERVICE_UNAVAILABLE || status == 0;
+  }
+
+  /**
+   * Waits until all submitted bodies have been sent.
+   *
+   * @param timeoutMillis the maximum time to wait
+   * @return true if nothing is in flight any more
+   */
+  boolean awaitIdle(long timeoutMillis) {
+    try {
+      return concurrencyLimit.awaitIdle(timeoutMillis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  /** Waits a bounded time for the requests in flight and stops the threads. */
+  void shutdown() {
+    awaitIdle(SHUTDOWN_WAIT_MILLIS);
+    executor.shutdown();
+  }
+
+  /** @return the current number of requests allowed in flight */
+  int getConcurrencyLimit() {
+    return concurrencyLimit.getLimit();
+  }
+
+  /** @return the number of requests in flight */
+  int getInFlight() {
+    return concurrencyLimit.getInFlight();
+  }
+}
@@ -0,0 +1,59 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A bounded pool of equally sized byte buffers, so that bulk request bodies reuse the same memory
+ * under sustained load instead of allocating new arrays for every batch. When the pool is empty a
+ * new buffer is allocated; buffers released into a full pool are left to the garbage collector.
+ */
+class ByteBufferPool {
+
+  private final int bufferSize;
+  private final boolean direct;
+  private final BoundedRingQueue<ByteBuffer> freeBuffers;
+
+  /**
+   * Creates a pool.
+   *
+   * @param bufferSize the capacity of each buffer in bytes
+   * @param maxPooledBuffers the maximum number of free buffers kept for reuse
+   * @param direct true to allocate direct buffers outside the Java heap
+   */
+  ByteBufferPool(int bufferSize, int maxPooledBuffers, boolean direct) {
+    this.bufferSize = Math.max(64, bufferSize);
+    this.direct = direct;
+    this.freeBuffers = new BoundedRingQueue<>(Math.max(1, maxPooledBuffers));
+  }
+
+  /** @return an empty buffer, ready to be written */
+  ByteBuffer acquire() {
+    ByteBuffer buffer = freeBuffers.poll();
+    if (buffer != null) {
+      return buffer;
+    }
+    return direct ? ByteBuffer.allocateDirect(bufferSize) : ByteBuffer.allocate(bufferSize);
+  }
+
+  /**
+   * Returns a buffer to the pool. The caller must not use it afterwards.
+   *
+   * @param buffer a buffer obtained from {@link #acquire()}
+   */
+  void release(ByteBuffer buffer) {
+    buffer.clear();
+    freeBuffers.offer(buffer);
+  }
+
+  int getBufferSize() {
+    return bufferSize;
+  }
+
+  /** @return the number of free buffers currently held for reuse */
+  int getPooledCount() {
+    return freeBuffers.size();
+  }
+}
@@ -0,0 +1,48 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import weblogic.logging.WLLogRecord;
+
+/**
+ * Stands for the repeats of a record that {@link RecordCoalescer} held back. It carries the fields
+ * of the first record, with the time of the first repeat, and is written with the number of repeats
+ * and the times of the first and last one.
+ */
+class CoalescedRecord extends WLLogRecord {
+
+  private final long repeatCount;
+  private final long firstMillis;
+  private final long lastMillis;
+
+  CoalescedRecord(WLLogRecord sample, long repeatCount, long firstMillis, long lastMillis) {
+    super(sample.getLevel(), sample.getMessage());
+    setId(sample.getId());
+    setLoggerName(sample.getLoggerName());
+    setServerName(sample.getServerName());
+    setMachineName(sample.getMachineName());
+    setThreadName(sample.getThreadName());
+    setUserId(sample.getUserId());
+    setTransactionId(sample.getTransactionId());
+    setMillis(firstMillis);
+    this.repeatCount = repeatCount;
+    this.firstMillis = firstMillis;
+    this.lastMillis = lastMillis;
+  }
+
+  /** @return the number of records this one stands for */
+  long getRepeatCount() {
+    return repeatCount;
+  }
+
+  /** @return the time of the first repeat, in milliseconds since the epoch */
+  long getFirstMillis() {
+    return firstMillis;
+  }
+
+  /** @return the time of the last repeat, in milliseconds since the epoch */
+  long getLastMillis() {
+    return lastMillis;
+  }
+}
@@ -0,0 +1,131 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import weblogic.diagnostics.query.Query;
+import weblogic.diagnostics.query.QueryException;
+import weblogic.diagnostics.query.VariableResolver;
+import weblogic.logging.exporter.config.FilterConfig;
+
+/**
+ * A filter expression as a WLDF query and, if its shape allows, as a Java predicate, with the
+ * counters of its evaluations. The counters are striped, so that the threads that log do not
+ * contend on them.
+ */
+class CompiledFilter implements FilterStatsMXBean {
+
+  private static final String SOURCE = "CompiledFilter";
+
+  private final FilterConfig filterConfig;
+  private final Query query;
+  private final RecordPredicate predicate;
+  private final LongAdder evaluations = new LongAdder();
+  private final LongAdder drops = new LongAdder();
+  private final LongAdder errors = new LongAdder();
+  private final LongAdder timedEvaluations = new LongAdder();
+  private final LongAdder timedNanos = new LongAdder();
+  private final FailureReporter failures;
+
+  CompiledFilter(FilterConfig filterConfig, RecordPredicate predicate, FailureReporter failures) {
+    this.filterConfig = filterConfig;
+    this.query = filterConfig.getQuery();
+    this.predicate = predicate;
+    this.failures = failures;
+  }
+
+  Query getQuery() {
+    return query;
+  }
+
+  /** @return the predicate, or null if the expression can only be run by WLDF */
+  RecordPredicate getPredicate() {
+    return predicate;
+  }
+
+  /**
+   * Runs the WLDF query. A query that fails lets the record through; the failure is counted and
+   * reported through the {@link FailureReporter}, which prints the first of each kind.
+   *
+   * @param resolver the variables of the record
+   * @return {@link RecordPredicate#MATCH} or {@link RecordPredicate#NO_MATCH}
+   */
+  int runQuery(VariableResolver resolver) {
+    try {
+      return query.executeQuery(resolver) ? RecordPredicate.MATCH : RecordPredicate.NO_MATCH;
+    } catch (QueryException ex) {
+      errors.increment();
+      failures.report(
+          SOURCE, "filter " + filterConfig.getExpression() + " failed, record exported", 1, ex);
+      return RecordPredicate.MATCH;
+    }
+  }
+
+  /**
+   * Counts an evaluation.
+   *
+   * @param matched true if the record passed
+   * @param nanos how long the evaluation took, or a negative number if it was not timed
+   */
+  void countEvaluation(boolean matched, long nanos) {
+    evaluations.increment();
+    if (!matched) {
+      drops.increment();
+    }
+    if (nanos >= 0) {
+      timedEvaluations.increment();
+      timedNanos.add(nanos);
+    }
+  }
+
+  long getTimedEvaluations() {
+    return timedEvaluations.sum();
+  }
+
+  long getTimedNanos() {
+    return timedNanos.sum();
+  }
+
+  @Override
+  public String getExpression() {
+    return filterConfig.getExpression();
+  }
+
+  @Override
+  public List<String> getServers() {
+    return filterConfig.getServers();
+  }
+
+  @Override
+  public boolean isNative() {
+    return predicate != null;
+  }
+
+  @Override
+  public long getEvaluationCount() {
+    return evaluations.sum();
+  }
+
+  @Override
+  public long getMatchCount() {
+    return Math.max(0, evaluations.sum() - drops.sum());
+  }
+
+  @Override
+  public long getDropCount() {
+    return drops.sum();
+  }
+
+  @Override
+  public long getErrorCount() {
+    return errors.sum();
+  }
+
+  @Override
+  public long getAverageNanos() {
+    long count = timedEvaluations.sum();
+    return count == 0 ? 0 : timedNanos.sum() / count;
+  }
+}
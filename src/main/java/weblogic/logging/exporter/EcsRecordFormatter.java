@@ -0,0 +1,135 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import co.elastic.logging.AdditionalField;
+import co.elastic.logging.EcsJsonSerializer;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Formatter;
+import java.util.logging.LogManager;
+import java.util.logging.LogRecord;
+
+/**
+ * Writes a record as the ECS JSON line of {@link co.elastic.logging.jul.EcsFormatter}, byte for
+ * byte, for the log file written by {@link Startup}. Unlike {@link WebLogicLogFormatter}, it does
+ * not put the WebLogic fields into the SLF4J MDC and take them out again for every record, which
+ * the ECS formatter never reads anyway, and it appends into a per-thread reusable buffer instead
+ * of a new one per record. The {@code co.elastic.logging.jul.EcsFormatter.*} logging properties
+ * are honored as the ECS formatter does.
+ */
+class EcsRecordFormatter extends Formatter {
+
+  private static final String PROPERTY_PREFIX = "co.elastic.logging.jul.EcsFormatter.";
+  private static final String UNKNOWN_FILE = "<Unknown>";
+  private static final int INITIAL_BUFFER_CAPACITY = 1024;
+  private static final int MAX_RETAINED_BUFFER_CAPACITY = 64 * 1024;
+  private static final ThreadLocal<StringBuilder> BUFFER =
+      ThreadLocal.withInitial(() -> new StringBuilder(INITIAL_BUFFER_CAPACITY));
+
+  private final String serviceName;
+  private final String serviceVersion;
+  private final String serviceEnvironment;
+  private final String serviceNodeName;
+  private final String eventDataset;
+  private final boolean includeOrigin;
+  private final boolean stackTraceAsArray;
+  private final List<AdditionalField> additionalFields;
+
+  EcsRecordFormatter() {
+    serviceName = getProperty("serviceName", null);
+    serviceVersion = getProperty("serviceVersion", null);
+    serviceEnvironment = getProperty("serviceEnvironment", null);
+    serviceNodeName = getProperty("serviceNodeName", null);
+    eventDataset =
+        EcsJsonSerializer.computeEventDataset(getProperty("eventDataset", null), serviceName);
+    includeOrigin = Boolean.parseBoolean(getProperty("includeOrigin", "false"));
+    stackTraceAsArray = Boolean.parseBoolean(getProperty("stackTraceAsArray", "false"));
+    String fields = getProperty("additionalFields", null);
+    additionalFields =
+        fields == null ? Collections.emptyList() : AdditionalField.parse(fields);
+  }
+
+  private static String getProperty(String name, String defaultValue) {
+    String value = LogManager.getLogManager().getProperty(PROPERTY_PREFIX + name);
+    return value == null ? defaultValue : value.trim();
+  }
+
+  @Override
+  public String format(LogRecord record) {
+    return formatInThreadBuffer(record).toString();
+  }
+
+  /**
+   * Formats a record into the calling thread's buffer without creating a String.
+   *
+   * @param record the record to format
+   * @return the JSON line, ending with a line feed, valid until this thread formats the next record
+   */
+  CharSequence formatInThreadBuffer(LogRecord record) {
+    StringBuilder buffer = BUFFER.get();
+    if (buffer.capacity() > MAX_RETAINED_BUFFER_CAPACITY) {
+      // do not keep a huge buffer around for every thread that once logged a large stack trace
+      buffer = new StringBuilder(INITIAL_BUFFER_CAPACITY);
+      BUFFER.set(buffer);
+    }
+    buffer.setLength(0);
+    formatTo(record, buffer);
+    return buffer;
+  }
+
+  /**
+   * Appends the JSON line for a record, in the order of the fields written by the ECS formatter.
+   *
+   * @param record the record to format
+   * @param out the buffer to append to
+   */
+  void formatTo(LogRecord record, StringBuilder out) {
+    EcsJsonSerializer.serializeObjectStart(out, record.getMillis());
+    EcsJsonSerializer.serializeLogLevel(out, record.getLevel().getName());
+    EcsJsonSerializer.serializeFormattedMessage(out, messageOf(record));
+    EcsJsonSerializer.serializeEcsVersion(out);
+    EcsJsonSerializer.serializeAdditionalFields(out, additionalFields);
+    EcsJsonSerializer.serializeServiceName(out, serviceName);
+    EcsJsonSerializer.serializeServiceVersion(out, serviceVersion);
+    EcsJsonSerializer.serializeServiceEnvironment(out, serviceEnvironment);
+    EcsJsonSerializer.serializeServiceNodeName(out, serviceNodeName);
+    EcsJsonSerializer.serializeEventDataset(out, eventDataset);
+    Thread current = Thread.currentThread();
+    if (current.getId() == record.getThreadID()) {
+      EcsJsonSerializer.serializeThreadName(out, current.getName());
+    } else {
+      EcsJsonSerializer.serializeThreadId(out, record.getThreadID());
+    }
+    EcsJsonSerializer.serializeLoggerName(out, record.getLoggerName());
+    if (includeOrigin
+        && record.getSourceClassName() != null
+        && record.getSourceMethodName() != null) {
+      EcsJsonSerializer.serializeOrigin(
+          out, fileNameOf(record.getSourceClassName()), record.getSourceMethodName(), -1);
+    }
+    if (record.getThrown() != null) {
+      EcsJsonSerializer.serializeException(out, record.getThrown(), stackTraceAsArray);
+    }
+    EcsJsonSerializer.serializeObjectEnd(out);
+  }
+
+  // Formatter.formatMessage is synchronized; only take its lock when there is something to format
+  private String messageOf(LogRecord record) {
+    Object[] parameters = record.getParameters();
+    if (record.getResourceBundle() == null && (parameters == null || parameters.length == 0)) {
+      return record.getMessage();
+    }
+    return formatMessage(record);
+  }
+
+  private static String fileNameOf(String className) {
+    int end = className.indexOf('$');
+    if (end < 0) {
+      end = className.length();
+    }
+    int start = className.lastIndexOf('.');
+    return start < end ? className.substring(start + 1, end) + ".java" : UNKNOWN_FILE;
+  }
+}
@@ -0,0 +1,342 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * The counters of a {@link LogExportHandler}, read through JMX as an {@link ExporterMetricsMXBean}
+ * and rendered in the Prometheus text format by {@link #writePrometheus(StringBuilder)}.
+ */
+class ExporterMetrics implements ExporterMetricsMXBean {
+
+  static final String OBJECT_NAME = "weblogic.logging.exporter:type=Exporter";
+
+  private static final String PREFIX = "weblogic_logging_exporter_";
+  private static final double[] LATENCY_BUCKET_SECONDS = {
+    0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30
+  };
+  private static final double[] BULK_SIZE_BUCKETS = {1, 10, 50, 100, 250, 500, 1000, 5000};
+
+  private final String domainLabel;
+  private final LongAdder published = new LongAdder();
+  private final LongAdder filtered = new LongAdder();
+  private final LongAdder coalesced = new LongAdder();
+  private final LongAdder sent = new LongAdder();
+  private final LongAdder failed = new LongAdder();
+  private final LongAdder dropped = new LongAdder();
+  private final LongAdder retried = new LongAdder();
+  private final LongAdder retryOverflow = new LongAdder();
+  private final LongAdder spilled = new LongAdder();
+  private final LongAdder rawBytes = new LongAdder();
+  private final LongAdder bytesSent = new LongAdder();
+  private final Histogram requestMicros = new Histogram();
+  private final Histogram bulkSizes = new Histogram();
+  private volatile AsyncLogSender asyncSender;
+  private volatile SpillReplayer spillReplayer;
+  private ObjectName registeredName;
+
+  /**
+   * Creates the metrics.
+   *
+   * @param domainUID the domain, added as a label to the Prometheus metrics
+   */
+  ExporterMetrics(String domainUID) {
+    this.domainLabel = "domain=\"" + escapeLabel(domainUID) + "\"";
+  }
+
+  /**
+   * Reads the queue counters from the async sender.
+   *
+   * @param asyncSender the sender of the handler
+   */
+  void watchQueue(AsyncLogSender asyncSender) {
+    this.asyncSender = asyncSender;
+  }
+
+  /**
+   * Counts the records replayed from the spill log as sent.
+   *
+   * @param spillReplayer the replayer of the handler
+   */
+  void watchReplayer(SpillReplayer spillReplayer) {
+    this.spillReplayer = spillReplayer;
+  }
+
+  void countPublished() {
+    published.increment();
+  }
+
+  void countFiltered() {
+    filtered.increment();
+  }
+
+  void countCoalesced() {
+    coalesced.increment();
+  }
+
+  void countSent(long records) {
+    sent.add(records);
+  }
+
+  void countFailed(long records) {
+    failed.add(records);
+  }
+
+  void countDropped() {
+    dropped.increment();
+  }
+
+  void countRetried(long records) {
+    retried.add(records);
+  }
+
+  void countRetryOverflow(long records) {
+    retryOverflow.add(records);
+  }
+
+  void countSpilled() {
+    spilled.increment();
+  }
+
+  /**
+   * Counts a request sent to Elasticsearch.
+   *
+   * @param rawBytes the size of the body before compression
+   * @param sentBytes the size of the body as sent
+   * @param nanos the time until the response was read
+   */
+  void countRequest(long rawBytes, long sentBytes, long nanos) {
+    this.rawBytes.add(rawBytes);
+    bytesSent.add(sentBytes);
+    requestMicros.record(TimeUnit.NANOSECONDS.toMicros(nanos));
+  }
+
+  /**
+   * Counts the records of a bulk request.
+   *
+   * @param records the number of records in the request
+   */
+  void countBulk(int records) {
+    bulkSizes.record(records);
+  }
+
+  /** Registers the metrics with the platform MBean server. */
+  void registerMBean() {
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    try {
+      ObjectName name = new ObjectName(OBJECT_NAME);
+      try {
+        server.registerMBean(this, name);
+      } catch (InstanceAlreadyExistsException e) {
+        // left behind by a handler that was replaced without being closed
+        server.unregisterMBean(name);
+        server.registerMBean(this, name);
+      }
+      registeredName = name;
+    } catch (JMException e) {
+      System.out.println(
+          "<weblogic.logging.exporter.ExporterMetrics> cannot register exporter MBean: " + e);
+    }
+  }
+
+  /** Unregisters the metrics. */
+  void unregisterMBean() {
+    if (registeredName == null) {
+      return;
+    }
+    try {
+      ManagementFactory.getPlatformMBeanServer().unregisterMBean(registeredName);
+    } catch (JMException e) {
+      // already gone
+    }
+    registeredName = null;
+  }
+
+  @Override
+  public long getPublishedCount() {
+    return published.sum();
+  }
+
+  @Override
+  public long getFilteredCount() {
+    return filtered.sum();
+  }
+
+  @Override
+  public long getCoalescedCount() {
+    return coalesced.sum();
+  }
+
+  @Override
+  public long getQueuedCount() {
+    AsyncLogSender sender = asyncSender;
+    return sender == null ? 0 : sender.getEnqueuedCount();
+  }
+
+  @Override
+  public long getSentCount() {
+    SpillReplayer replayer = spillReplayer;
+    return sent.sum() + (replayer == null ? 0 : replayer.getReplayedCount());
+  }
+
+  @Override
+  public long getFailedCount() {
+    return failed.sum();
+  }
+
+  @Override
+  public long getDroppedCount() {
+    AsyncLogSender sender = asyncSender;
+    return dropped.sum() + (sender == null ? 0 : sender.getDroppedCount());
+  }
+
+  @Override
+  public long getRetriedCount() {
+    return retried.sum();
+  }
+
+  @Override
+  public long getRetryOverflowCount() {
+    return retryOverflow.sum();
+  }
+
+  @Override
+  public long getSpilledCount() {
+    return spilled.sum();
+  }
+
+  @Override
+  public int getQueueDepth() {
+    AsyncLogSender sender = asyncSender;
+    return sender == null ? 0 : sender.getQueueDepth();
+  }
+
+  @Override
+  public long getRawBytes() {
+    return rawBytes.sum();
+  }
+
+  @Override
+  public long getBytesSent() {
+    return bytesSent.sum();
+  }
+
+  @Override
+  public long getRequestCount() {
+    return requestMicros.getCount();
+  }
+
+  @Override
+  public long getRequestMicrosP50() {
+    return requestMicros.getValueAtPercentile(50);
+  }
+
+  @Override
+  public long getRequestMicrosP99() {
+    return requestMicros.getValueAtPercentile(99);
+  }
+
+  @Override
+  public long getRequestMicrosMax() {
+    return requestMicros.getMax();
+  }
+
+  @Override
+  public long getBulkCount() {
+    return bulkSizes.getCount();
+  }
+
+  @Override
+  public double getAverageBulkSize() {
+    long count = bulkSizes.getCount();
+    return count == 0 ? 0 : (double) bulkSizes.getSum() / count;
+  }
+
+  /**
+   * Writes the metrics in the Prometheus text exposition format, version 0.0.4.
+   *
+   * @param out the buffer to append to
+   */
+  void writePrometheus(StringBuilder out) {
+    writeCounter(out, "records_published", "Records passed to the exporter.", getPublishedCount());
+    writeCounter(out, "records_filtered", "Records rejected by the filters.", getFilteredCount());
+    writeCounter(out, "records_coalesced", "Repeats folded into one record.", getCoalescedCount());
+    writeCounter(out, "records_queued", "Records put on the async queue.", getQueuedCount());
+    writeCounter(out, "records_sent", "Records accepted by Elasticsearch.", getSentCount());
+    writeCounter(out, "records_failed", "Records that could not be sent.", getFailedCount());
+    writeCounter(out, "records_dropped", "Records suppressed or dropped.", getDroppedCount());
+    writeCounter(out, "records_retried", "Records sent again.", getRetriedCount());
+    writeCounter(
+        out,
+        "records_retry_overflow",
+        "Records not retried as too much was waiting for a retry.",
+        getRetryOverflowCount());
+    writeCounter(out, "records_spilled", "Records written to the spill log.", getSpilledCount());
+    writeCounter(out, "raw_bytes", "Request bytes before compression.", getRawBytes());
+    writeCounter(out, "sent_bytes", "Request bytes sent.", getBytesSent());
+    writeHeader(out, "queue_depth", "Records waiting on the async queue.", "gauge");
+    writeSample(out, "queue_depth", domainLabel, getQueueDepth());
+
+    writeHistogram(
+        out,
+        "request_duration_seconds",
+        "Time of requests to Elasticsearch.",
+        requestMicros,
+        LATENCY_BUCKET_SECONDS,
+        1e6);
+    writeHistogram(
+        out, "bulk_size_records", "Records per bulk request.", bulkSizes, BULK_SIZE_BUCKETS, 1);
+  }
+
+  private void writeCounter(StringBuilder out, String name, String help, long value) {
+    writeHeader(out, name + "_total", help, "counter");
+    writeSample(out, name + "_total", domainLabel, value);
+  }
+
+  // the histograms count whole units, e.g. microseconds, and the bounds are in scaled units
+  private void writeHistogram(
+      StringBuilder out,
+      String name,
+      String help,
+      Histogram histogram,
+      double[] bounds,
+      double unitsPerBound) {
+    writeHeader(out, name, help, "histogram");
+    for (double bound : bounds) {
+      long count = histogram.getCountAtOrBelow((long) (bound * unitsPerBound));
+      writeSample(out, name + "_bucket", domainLabel + ",le=\"" + format(bound) + "\"", count);
+    }
+    writeSample(out, name + "_bucket", domainLabel + ",le=\"+Inf\"", histogram.getCount());
+    writeSample(out, name + "_sum", domainLabel, format(histogram.getSum() / unitsPerBound));
+    writeSample(out, name + "_count", domainLabel, histogram.getCount());
+  }
+
+  private static String format(double value) {
+    return value == Math.rint(value) ? Long.toString((long) value) : Double.toString(value);
+  }
+
+  private static void writeHeader(StringBuilder out, String name, String help, String type) {
+    out.append("# HELP ").append(PREFIX).append(name).append(' ').append(help).append('\n');
+    out.append("# TYPE ").append(PREFIX).append(name).append(' ').append(type).append('\n');
+  }
+
+  private static void writeSample(StringBuilder out, String name, String labels, Object value) {
+    out.append(PREFIX).append(name).append('{').append(labels).append("} ").append(value);
+    out.append('\n');
+  }
+
+  private static String escapeLabel(String value) {
+    return String.valueOf(value)
+        .replace("\\", "\\\\")
+        .replace("\"", "\\\"")
+        .replace("\n", "\\n");
+  }
+}
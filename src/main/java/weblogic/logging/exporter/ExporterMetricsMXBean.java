@@ -0,0 +1,71 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+/**
+ * The counters of the exporter, registered as {@code weblogic.logging.exporter:type=Exporter}.
+ * Counts are totals since the handler was created.
+ */
+public interface ExporterMetricsMXBean {
+
+  /** @return the number of records the server passed to the exporter */
+  long getPublishedCount();
+
+  /** @return the number of records rejected by the severities and the filters */
+  long getFilteredCount();
+
+  /** @return the number of repeated records folded into one by the coalescing window */
+  long getCoalescedCount();
+
+  /** @return the number of records put on the async queue */
+  long getQueuedCount();
+
+  /** @return the number of records accepted by Elasticsearch, including those replayed */
+  long getSentCount();
+
+  /** @return the number of records that Elasticsearch rejected for good, or that were given up */
+  long getFailedCount();
+
+  /** @return the number of records suppressed by the rate limit or dropped by a full queue */
+  long getDroppedCount();
+
+  /** @return the number of records scheduled to be sent again after Elasticsearch rejected them */
+  long getRetriedCount();
+
+  /**
+   * @return the number of records that were spilled or given up instead of retried, as the bodies
+   *     already waiting for a retry took up all of the room for them
+   */
+  long getRetryOverflowCount();
+
+  /** @return the number of records written to the spill log to be replayed later */
+  long getSpilledCount();
+
+  /** @return the number of records waiting on the async queue */
+  int getQueueDepth();
+
+  /** @return the number of request body bytes before compression */
+  long getRawBytes();
+
+  /** @return the number of request body bytes sent, after compression if it is enabled */
+  long getBytesSent();
+
+  /** @return the number of requests sent to Elasticsearch */
+  long getRequestCount();
+
+  /** @return the median time of a request, in microseconds */
+  long getRequestMicrosP50();
+
+  /** @return the 99th percentile of the time of a request, in microseconds */
+  long getRequestMicrosP99();
+
+  /** @return the longest time of a request, in microseconds */
+  long getRequestMicrosMax();
+
+  /** @return the number of bulk requests sent */
+  long getBulkCount();
+
+  /** @return the average number of records per bulk request */
+  double getAverageBulkSize();
+}
@@ -0,0 +1,202 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reports failures to send records without flooding the output while Elasticsearch is down or
+ * rejecting everything. Failures are grouped by kind, such as an HTTP status or an exception
+ * class: the first failure of a kind in an interval is printed at once, and the others are only
+ * counted and printed as one summary line at the end of the interval. Only a truncated sample of
+ * the response or exception is ever printed, never the records themselves.
+ *
+ * <p>The reports are written straight to the standard error file descriptor rather than through a
+ * logger or {@code System.out}, which WebLogic can redirect into the server log: a report must not
+ * become a record that this exporter then fails to send.
+ */
+class FailureReporter {
+
+  static final int MAX_SAMPLE_CHARS = 200;
+  static final int MAX_KINDS = 64;
+  static final String OTHER_KINDS = "other failures";
+
+  private final PrintStream out;
+  private final Map<String, Kind> kinds = new ConcurrentHashMap<>();
+  private ScheduledExecutorService timer;
+
+  /**
+   * Creates a reporter.
+   *
+   * @param out where to print the reports
+   */
+  FailureReporter(PrintStream out) {
+    this.out = out;
+  }
+
+  /** @return where the reports are printed, for other output that must not reach the server log */
+  PrintStream getOut() {
+    return out;
+  }
+
+  /** @return a reporter that prints to the standard error of the process */
+  static FailureReporter toStandardError() {
+    return new FailureReporter(new PrintStream(new FileOutputStream(FileDescriptor.err), true));
+  }
+
+  /**
+   * Prints a summary at a fixed interval.
+   *
+   * @param intervalMillis the interval between summaries
+   */
+  void startSummaries(long intervalMillis) {
+    timer =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "weblogic-logging-exporter-failures");
+              thread.setDaemon(true);
+              return thread;
+            });
+    timer.scheduleAtFixedRate(
+        this::printSummary, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Reports a failure.
+   *
+   * @param source the class where it happened, e.g. {@code LogExportHandler}
+   * @param kind what went wrong, e.g. {@code status 503}; the counts are kept per source and kind
+   * @param records the number of records lost or delayed by the failure
+   * @param sample the response or exception, of which only the start is printed
+   */
+  void report(String source, String kind, long records, Object sample) {
+    String key = source + ": " + kind;
+    Kind counts = kinds.get(key);
+    if (counts == null) {
+      // a bounded number of kinds, so that messages with varying text cannot grow the map
+      String counted = kinds.size() < MAX_KINDS ? kind : OTHER_KINDS;
+      counts = kinds.computeIfAbsent(source + ": " + counted, k -> new Kind(source, counted));
+    }
+    String line = counts.count(records, sample);
+    if (line != null) {
+      out.println(line);
+    }
+  }
+
+  /** Prints the failures counted since the last summary. */
+  void printSummary() {
+    for (String line : summarize()) {
+      out.println(line);
+    }
+  }
+
+  /**
+   * Computes the summary of the interval since the last call and starts a new interval. Kinds that
+   * did not fail during the interval are forgotten.
+   *
+   * @return a line for each kind that failed more than once
+   */
+  synchronized List<String> summarize() {
+    List<String> lines = new ArrayList<>();
+    for (Iterator<Kind> it = kinds.values().iterator(); it.hasNext(); ) {
+      Kind counts = it.next();
+      String line = counts.drain();
+      if (line != null) {
+        lines.add(line);
+      } else if (counts.isIdle()) {
+        it.remove();
+      }
+    }
+    return lines;
+  }
+
+  /** Stops the summaries and prints what is left to report. */
+  void shutdown() {
+    if (timer != null) {
+      timer.shutdownNow();
+    }
+    printSummary();
+  }
+
+  /**
+   * Shortens a sample to one line of at most {@link #MAX_SAMPLE_CHARS} characters.
+   *
+   * @param sample the response or exception
+   * @return the start of its text
+   */
+  static String truncate(Object sample) {
+    String text = String.valueOf(sample).replace('\n', ' ').replace('\r', ' ');
+    if (text.length() <= MAX_SAMPLE_CHARS) {
+      return text;
+    }
+    return text.substring(0, MAX_SAMPLE_CHARS) + "... (" + text.length() + " chars)";
+  }
+
+  private static class Kind {
+    private final String source;
+    private final String kind;
+    private boolean reported;
+    private long failures;
+    private long records;
+    private Object lastSample;
+
+    Kind(String source, String kind) {
+      this.source = source;
+      this.kind = kind;
+    }
+
+    /** Counts a failure, returning the line to print now if it is the first of the interval. */
+    synchronized String count(long lost, Object sample) {
+      if (!reported) {
+        reported = true;
+        return prefix() + kind + " (" + lost + " records): " + truncate(sample);
+      }
+      failures++;
+      records += lost;
+      lastSample = sample;
+      return null;
+    }
+
+    /** Starts a new interval, returning the summary line if there were failures to summarize. */
+    synchronized String drain() {
+      String line = null;
+      if (failures > 0) {
+        line =
+            prefix()
+                + failures
+                + " more failures with "
+                + kind
+                + " ("
+                + records
+                + " records) since the last report, the last: "
+                + truncate(lastSample);
+      } else if (!reported) {
+        return null;
+      }
+      reported = failures > 0;
+      failures = 0;
+      records = 0;
+      lastSample = null;
+      return line;
+    }
+
+    synchronized boolean isIdle() {
+      return !reported && failures == 0;
+    }
+
+    private String prefix() {
+      return "<weblogic.logging.exporter." + source + "> ";
+    }
+  }
+}
@@ -0,0 +1,254 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Function;
+import weblogic.logging.WLLogRecord;
+
+/**
+ * Compiles the common shapes of WLDF filter expressions into {@link RecordPredicate}s: {@code =},
+ * {@code !=}, {@code IN} and prefix {@code LIKE} comparisons of {@code MSGID}, {@code SUBSYSTEM},
+ * {@code SEVERITY}, {@code SERVER} and {@code USERID} with string literals, combined with {@code
+ * AND}, {@code OR} and parentheses. Anything else is left to the WLDF query engine.
+ */
+class FilterExpressionCompiler {
+
+  private final String expression;
+  private final List<String> tokens = new ArrayList<>();
+  private int next;
+
+  private FilterExpressionCompiler(String expression) {
+    this.expression = expression;
+  }
+
+  /**
+   * Compiles an expression.
+   *
+   * @param expression a WLDF log filter expression
+   * @return the predicate, or null if the expression has a shape that is not supported
+   */
+  static RecordPredicate compile(String expression) {
+    if (expression == null) {
+      return null;
+    }
+    FilterExpressionCompiler compiler = new FilterExpressionCompiler(expression);
+    if (!compiler.tokenize()) {
+      return null;
+    }
+    RecordPredicate predicate = compiler.parseOr();
+    return compiler.next == compiler.tokens.size() ? predicate : null;
+  }
+
+  private boolean tokenize() {
+    int i = 0;
+    while (i < expression.length()) {
+      char c = expression.charAt(i);
+      if (Character.isWhitespace(c)) {
+        i++;
+      } else if (c == '(' || c == ')' || c == ',' || c == '=') {
+        tokens.add(String.valueOf(c));
+        i++;
+      } else if (c == '!' && expression.startsWith("!=", i)) {
+        tokens.add("!=");
+        i += 2;
+      } else if (c == '\'') {
+        int end = expression.indexOf('\'', i + 1);
+        // a doubled quote is an escape; leave those literals to WLDF
+        if (end < 0 || expression.startsWith("''", end)) {
+          return false;
+        }
+        tokens.add(expression.substring(i, end + 1));
+        i = end + 1;
+      } else if (Character.isLetter(c)) {
+        int end = i;
+        while (end < expression.length()
+            && (Character.isLetterOrDigit(expression.charAt(end))
+                || expression.charAt(end) == '_')) {
+          end++;
+        }
+        tokens.add(expression.substring(i, end));
+        i = end;
+      } else {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private RecordPredicate parseOr() {
+    RecordPredicate left = parseAnd();
+    while (left != null && acceptKeyword("OR")) {
+      RecordPredicate right = parseAnd();
+      left = right == null ? null : or(left, right);
+    }
+    return left;
+  }
+
+  private RecordPredicate parseAnd() {
+    RecordPredicate left = parsePrimary();
+    while (left != null && acceptKeyword("AND")) {
+      RecordPredicate right = parsePrimary();
+      left = right == null ? null : and(left, right);
+    }
+    return left;
+  }
+
+  private RecordPredicate parsePrimary() {
+    if (accept("(")) {
+      RecordPredicate inner = parseOr();
+      return inner != null && accept(")") ? inner : null;
+    }
+    Function<WLLogRecord, String> field = field(nextToken());
+    if (field == null) {
+      return null;
+    }
+    String operator = nextToken();
+    if ("=".equals(operator) || "!=".equals(operator)) {
+      String literal = literal(nextToken());
+      if (literal == null) {
+        return null;
+      }
+      return "=".equals(operator) ? equalTo(field, literal) : not(equalTo(field, literal));
+    } else if ("IN".equalsIgnoreCase(operator)) {
+      return parseIn(field);
+    } else if ("LIKE".equalsIgnoreCase(operator)) {
+      return parseLike(field);
+    }
+    return null;
+  }
+
+  private RecordPredicate parseIn(Function<WLLogRecord, String> field) {
+    if (!accept("(")) {
+      return null;
+    }
+    Set<String> values = new HashSet<>();
+    do {
+      String literal = literal(nextToken());
+      if (literal == null) {
+        return null;
+      }
+      values.add(literal);
+    } while (accept(","));
+    if (!accept(")")) {
+      return null;
+    }
+    return record -> {
+      String value = field.apply(record);
+      if (value == null) {
+        return RecordPredicate.UNKNOWN;
+      }
+      return values.contains(value) ? RecordPredicate.MATCH : RecordPredicate.NO_MATCH;
+    };
+  }
+
+  private RecordPredicate parseLike(Function<WLLogRecord, String> field) {
+    String pattern = literal(nextToken());
+    // only 'prefix%', with no other wildcard in the prefix
+    if (pattern == null
+        || !pattern.endsWith("%")
+        || pattern.indexOf('%') != pattern.length() - 1
+        || pattern.indexOf('_') >= 0) {
+      return null;
+    }
+    String prefix = pattern.substring(0, pattern.length() - 1);
+    return record -> {
+      String value = field.apply(record);
+      if (value == null) {
+        return RecordPredicate.UNKNOWN;
+      }
+      return value.startsWith(prefix) ? RecordPredicate.MATCH : RecordPredicate.NO_MATCH;
+    };
+  }
+
+  private static Function<WLLogRecord, String> field(String name) {
+    if (name == null) {
+      return null;
+    }
+    switch (name) {
+      case "MSGID":
+        return WLLogRecord::getId;
+      case "SUBSYSTEM":
+        return WLLogRecord::getSubsystem;
+      case "SEVERITY":
+        return WLLogRecord::getSeverityString;
+      case "SERVER":
+        return WLLogRecord::getServerName;
+      case "USERID":
+        return WLLogRecord::getUserId;
+      default:
+        return null;
+    }
+  }
+
+  private static String literal(String token) {
+    if (token == null || token.length() < 2 || token.charAt(0) != '\'') {
+      return null;
+    }
+    return token.substring(1, token.length() - 1);
+  }
+
+  private static RecordPredicate equalTo(Function<WLLogRecord, String> field, String literal) {
+    return record -> {
+      String value = field.apply(record);
+      if (value == null) {
+        return RecordPredicate.UNKNOWN;
+      }
+      return value.equals(literal) ? RecordPredicate.MATCH : RecordPredicate.NO_MATCH;
+    };
+  }
+
+  private static RecordPredicate not(RecordPredicate predicate) {
+    return record -> {
+      int result = predicate.test(record);
+      return result == RecordPredicate.UNKNOWN ? result : RecordPredicate.MATCH - result;
+    };
+  }
+
+  private static RecordPredicate and(RecordPredicate left, RecordPredicate right) {
+    return record -> {
+      int first = left.test(record);
+      if (first == RecordPredicate.NO_MATCH) {
+        return first;
+      }
+      int second = right.test(record);
+      return second == RecordPredicate.NO_MATCH ? second : Math.min(first, second);
+    };
+  }
+
+  private static RecordPredicate or(RecordPredicate left, RecordPredicate right) {
+    return record -> {
+      int first = left.test(record);
+      if (first == RecordPredicate.MATCH) {
+        return first;
+      }
+      int second = right.test(record);
+      return second == RecordPredicate.MATCH ? second : Math.min(first, second);
+    };
+  }
+
+  private String nextToken() {
+    return next < tokens.size() ? tokens.get(next++) : null;
+  }
+
+  private boolean accept(String token) {
+    if (next < tokens.size() && tokens.get(next).equals(token)) {
+      next++;
+      return true;
+    }
+    return false;
+  }
+
+  private boolean acceptKeyword(String keyword) {
+    if (next < tokens.size() && tokens.get(next).toUpperCase(Locale.ROOT).equals(keyword)) {
+      next++;
+      return true;
+    }
+    return false;
+  }
+}
@@ -0,0 +1,170 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Publishes the counters of the configured filters: each filter is registered as a {@link
+ * FilterStatsMXBean}, and a summary of the last interval is printed periodically, with a warning
+ * for every filter whose evaluations took longer than a threshold on average. The output goes to
+ * the stream of the {@link FailureReporter}, not to {@code System.out}, which WebLogic can
+ * redirect into the server log, where each summary would become a record to filter and export.
+ */
+class FilterMetrics {
+
+  static final String OBJECT_NAME_PREFIX = "weblogic.logging.exporter:type=Filter,index=";
+
+  private final List<CompiledFilter> filters;
+  private final long slowNanos;
+  private final PrintStream out;
+  private final long[] lastEvaluations;
+  private final long[] lastDrops;
+  private final long[] lastErrors;
+  private final long[] lastTimedEvaluations;
+  private final long[] lastTimedNanos;
+  private final List<ObjectName> registeredNames = new ArrayList<>();
+  private ScheduledExecutorService timer;
+
+  /**
+   * Creates the metrics of a filter plan.
+   *
+   * @param plan the filters
+   * @param slowMicros the average evaluation time above which a filter is reported as slow
+   * @param out where to print the summaries and errors
+   */
+  FilterMetrics(FilterPlan plan, long slowMicros, PrintStream out) {
+    this.filters = plan.getFilters();
+    this.slowNanos = TimeUnit.MICROSECONDS.toNanos(slowMicros);
+    this.out = out;
+    this.lastEvaluations = new long[filters.size()];
+    this.lastDrops = new long[filters.size()];
+    this.lastErrors = new long[filters.size()];
+    this.lastTimedEvaluations = new long[filters.size()];
+    this.lastTimedNanos = new long[filters.size()];
+  }
+
+  /** Registers an MBean for each filter with the platform MBean server. */
+  void registerMBeans() {
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    for (int i = 0; i < filters.size(); i++) {
+      try {
+        ObjectName name = new ObjectName(OBJECT_NAME_PREFIX + i);
+        try {
+          server.registerMBean(filters.get(i), name);
+        } catch (InstanceAlreadyExistsException e) {
+          // left behind by a handler that was replaced without being closed
+          server.unregisterMBean(name);
+          server.registerMBean(filters.get(i), name);
+        }
+        registeredNames.add(name);
+      } catch (JMException e) {
+        out.println("<weblogic.logging.exporter.FilterMetrics> cannot register filter MBean: " + e);
+      }
+    }
+  }
+
+  /**
+   * Prints a summary at a fixed interval.
+   *
+   * @param intervalMillis the interval between summaries
+   */
+  void startSummaries(long intervalMillis) {
+    timer =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "weblogic-logging-exporter-filter-stats");
+              thread.setDaemon(true);
+              return thread;
+            });
+    timer.scheduleAtFixedRate(
+        this::printSummary, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /** Prints the counters of the filters evaluated since the last summary. */
+  void printSummary() {
+    for (String line : summarize()) {
+      out.println("<weblogic.logging.exporter.FilterMetrics> " + line);
+    }
+  }
+
+  /**
+   * Computes the summary of the interval since the last call and starts a new interval.
+   *
+   * @return a line for each filter that was evaluated, and one for each that is slow
+   */
+  synchronized List<String> summarize() {
+    List<String> lines = new ArrayList<>();
+    for (int i = 0; i < filters.size(); i++) {
+      CompiledFilter filter = filters.get(i);
+      long evaluations = filter.getEvaluationCount();
+      long drops = filter.getDropCount();
+      long errors = filter.getErrorCount();
+      long timedEvaluations = filter.getTimedEvaluations();
+      long timedNanos = filter.getTimedNanos();
+      long newEvaluations = evaluations - lastEvaluations[i];
+      long newTimed = timedEvaluations - lastTimedEvaluations[i];
+      long averageNanos = newTimed == 0 ? 0 : (timedNanos - lastTimedNanos[i]) / newTimed;
+      if (newEvaluations > 0) {
+        lines.add(
+            "filter "
+                + i
+                + " '"
+                + filter.getExpression()
+                + "' evaluated "
+                + newEvaluations
+                + ", dropped "
+                + (drops - lastDrops[i])
+                + ", errors "
+                + (errors - lastErrors[i])
+                + ", average "
+                + averageNanos
+                + " ns"
+                + (filter.isNative() ? "" : " in WLDF"));
+      }
+      if (newTimed > 0 && averageNanos > slowNanos) {
+        lines.add(
+            "WARNING: filter "
+                + i
+                + " '"
+                + filter.getExpression()
+                + "' is slow, taking "
+                + TimeUnit.NANOSECONDS.toMicros(averageNanos)
+                + " us per record on average");
+      }
+      lastEvaluations[i] = evaluations;
+      lastDrops[i] = drops;
+      lastErrors[i] = errors;
+      lastTimedEvaluations[i] = timedEvaluations;
+      lastTimedNanos[i] = timedNanos;
+    }
+    return lines;
+  }
+
+  /** Stops the summaries and unregisters the MBeans. */
+  void shutdown() {
+    if (timer != null) {
+      timer.shutdownNow();
+    }
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    for (ObjectName name : registeredNames) {
+      try {
+        server.unregisterMBean(name);
+      } catch (JMException e) {
+        // already gone
+      }
+    }
+    registeredNames.clear();
+  }
+}
@@ -0,0 +1,172 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import weblogic.diagnostics.logging.LogVariablesImpl;
+import weblogic.diagnostics.query.Query;
+import weblogic.diagnostics.query.VariableResolver;
+import weblogic.logging.WLLogRecord;
+import weblogic.logging.exporter.config.FilterConfig;
+
+/**
+ * The configured filters, compiled once into the list of filters that apply to each server. A
+ * filter without servers applies everywhere; a filter with servers only applies to records from
+ * those servers. Since a server only logs its own records, the list for the last server seen is
+ * kept, so that the lookup usually costs one string comparison.
+ *
+ * <p>Expressions that {@link FilterExpressionCompiler} understands are evaluated in Java and run
+ * before the others, so that a record they reject never reaches the WLDF query engine.
+ */
+class FilterPlan {
+
+  private static final CompiledFilter[] NO_FILTERS = new CompiledFilter[0];
+  private static final int TIMING_SAMPLE_MASK = 7;
+
+  private final List<CompiledFilter> filters;
+  private final CompiledFilter[] unscopedFilters;
+  private final Map<String, CompiledFilter[]> filtersByServer;
+  private volatile ServerFilters lastServer;
+
+  private FilterPlan(
+      List<CompiledFilter> filters,
+      CompiledFilter[] unscopedFilters,
+      Map<String, CompiledFilter[]> filtersByServer) {
+    this.filters = Collections.unmodifiableList(filters);
+    this.unscopedFilters = unscopedFilters;
+    this.filtersByServer = filtersByServer;
+  }
+
+  /**
+   * Compiles the filters of the configuration.
+   *
+   * @param filterConfigs the filters, in the order they are to be applied
+   * @param failures where the errors of WLDF queries are reported
+   * @return the plan
+   */
+  static FilterPlan compile(List<FilterConfig> filterConfigs, FailureReporter failures) {
+    List<CompiledFilter> all = new ArrayList<>();
+    List<CompiledFilter> unscoped = new ArrayList<>();
+    Map<String, List<CompiledFilter>> scoped = new HashMap<>();
+    for (FilterConfig filterConfig : filterConfigs) {
+      // an expression that did not parse has no query and lets every record through
+      Query query = filterConfig.getQuery();
+      if (query == null) {
+        continue;
+      }
+      CompiledFilter filter =
+          new CompiledFilter(
+              filterConfig,
+              FilterExpressionCompiler.compile(filterConfig.getExpression()),
+              failures);
+      all.add(filter);
+      if (filterConfig.getServers().isEmpty()) {
+        unscoped.add(filter);
+        // filters for particular servers must also run this one
+        for (List<CompiledFilter> filters : scoped.values()) {
+          filters.add(filter);
+        }
+      } else {
+        for (String server : filterConfig.getServers()) {
+          scoped.computeIfAbsent(server, s -> new ArrayList<>(unscoped)).add(filter);
+        }
+      }
+    }
+    Map<String, CompiledFilter[]> filtersByServer = new HashMap<>();
+    for (Map.Entry<String, List<CompiledFilter>> entry : scoped.entrySet()) {
+      filtersByServer.put(entry.getKey(), nativeFirst(entry.getValue()));
+    }
+    return new FilterPlan(all, nativeFirst(unscoped), filtersByServer);
+  }
+
+  // a record must pass all the filters, so the order only matters for how much it costs
+  private static CompiledFilter[] nativeFirst(List<CompiledFilter> filters) {
+    List<CompiledFilter> ordered = new ArrayList<>(filters.size());
+    for (CompiledFilter filter : filters) {
+      if (filter.isNative()) {
+        ordered.add(filter);
+      }
+    }
+    for (CompiledFilter filter : filters) {
+      if (!filter.isNative()) {
+        ordered.add(filter);
+      }
+    }
+    return ordered.toArray(NO_FILTERS);
+  }
+
+  /**
+   * Returns the filters that a record from a server must pass.
+   *
+   * @param serverName the name of the server that logged the record
+   * @return the filters, those evaluated in Java first and otherwise in configuration order
+   */
+  CompiledFilter[] filtersFor(String serverName) {
+    ServerFilters last = lastServer;
+    if (last != null && last.serverName.equals(serverName)) {
+      return last.filters;
+    }
+    CompiledFilter[] filters = filtersByServer.getOrDefault(serverName, unscopedFilters);
+    if (serverName != null) {
+      lastServer = new ServerFilters(serverName, filters);
+    }
+    return filters;
+  }
+
+  /** @return all the filters, in configuration order */
+  List<CompiledFilter> getFilters() {
+    return filters;
+  }
+
+  /** @return true if no filter can reject a record */
+  boolean isEmpty() {
+    return unscopedFilters.length == 0 && filtersByServer.isEmpty();
+  }
+
+  /**
+   * Tells whether a record passes every filter that applies to it. A query that fails to run lets
+   * the record through.
+   *
+   * @param record the record
+   * @return false if a filter rejects the record
+   */
+  boolean accepts(WLLogRecord record) {
+    // one resolver serves all the queries of a record, and is only made if one needs it
+    VariableResolver resolver = null;
+    for (CompiledFilter filter : filtersFor(record.getServerName())) {
+      // timing every evaluation would cost more than a native predicate does
+      boolean timed = (ThreadLocalRandom.current().nextInt() & TIMING_SAMPLE_MASK) == 0;
+      long start = timed ? System.nanoTime() : 0;
+      RecordPredicate predicate = filter.getPredicate();
+      int result = predicate == null ? RecordPredicate.UNKNOWN : predicate.test(record);
+      if (result == RecordPredicate.UNKNOWN) {
+        if (resolver == null) {
+          resolver = LogVariablesImpl.getInstance().getLogVariablesResolver(record);
+        }
+        result = filter.runQuery(resolver);
+      }
+      long nanos = timed ? System.nanoTime() - start : -1;
+      filter.countEvaluation(result == RecordPredicate.MATCH, nanos);
+      if (result == RecordPredicate.NO_MATCH) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static class ServerFilters {
+    private final String serverName;
+    private final CompiledFilter[] filters;
+
+    ServerFilters(String serverName, CompiledFilter[] filters) {
+      this.serverName = serverName;
+      this.filters = filters;
+    }
+  }
+}
@@ -0,0 +1,37 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import java.util.List;
+
+/**
+ * The counters of one entry of {@code weblogicLoggingExporterFilters}, registered as {@code
+ * weblogic.logging.exporter:type=Filter,index=<position in the configuration>}.
+ */
+public interface FilterStatsMXBean {
+
+  /** @return the filter expression */
+  String getExpression();
+
+  /** @return the servers the filter applies to, empty for all servers */
+  List<String> getServers();
+
+  /** @return true if the expression is evaluated in Java rather than by the WLDF query engine */
+  boolean isNative();
+
+  /** @return the number of records the filter was evaluated for */
+  long getEvaluationCount();
+
+  /** @return the number of records the filter let through */
+  long getMatchCount();
+
+  /** @return the number of records the filter rejected */
+  long getDropCount();
+
+  /** @return the number of evaluations that failed and let the record through */
+  long getErrorCount();
+
+  /** @return the average time of an evaluation in nanoseconds, estimated from a sample */
+  long getAverageNanos();
+}
@@ -0,0 +1,224 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * A request body compressed in the gzip format. The source content is streamed through a {@link
+ * Deflater} straight into buffers taken from a {@link ByteBufferPool}, so neither the uncompressed
+ * nor the compressed body is ever copied into a single array. Deflaters are reset between bodies
+ * and kept in a bounded pool rather than per thread, as bulk requests may each run on a new
+ * virtual thread; a deflater that does not fit in the pool is ended at once, so that its native
+ * memory does not wait for the garbage collector. Call {@link #release()} when the request is
+ * complete.
+ */
+class GzipContent implements HttpContent {
+
+  private static final int GZIP_MAGIC = 0x8b1f;
+  private static final int CHUNK_SIZE = 8192;
+  // compressing keeps a processor busy, so there is little use for more deflaters than processors
+  private static final BoundedRingQueue<Compressor> COMPRESSORS =
+      new BoundedRingQueue<>(Runtime.getRuntime().availableProcessors());
+  private static final LongAdder CREATED_COMPRESSORS = new LongAdder();
+
+  private final ByteBufferPool pool;
+  private final List<ByteBuffer> buffers = new ArrayList<>();
+  private ByteBuffer current;
+  private long size;
+
+  private GzipContent(ByteBufferPool pool) {
+    this.pool = pool;
+  }
+
+  /**
+   * Compresses content.
+   *
+   * @param source the content to compress
+   * @param pool the pool to take the output buffers from
+   * @param level the compression level, from 0 to 9
+   * @return the compressed content
+   */
+  static GzipContent compress(HttpContent source, ByteBufferPool pool, int level) {
+    GzipContent content = new GzipContent(pool);
+    Compressor compressor = COMPRESSORS.poll();
+    if (compressor == null || compressor.level != level) {
+      if (compressor != null) {
+        compressor.deflater.end();
+      }
+      compressor = new Compressor(level);
+      CREATED_COMPRESSORS.increment();
+    }
+    try {
+      compressor.compress(source, content);
+    } catch (IOException e) {
+      content.release();
+      throw new UncheckedIOException(e);
+    } catch (RuntimeException e) {
+      content.release();
+      throw e;
+    } finally {
+      compressor.reset();
+      if (!COMPRESSORS.offer(compressor)) {
+        compressor.deflater.end();
+      }
+    }
+    return content;
+  }
+
+  /** @return the number of deflaters created since the class was loaded */
+  static long getCreatedCompressorCount() {
+    return CREATED_COMPRESSORS.sum();
+  }
+
+  @Override
+  public long getContentLength() {
+    return size;
+  }
+
+  @Override
+  public String getContentEncoding() {
+    return "gzip";
+  }
+
+  @Override
+  public void writeTo(WritableByteChannel channel) throws IOException {
+    for (ByteBuffer buffer : buffers) {
+      ByteBuffer content = (ByteBuffer) buffer.duplicate().flip();
+      while (content.hasRemaining()) {
+        channel.write(content);
+      }
+    }
+  }
+
+  @Override
+  public void writeTo(OutputStream out) throws IOException {
+    byte[] chunk = null;
+    for (ByteBuffer buffer : buffers) {
+      ByteBuffer content = (ByteBuffer) buffer.duplicate().flip();
+      if (content.hasArray()) {
+        out.write(content.array(), content.arrayOffset(), content.remaining());
+      } else {
+        if (chunk == null) {
+          chunk = new byte[CHUNK_SIZE];
+        }
+        while (content.hasRemaining()) {
+          int length = Math.min(chunk.length, content.remaining());
+          content.get(chunk, 0, length);
+          out.write(chunk, 0, length);
+        }
+      }
+    }
+    out.flush();
+  }
+
+  /** Gives the buffers back to the pool. */
+  void release() {
+    for (ByteBuffer buffer : buffers) {
+      pool.release(buffer);
+    }
+    buffers.clear();
+    current = null;
+    size = 0;
+  }
+
+  private void append(byte[] bytes, int offset, int length) {
+    while (length > 0) {
+      if (current == null || !current.hasRemaining()) {
+        current = pool.acquire();
+        buffers.add(current);
+      }
+      int count = Math.min(length, current.remaining());
+      current.put(bytes, offset, count);
+      size += count;
+      offset += count;
+      length -= count;
+    }
+  }
+
+  /** A Deflater with the gzip framing around it, fed through an OutputStream. */
+  private static class Compressor extends OutputStream {
+
+    private final int level;
+    private final Deflater deflater;
+    private final CRC32 crc = new CRC32();
+    private final byte[] output = new byte[CHUNK_SIZE];
+    private final byte[] single = new byte[1];
+    private GzipContent target;
+
+    Compressor(int level) {
+      this.level = level;
+      this.deflater = new Deflater(level, true);
+    }
+
+    void compress(HttpContent source, GzipContent target) throws IOException {
+      this.target = target;
+      writeHeader();
+      source.writeTo(this);
+      deflater.finish();
+      while (!deflater.finished()) {
+        drain();
+      }
+      writeTrailer();
+    }
+
+    void reset() {
+      deflater.reset();
+      crc.reset();
+      target = null;
+    }
+
+    @Override
+    public void write(int b) {
+      single[0] = (byte) b;
+      write(single, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+      crc.update(bytes, offset, length);
+      deflater.setInput(bytes, offset, length);
+      while (!deflater.needsInput()) {
+        drain();
+      }
+    }
+
+    private void drain() {
+      int count = deflater.deflate(output, 0, output.length, Deflater.NO_FLUSH);
+      if (count > 0) {
+        target.append(output, 0, count);
+      }
+    }
+
+    private void writeHeader() {
+      byte[] header = {
+        (byte) GZIP_MAGIC, (byte) (GZIP_MAGIC >> 8), Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0
+      };
+      target.append(header, 0, header.length);
+    }
+
+    private void writeTrailer() {
+      byte[] trailer = new byte[8];
+      writeInt(trailer, 0, (int) crc.getValue());
+      writeInt(trailer, 4, (int) deflater.getBytesRead());
+      target.append(trailer, 0, trailer.length);
+    }
+
+    private static void writeInt(byte[] bytes, int offset, int value) {
+      bytes[offset] = (byte) value;
+      bytes[offset + 1] = (byte) (value >> 8);
+      bytes[offset + 2] = (byte) (value >> 16);
+      bytes[offset + 3] = (byte) (value >> 24);
+    }
+  }
+}
@@ -0,0 +1,130 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts non-negative values in buckets laid out as in HdrHistogram: values below 32 have a bucket
+ * each, and every power of two above is split into 16 buckets of equal width, so that a value is
+ * known within 1/16 of itself whatever its size. Recording increments one counter, without locks.
+ */
+class Histogram {
+
+  private static final int SUB_BUCKET_BITS = 5;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int HALF_SUB_BUCKETS = SUB_BUCKETS / 2;
+  private static final int BUCKETS =
+      SUB_BUCKETS + (Long.SIZE - 1 - SUB_BUCKET_BITS) * HALF_SUB_BUCKETS;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+  private final LongAdder count = new LongAdder();
+  private final LongAdder sum = new LongAdder();
+  private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+  /**
+   * Counts a value.
+   *
+   * @param value the value, negative values are counted as 0
+   */
+  void record(long value) {
+    long counted = Math.max(0, value);
+    counts.incrementAndGet(indexOf(counted));
+    count.increment();
+    sum.add(counted);
+    max.accumulate(counted);
+  }
+
+  /**
+   * Finds the bucket of a value.
+   *
+   * @param value a non-negative value
+   * @return the index of its bucket
+   */
+  static int indexOf(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+    int shift = exponent - (SUB_BUCKET_BITS - 1);
+    int subBucket = (int) (value >>> shift) - HALF_SUB_BUCKETS;
+    return SUB_BUCKETS + (exponent - SUB_BUCKET_BITS) * HALF_SUB_BUCKETS + subBucket;
+  }
+
+  /**
+   * Finds the upper end of a bucket.
+   *
+   * @param index the index of the bucket
+   * @return the highest value that falls in the bucket
+   */
+  static long highestValueIn(int index) {
+    if (index < SUB_BUCKETS) {
+      return index;
+    }
+    int exponent = SUB_BUCKET_BITS + (index - SUB_BUCKETS) / HALF_SUB_BUCKETS;
+    int subBucket = HALF_SUB_BUCKETS + (index - SUB_BUCKETS) % HALF_SUB_BUCKETS;
+    int shift = exponent - (SUB_BUCKET_BITS - 1);
+    return ((long) (subBucket + 1) << shift) - 1;
+  }
+
+  /** @return the number of values counted */
+  long getCount() {
+    return count.sum();
+  }
+
+  /** @return the sum of the values counted */
+  long getSum() {
+    return sum.sum();
+  }
+
+  /** @return the highest value counted, 0 if none was */
+  long getMax() {
+    return max.get();
+  }
+
+  /**
+   * Counts the values at or below a bound, for a cumulative bucket of a Prometheus histogram. The
+   * values in the bucket that holds the bound are all included.
+   *
+   * @param bound the bound
+   * @return the number of values counted up to the bound
+   */
+  long getCountAtOrBelow(long bound) {
+    int last = bound < 0 ? -1 : indexOf(bound);
+    long total = 0;
+    for (int i = 0; i <= last; i++) {
+      total += counts.get(i);
+    }
+    return total;
+  }
+
+  /**
+   * Estimates a percentile.
+   *
+   * @param percentile the percentile, from 0 to 100
+   * @return the highest value of the bucket the percentile falls in, 0 if no value was counted
+   */
+  long getValueAtPercentile(double percentile) {
+    long total = 0;
+    long[] snapshot = new long[BUCKETS];
+    for (int i = 0; i < BUCKETS; i++) {
+      snapshot[i] = counts.get(i);
+      total += snapshot[i];
+    }
+    if (total == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(total * Math.min(100, percentile) / 100));
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += snapshot[i];
+      if (seen >= rank) {
+        return Math.min(highestValueIn(i), getMax());
+      }
+    }
+    return getMax();
+  }
+}
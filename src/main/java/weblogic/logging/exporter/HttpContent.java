@@ -0,0 +1,73 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/** A JSON request body that an {@link HttpTransport} can write more than once, e.g. on a retry. */
+interface HttpContent {
+
+  /** @return the number of bytes that the write methods produce */
+  long getContentLength();
+
+  /** @return the value of the Content-Encoding header, or null if the content is not encoded */
+  default String getContentEncoding() {
+    return null;
+  }
+
+  /**
+   * Writes the content to a channel.
+   *
+   * @param channel the channel to write to
+   * @throws IOException if the channel fails
+   */
+  void writeTo(WritableByteChannel channel) throws IOException;
+
+  /**
+   * Writes the content to a stream.
+   *
+   * @param out the stream to write to
+   * @throws IOException if the stream fails
+   */
+  void writeTo(OutputStream out) throws IOException;
+
+  /**
+   * Creates content holding a String.
+   *
+   * @param json the JSON text
+   * @return the content, encoded as UTF-8
+   */
+  static HttpContent of(String json) {
+    byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+    return new HttpContent() {
+      @Override
+      public long getContentLength() {
+        return bytes.length;
+      }
+
+      @Override
+      public void writeTo(WritableByteChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+          channel.write(buffer);
+        }
+      }
+
+      @Override
+      public void writeTo(OutputStream out) throws IOException {
+        out.write(bytes);
+        out.flush();
+      }
+
+      @Override
+      public String toString() {
+        return json;
+      }
+    };
+  }
+}
@@ -0,0 +1,88 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Sends requests to the Elasticsearch endpoint. Implementations are safe to use from several
+ * threads at once and always release the connection used by a request before returning.
+ */
+interface HttpTransport {
+
+  /**
+   * Sends a request with a JSON body and hands the response to a handler as it arrives.
+   *
+   * @param method the HTTP method, e.g. POST or PUT
+   * @param path the request path and query, starting with a slash
+   * @param content the request body
+   * @param handler reads the response; any part of the body it leaves unread is discarded
+   * @param <T> the type of value the handler produces
+   * @return the value returned by the handler
+   * @throws IOException if the endpoint cannot be reached or the exchange fails
+   */
+  <T> T send(String method, String path, HttpContent content, ResponseHandler<T> handler)
+      throws IOException;
+
+  /**
+   * Sends a request with a JSON body and reads the whole response.
+   *
+   * @param method the HTTP method, e.g. POST or PUT
+   * @param path the request path and query, starting with a slash
+   * @param content the request body
+   * @return the response status and body
+   * @throws IOException if the endpoint cannot be reached or the exchange fails
+   */
+  default Result send(String method, String path, HttpContent content) throws IOException {
+    return send(
+        method,
+        path,
+        content,
+        (status, body) -> {
+          String response = readString(body);
+          return new Result(response.isEmpty() ? null : response, status, status / 100 == 2);
+        });
+  }
+
+  /** Closes all connections held by the transport. */
+  void close();
+
+  /**
+   * Reads a response body as UTF-8 text.
+   *
+   * @param body the response body
+   * @return the text
+   * @throws IOException if reading fails
+   */
+  static String readString(InputStream body) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    byte[] chunk = new byte[8192];
+    int read;
+    while ((read = body.read(chunk)) >= 0) {
+      out.write(chunk, 0, read);
+    }
+    return out.toString("UTF-8");
+  }
+
+  /**
+   * Reads a response.
+   *
+   * @param <T> the type of value produced from the response
+   */
+  interface ResponseHandler<T> {
+
+    /**
+     * Reads a response.
+     *
+     * @param status the HTTP status code
+     * @param body the response body, empty if there is none
+     * @return the value to return from {@link #send(String, String, HttpContent,
+     *     ResponseHandler)}
+     * @throws IOException if reading the body fails
+     */
+    T handle(int status, InputStream body) throws IOException;
+  }
+}
@@ -0,0 +1,66 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.Invocation;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+
+/**
+ * Sends requests with the JAX-RS client provided by the server. Connection reuse depends on the
+ * JAX-RS implementation.
+ */
+class JaxRsTransport implements HttpTransport {
+
+  private final Client httpClient = ClientBuilder.newClient();
+  private final String httpHostPort;
+
+  JaxRsTransport(String httpHostPort) {
+    this.httpHostPort = httpHostPort;
+  }
+
+  @Override
+  public <T> T send(String method, String path, HttpContent content, ResponseHandler<T> handler)
+      throws IOException {
+    Invocation.Builder invocationBuilder =
+        httpClient.target(httpHostPort + path).request().accept(MediaType.APPLICATION_JSON);
+    if (content.getContentEncoding() != null) {
+      invocationBuilder.header(HttpHeaders.CONTENT_ENCODING, content.getContentEncoding());
+    }
+    StreamingOutput output = content::writeTo;
+    Response response;
+    try {
+      response =
+          invocationBuilder.method(
+              method, Entity.entity(output, MediaType.APPLICATION_JSON_TYPE), Response.class);
+    } catch (ProcessingException e) {
+      throw new IOException(e.getMessage(), e);
+    }
+    try {
+      InputStream body =
+          response.hasEntity()
+              ? response.readEntity(InputStream.class)
+              : new ByteArrayInputStream(new byte[0]);
+      return handler.handle(response.getStatus(), body);
+    } catch (ProcessingException e) {
+      throw new IOException(e.getMessage(), e);
+    } finally {
+      response.close();
+    }
+  }
+
+  @Override
+  public void close() {
+    httpClient.close();
+  }
+}
@@ -0,0 +1,163 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import weblogic.logging.WLLogRecord;
+
+/**
+ * Writes a {@link WLLogRecord} as the JSON document that is indexed in Elasticsearch. Fields are
+ * appended straight into a caller supplied or per-thread reusable {@link StringBuilder}, and string
+ * values are escaped as required by RFC 8259, so stack traces with backslashes, line breaks and
+ * control characters produce valid JSON.
+ */
+class JsonRecordEncoder {
+
+  private static final int INITIAL_BUFFER_CAPACITY = 1024;
+  private static final int MAX_RETAINED_BUFFER_CAPACITY = 64 * 1024;
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+  private static final ThreadLocal<StringBuilder> BUFFER =
+      ThreadLocal.withInitial(() -> new StringBuilder(INITIAL_BUFFER_CAPACITY));
+
+  private final String domainUID;
+
+  JsonRecordEncoder(String domainUID) {
+    this.domainUID = domainUID;
+  }
+
+  /**
+   * Encodes a record using the calling thread's buffer.
+   *
+   * @param record the record to encode
+   * @return the JSON document
+   */
+  String encode(WLLogRecord record) {
+    return encodeInThreadBuffer(record).toString();
+  }
+
+  /**
+   * Encodes a record into the calling thread's buffer without creating a String.
+   *
+   * @param record the record to encode
+   * @return the JSON document, valid until this thread encodes the next record
+   */
+  CharSequence encodeInThreadBuffer(WLLogRecord record) {
+    StringBuilder buffer = BUFFER.get();
+    if (buffer.capacity() > MAX_RETAINED_BUFFER_CAPACITY) {
+      // do not keep a huge buffer around for every thread that once logged a large stack trace
+      buffer = new StringBuilder(INITIAL_BUFFER_CAPACITY);
+      BUFFER.set(buffer);
+    }
+    buffer.setLength(0);
+    encodeTo(record, buffer);
+    return buffer;
+  }
+
+  /**
+   * Appends the JSON document for a record.
+   *
+   * @param record the record to encode
+   * @param out the buffer to append to
+   */
+  void encodeTo(WLLogRecord record, StringBuilder out) {
+    out.append("{\"messageID\":");
+    appendString(out, record.getId());
+    out.append(",\"message\":");
+    appendString(out, record.getMessage());
+    out.append(",\"timestamp\":").append(record.getMillis());
+    out.append(",\"serverName\":");
+    appendString(out, record.getServerName());
+    out.append(",\"threadName\":");
+    appendString(out, record.getThreadName());
+    out.append(",\"severity\":");
+    appendString(out, record.getSeverityString());
+    out.append(",\"userId\":");
+    appendString(out, record.getUserId());
+    out.append(",\"level\":");
+    appendString(out, record.getLevel() == null ? null : record.getLevel().getName());
+    out.append(",\"loggerName\":");
+    appendString(out, record.getLoggerName());
+    out.append(",\"formattedDate\":");
+    appendString(out, record.getFormattedDate());
+    out.append(",\"subSystem\":");
+    appendString(out, record.getSubsystem());
+    out.append(",\"machineName\":");
+    appendString(out, record.getMachineName());
+    out.append(",\"transactionId\":");
+    appendString(out, record.getTransactionId());
+    out.append(",\"diagnosticContextId\":");
+    appendString(out, record.getDiagnosticContextId());
+    out.append(",\"sequenceNumber\":").append(record.getSequenceNumber());
+    out.append(",\"domainUID\":");
+    appendString(out, domainUID);
+    if (record instanceof CoalescedRecord) {
+      CoalescedRecord coalesced = (CoalescedRecord) record;
+      out.append(",\"repeatCount\":").append(coalesced.getRepeatCount());
+      out.append(",\"firstTimestamp\":").append(coalesced.getFirstMillis());
+      out.append(",\"lastTimestamp\":").append(coalesced.getLastMillis());
+    }
+    out.append('}');
+  }
+
+  /**
+   * Appends a JSON string literal, or {@code null} if the value is null.
+   *
+   * @param out the buffer to append to
+   * @param value the value to quote and escape
+   */
+  static void appendString(StringBuilder out, String value) {
+    if (value == null) {
+      out.append("null");
+      return;
+    }
+    out.append('"');
+    int length = value.length();
+    int unescapedFrom = 0;
+    for (int i = 0; i < length; i++) {
+      char c = value.charAt(i);
+      if (c >= 0x20 && c != '"' && c != '\\') {
+        continue;
+      }
+      if (i > unescapedFrom) {
+        out.append(value, unescapedFrom, i);
+      }
+      appendEscaped(out, c);
+      unescapedFrom = i + 1;
+    }
+    if (unescapedFrom == 0) {
+      out.append(value);
+    } else if (unescapedFrom < length) {
+      out.append(value, unescapedFrom, length);
+    }
+    out.append('"');
+  }
+
+  private static void appendEscaped(StringBuilder out, char c) {
+    switch (c) {
+      case '"':
+        out.append("\\\"");
+        break;
+      case '\\':
+        out.append("\\\\");
+        break;
+      case '\n':
+        out.append("\\n");
+        break;
+      case '\r':
+        out.append("\\r");
+        break;
+      case '\t':
+        out.append("\\t");
+        break;
+      case '\b':
+        out.append("\\b");
+        break;
+      case '\f':
+        out.append("\\f");
+        break;
+      default:
+        out.append("\\u00").append(HEX_DIGITS[c >> 4]).append(HEX_DIGITS[c & 0xF]);
+        break;
+    }
+  }
+}
@@ -1,38 +1,36 @@
-// Copyright (c) 2018, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package weblogic.logging.exporter;
 
+import java.io.File;
+import java.io.IOException;
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
-import javax.ws.rs.client.Client;
-import javax.ws.rs.client.ClientBuilder;
-import javax.ws.rs.client.Entity;
-import javax.ws.rs.client.Invocation;
-import javax.ws.rs.client.WebTarget;
-import javax.ws.rs.core.Response;
-import weblogic.diagnostics.logging.LogVariablesImpl;
-import weblogic.diagnostics.query.QueryException;
 import weblogic.i18n.logging.Severities;
 import weblogic.logging.WLLevel;
 import weblogic.logging.WLLogRecord;
 import weblogic.logging.exporter.config.Config;
-import weblogic.logging.exporter.config.FilterConfig;
+import weblogic.logging.exporter.config.HttpTransportType;
+import weblogic.logging.exporter.config.RateLimitKey;
 
-@SuppressWarnings("UnnecessaryContinue")
 class LogExportHandler extends Handler {
 
   private static final String DOC_TYPE = "doc";
-  private static final String INDEX = " { \"index\" : { }} ";
   private static final int offValue = Level.OFF.intValue();
+  private static final long FLUSH_WAIT_MILLIS = 30000;
+  private static final int TOO_MANY_REQUESTS = 429;
+  private static final long FAILURE_SUMMARY_MILLIS = 60000;
+  private static final String SOURCE = "LogExportHandler";
 
-  private final Client httpClient = ClientBuilder.newClient();
-  private List<FilterConfig> filterConfigs = new ArrayList<>();
-  private final List<String> payloadBulkList = new ArrayList<>();
+  // the handler level, read on every record without the lock of getLevel()
+  private volatile int levelValue = Level.ALL.intValue();
 
   //
   //  These will all be set by initialize()
@@ -41,38 +39,200 @@ class LogExportHandler extends Handler {
   private String publishHost;
   private int publishPort;
   private int bulkSize;
+  private int bulkLingerMs;
+  private int bulkMaxBytes;
+  private boolean gzipEnabled;
+  private int gzipLevel;
   private String httpHostPort;
-  private String singleURL;
-  private String bulkURL;
-  private String fluentdURL;
+  private String singlePath;
+  private String bulkPath;
+  private String fluentdPath;
+  private HttpTransport transport;
   private String domainUID;
   private String destination;
+  private BulkAccumulator bulkAccumulator;
+  private ByteBufferPool bufferPool;
+  private FilterPlan filterPlan;
+  private SeverityThresholds severityThresholds;
+  private FilterMetrics filterMetrics;
+  private JsonRecordEncoder jsonEncoder;
+  private AsyncLogSender asyncSender;
+  private BulkSenderPool bulkSenderPool;
+  private BulkRetryScheduler retryScheduler;
+  private ScheduledExecutorService lingerTimer;
+  private RateLimiter rateLimiter;
+  private ScheduledExecutorService rateLimitTimer;
+  private RecordCoalescer coalescer;
+  private ScheduledExecutorService coalesceTimer;
+  private SpillLog spillLog;
+  private SpillReplayer spillReplayer;
+  private ExporterMetrics metrics;
+  private FailureReporter failures;
+  private PrometheusEndpoint metricsEndpoint;
 
   public LogExportHandler(Config config) {
     initialize(config);
     createMappings();
+    if (spillLog != null) {
+      spillReplayer =
+          new SpillReplayer(
+              spillLog,
+              bufferPool,
+              Math.max(1, bulkSize),
+              bulkMaxBytes,
+              this::sendBulk,
+              failures);
+      metrics.watchReplayer(spillReplayer);
+    }
+    if (bulkSize > 1 && config.getMaxConcurrency() > 1) {
+      bulkSenderPool =
+          new BulkSenderPool(
+              config.getMinConcurrency(),
+              config.getMaxConcurrency(),
+              this::writeOutBulk,
+              failures);
+    }
+    if (config.isAsyncEnabled()) {
+      asyncSender =
+          new AsyncLogSender(
+              config.getQueueCapacity(),
+              config.getQueueOverflowPolicy(),
+              WLLevel.getLevel(Severities.severityStringToNum(config.getQueueOverflowSeverity()))
+                  .intValue(),
+              config.getSenderThreads(),
+              bulkSize,
+              bulkLingerMs,
+              this::writeOutRecords,
+              spillLog == null ? null : this::spillRecord,
+              failures);
+      metrics.watchQueue(asyncSender);
+    } else if (bulkSize > 1 && bulkLingerMs > 0) {
+      startLingerTimer();
+    }
+    if (rateLimiter != null) {
+      startRateLimitTimer(config.getRateLimitSummaryMs());
+    }
+    if (coalescer != null) {
+      startCoalesceTimer(config.getCoalesceWindowMs());
+    }
+    metrics.registerMBean();
+    if (config.getMetricsPort() > 0) {
+      try {
+        metricsEndpoint = new PrometheusEndpoint(metrics, config.getMetricsPort());
+      } catch (IOException e) {
+        System.out.println(
+            "<weblogic.logging.exporter.LogExportHandler> metrics endpoint disabled: " + e);
+      }
+    }
+  }
+
+  private void startLingerTimer() {
+    lingerTimer =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "weblogic-logging-exporter-linger");
+              thread.setDaemon(true);
+              return thread;
+            });
+    long lingerNanos = TimeUnit.MILLISECONDS.toNanos(bulkLingerMs);
+    long tickMillis = Math.max(1, bulkLingerMs / 4);
+    lingerTimer.scheduleWithFixedDelay(
+        () -> writeOutLingeringRecords(lingerNanos), tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+  }
+
+  private void startRateLimitTimer(long summaryMillis) {
+    rateLimitTimer =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "weblogic-logging-exporter-rate-limit");
+              thread.setDaemon(true);
+              return thread;
+            });
+    rateLimitTimer.scheduleAtFixedRate(
+        () -> exportSuppressionSummaries(summaryMillis),
+        summaryMillis,
+        summaryMillis,
+        TimeUnit.MILLISECONDS);
+  }
+
+  private void exportSuppressionSummaries(long summaryMillis) {
+    try {
+      for (WLLogRecord summary : rateLimiter.drainSummaries(summaryMillis)) {
+        export(summary);
+      }
+    } catch (RuntimeException e) {
+      failures.report(SOURCE, "suppression summary " + e.getClass().getName(), 0, e);
+    }
+  }
+
+  private void startCoalesceTimer(long windowMillis) {
+    coalesceTimer =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "weblogic-logging-exporter-coalesce");
+              thread.setDaemon(true);
+              return thread;
+            });
+    long tickMillis = Math.max(1, windowMillis / 4);
+    coalesceTimer.scheduleWithFixedDelay(
+        () -> exportCoalesced(coalescer.drainExpired(System.currentTimeMillis())),
+        tickMillis,
+        tickMillis,
+        TimeUnit.MILLISECONDS);
+  }
+
+  private void exportCoalesced(List<WLLogRecord> coalesced) {
+    try {
+      for (WLLogRecord record : coalesced) {
+        export(record);
+      }
+    } catch (RuntimeException e) {
+      failures.report(SOURCE, "export of repeats " + e.getClass().getName(), 0, e);
+    }
   }
 
   @Override
   public void publish(LogRecord record) {
     WLLogRecord wlLogRecord = (WLLogRecord) record;
+    metrics.countPublished();
     if (!isLoggable(record)) {
+      metrics.countFiltered();
+      return;
+    }
+    if (coalescer != null && coalescer.absorb(wlLogRecord)) {
+      metrics.countCoalesced();
+      return;
+    }
+    if (rateLimiter != null && !rateLimiter.tryAcquire(wlLogRecord, System.nanoTime())) {
+      metrics.countDropped();
+      return;
+    }
+    export(wlLogRecord);
+  }
+
+  /** Sends a record that has passed the filters. */
+  private void export(WLLogRecord wlLogRecord) {
+    if (asyncSender != null) {
+      asyncSender.submit(wlLogRecord);
       return;
     }
     String payload = recordToPayload(wlLogRecord);
     if (bulkSize <= 1) {
-      Result result = executePutOrPostOnUrl(singleURL, payload, true);
-      if (!result.successful) {
-        System.out.println(
-            "<weblogic.logging.exporter.LogExportHandler> logging of "
-                + payload
-                + " got result "
-                + result);
+      HttpContent content = HttpContent.of(payload);
+      long start = System.nanoTime();
+      Result result = executePutOrPost(singlePath, content, true);
+      long length = content.getContentLength();
+      metrics.countRequest(length, length, System.nanoTime() - start);
+      if (result.successful) {
+        metrics.countSent(1);
+      } else if (!(BulkResponseParser.isRetryable(result.getStatus()) && spillPayload(payload))) {
+        metrics.countFailed(1);
+        failures.report(SOURCE, "status " + result.getStatus(), 1, result);
       }
     } else {
-      payloadBulkList.add(payload);
-      if (payloadBulkList.size() >= bulkSize) {
-        writeOutAllRecords();
+      List<String> fullBatch = bulkAccumulator.add(payload);
+      if (fullBatch != null) {
+        writeOutPayloads(fullBatch);
       }
     }
   }
@@ -80,137 +240,289 @@ class LogExportHandler extends Handler {
   @Override
   public void flush() {
     writeOutAllRecords();
+    if (bulkSenderPool != null) {
+      bulkSenderPool.awaitIdle(FLUSH_WAIT_MILLIS);
+    }
+  }
+
+  @Override
+  public void close() throws SecurityException {
+    if (rateLimitTimer != null) {
+      rateLimitTimer.shutdownNow();
+    }
+    if (coalesceTimer != null) {
+      coalesceTimer.shutdownNow();
+      exportCoalesced(coalescer.drainAll());
+    }
+    if (asyncSender != null) {
+      asyncSender.shutdown();
+    }
+    if (lingerTimer != null) {
+      lingerTimer.shutdownNow();
+    }
+    if (bulkAccumulator != null) {
+      // the partial batches, which nothing else sends without a linger timer
+      writeOutAllRecords();
+    }
+    if (retryScheduler != null) {
+      retryScheduler.shutdown();
+    }
+    if (bulkSenderPool != null) {
+      bulkSenderPool.shutdown();
+    }
+    if (spillReplayer != null) {
+      spillReplayer.shutdown();
+    }
+    if (spillLog != null) {
+      spillLog.close();
+    }
+    if (filterMetrics != null) {
+      filterMetrics.shutdown();
+    }
+    if (metricsEndpoint != null) {
+      metricsEndpoint.stop();
+    }
+    metrics.unregisterMBean();
+    failures.shutdown();
+    transport.close();
   }
 
   @Override
-  public void close() throws SecurityException {}
+  public synchronized void setLevel(Level newLevel) throws SecurityException {
+    super.setLevel(newLevel);
+    levelValue = newLevel.intValue();
+  }
 
   @Override
   public boolean isLoggable(LogRecord logEntry) {
-    final int levelValue = getLevel().intValue();
-    if (logEntry.getLevel().intValue() < levelValue || levelValue == offValue) {
+    WLLogRecord wlLogRecord = (WLLogRecord) logEntry;
+    int minimumValue = levelValue;
+    if (severityThresholds != null) {
+      int configured =
+          severityThresholds.levelValueFor(wlLogRecord.getSubsystem(), logEntry.getLoggerName());
+      if (configured != SeverityThresholds.NONE) {
+        minimumValue = configured;
+      }
+    }
+    if (logEntry.getLevel().intValue() < minimumValue || minimumValue == offValue) {
       return false;
     }
-    for (FilterConfig oneConfig : filterConfigs) {
+    return filterPlan.isEmpty() || filterPlan.accepts(wlLogRecord);
+  }
 
-      List<String> servers = oneConfig.getServers();
-      if (servers.size() == 0) {
-        if (oneConfig.getQuery() != null) {
-          if (applyFilter(oneConfig, (WLLogRecord) logEntry, null)) {
-            continue;
-          } else {
-            return false;
-          }
-        }
-      } else {
-        for (String server : servers) {
-          if (applyFilter(oneConfig, (WLLogRecord) logEntry, server)) {
-            continue;
-          } else {
-            return false;
-          }
+  private void writeOutAllRecords() {
+    for (List<String> batch : bulkAccumulator.drain()) {
+      writeOutPayloads(batch);
+    }
+  }
+
+  private void writeOutLingeringRecords(long lingerNanos) {
+    try {
+      for (List<String> batch : bulkAccumulator.drain(lingerNanos)) {
+        writeOutPayloads(batch);
+      }
+    } catch (RuntimeException e) {
+      // keep the timer running; the records will be retried on the next tick or flush
+      failures.report(SOURCE, "timed flush " + e.getClass().getName(), 0, e);
+    }
+  }
+
+  private void writeOutPayloads(List<String> payloads) {
+    BulkBody body = new BulkBody(bufferPool);
+    try {
+      for (String payload : payloads) {
+        body.appendDocument(payload);
+      }
+    } catch (RuntimeException e) {
+      body.release();
+      throw e;
+    }
+    dispatchBulk(body);
+  }
+
+  private void writeOutRecords(List<LogRecord> records) {
+    BulkBody body = new BulkBody(bufferPool);
+    try {
+      for (LogRecord record : records) {
+        CharSequence document = jsonEncoder.encodeInThreadBuffer((WLLogRecord) record);
+        if (bulkMaxBytes > 0
+            && !body.isEmpty()
+            && body.size() + document.length() > bulkMaxBytes) {
+          BulkBody full = body;
+          body = new BulkBody(bufferPool);
+          dispatchBulk(full);
         }
+        body.appendDocument(document);
       }
+    } catch (RuntimeException e) {
+      body.release();
+      throw e;
     }
-    return true;
+    dispatchBulk(body);
   }
 
-  private boolean applyFilter(FilterConfig oneConfig, WLLogRecord logEntry, String serverName) {
+  /** Sends a bulk body, on the sender pool if there is one, and releases it afterwards. */
+  private void dispatchBulk(BulkBody body) {
+    if (body.isEmpty()) {
+      body.release();
+    } else if (bulkSenderPool != null) {
+      bulkSenderPool.submit(body);
+    } else {
+      try {
+        writeOutBulk(body);
+      } finally {
+        body.release();
+      }
+    }
+  }
+
+  private Result writeOutBulk(BulkBody body) {
+    return handleBulkResponse(body, sendBulk(body));
+  }
+
+  private BulkResponse sendBulk(BulkBody body) {
+    metrics.countBulk(body.getDocumentCount());
+    if (gzipEnabled) {
+      GzipContent compressed = GzipContent.compress(body, bufferPool, gzipLevel);
+      try {
+        return postBulk(body.size(), compressed);
+      } finally {
+        compressed.release();
+      }
+    }
+    return postBulk(body.size(), body);
+  }
+
+  private BulkResponse postBulk(long rawBytes, HttpContent content) {
+    long start = System.nanoTime();
     try {
-      if ((serverName == null) || (serverName.equals(logEntry.getServerName()))) {
-        return oneConfig
-            .getQuery()
-            .executeQuery(LogVariablesImpl.getInstance().getLogVariablesResolver(logEntry));
+      return transport.send("POST", bulkPath, content, BulkResponseParser::read);
+    } catch (IOException e) {
+      return BulkResponse.requestFailed(0, String.valueOf(e));
+    } finally {
+      metrics.countRequest(rawBytes, content.getContentLength(), System.nanoTime() - start);
+    }
+  }
+
+  private Result handleBulkResponse(BulkBody body, BulkResponse response) {
+    if (response.isRequestFailed()) {
+      if (BulkResponseParser.isRetryable(response.getStatus())) {
+        int[] all = new int[body.getDocumentCount()];
+        for (int i = 0; i < all.length; i++) {
+          all[i] = i;
+        }
+        retryLater(body, all);
       } else {
-        return true;
+        metrics.countFailed(body.getDocumentCount());
+        failures.report(
+            SOURCE, "bulk status " + response.getStatus(), body.getDocumentCount(), response);
       }
-    } catch (QueryException ex) {
-      // if there is any error with this expression.
-      // TODO: give warning ?
-      return true;
+      return new Result(response.getFailureMessage(), response.getStatus(), false);
+    }
+    if (response.getPermanentFailureCount() > 0) {
+      metrics.countFailed(response.getPermanentFailureCount());
+      // the first error reads "<status> <type>: <reason>"; count the failures by status and type
+      String error = response.getFirstItemError();
+      int typeEnd = error == null ? -1 : error.indexOf(':');
+      failures.report(
+          SOURCE,
+          "rejected " + (typeEnd < 0 ? "items" : error.substring(0, typeEnd)),
+          response.getPermanentFailureCount(),
+          error);
     }
+    metrics.countSent(
+        body.getDocumentCount()
+            - response.getPermanentFailureCount()
+            - response.getRetryableCount());
+    if (response.getRetryableCount() > 0) {
+      retryLater(body, response.getRetryableItems());
+      // the cluster pushed back on part of the request; let the sender pool see that
+      return new Result(null, TOO_MANY_REQUESTS, false);
+    }
+    return new Result(null, response.getStatus(), true);
   }
 
-  private String dataAsJson(String fieldName, String data) {
-    return "\"" + fieldName + "\": \"" + data.replace("\"", "\\\"") + "\"";
+  private void retryLater(BulkBody body, int[] items) {
+    int retryNumber = body.getRetryCount() + 1;
+    if (retryScheduler == null || !retryScheduler.canRetry(body.getRetryCount())) {
+      spillOrGiveUp(body, items);
+      return;
+    }
+    BulkBody retry = new BulkBody(bufferPool);
+    retry.setRetryCount(retryNumber);
+    for (int item : items) {
+      retry.appendDocumentFrom(body, item);
+    }
+    long bytes = retry.size();
+    if (!retryScheduler.tryReserve(bytes)) {
+      // too much is already waiting for a retry; do not hold more buffers for it
+      retry.release();
+      metrics.countRetryOverflow(items.length);
+      spillOrGiveUp(body, items);
+      return;
+    }
+    if (retryScheduler.schedule(retryNumber, bytes, () -> dispatchBulk(retry))) {
+      metrics.countRetried(items.length);
+    } else {
+      retry.release();
+      spillOrGiveUp(body, items);
+    }
   }
 
-  private String dataAsJson(String fieldName, long data) {
-    return "\"" + fieldName + "\": " + data;
+  /** Keeps the items in the spill log for the replayer, or counts them as failed if it is full. */
+  private void spillOrGiveUp(BulkBody body, int[] items) {
+    int lost = 0;
+    for (int item : items) {
+      byte[] entry = body.getEntryBytes(item);
+      if (spillLog != null && spillLog.append(entry, 0, entry.length)) {
+        metrics.countSpilled();
+      } else {
+        lost++;
+      }
+    }
+    if (lost > 0) {
+      giveUp(lost, body.getRetryCount());
+    }
   }
 
-  private void writeOutAllRecords() {
-    StringBuilder buffer = new StringBuilder();
-    for (String oneRecord : payloadBulkList) {
-      buffer.append(INDEX);
-      buffer.append("\n");
-      buffer.append(oneRecord);
-      buffer.append("\n");
-    }
-    payloadBulkList.clear();
-    Result result = executePutOrPostOnUrl(bulkURL, buffer.toString(), true);
-    if (!result.successful) {
-      System.out.println(
-          "<weblogic.logging.exporter.LogExportHandler> logging of "
-              + buffer.toString()
-              + " got result "
-              + result);
+  /** Handles a record that the async sender's queue has no room for. */
+  private boolean spillRecord(LogRecord record) {
+    return spillPayload(jsonEncoder.encodeInThreadBuffer((WLLogRecord) record));
+  }
+
+  private boolean spillPayload(CharSequence document) {
+    if (spillLog == null) {
+      return false;
+    }
+    byte[] entry = BulkBody.encodeEntry(document);
+    if (!spillLog.append(entry, 0, entry.length)) {
+      return false;
     }
+    metrics.countSpilled();
+    return true;
   }
 
-  private Result executePutOrPostOnUrl(String url, String payload, boolean post) {
-    WebTarget target = httpClient.target(url);
-    Invocation.Builder invocationBuilder = target.request().accept("application/json");
-    Response response =
-        post
-            ? invocationBuilder.post(Entity.json(payload))
-            : invocationBuilder.put(Entity.json(payload));
-    String responseString = null;
-    int status = response.getStatus();
-    boolean successful = false;
-    if (response.getStatusInfo().getFamily() == Response.Status.Family.SUCCESSFUL) {
-      successful = true;
-      if (response.hasEntity()) {
-        responseString = String.valueOf(response.readEntity(String.class));
-      }
+  private void giveUp(int records, int retries) {
+    metrics.countFailed(records);
+    failures.report(SOURCE, "gave up after retries", records, retries + " retries");
+  }
+
+
+  /** @return the counters of the handler */
+  ExporterMetrics getMetrics() {
+    return metrics;
+  }
+
+  private Result executePutOrPost(String path, HttpContent content, boolean post) {
+    try {
+      return transport.send(post ? "POST" : "PUT", path, content);
+    } catch (IOException e) {
+      return new Result(String.valueOf(e), 0, false);
     }
-    return new Result(responseString, status, successful);
   }
 
   private String recordToPayload(WLLogRecord wlLogRecord) {
-    return "{"
-        + dataAsJson("messageID", wlLogRecord.getId())
-        + ","
-        + dataAsJson("message", wlLogRecord.getMessage())
-        + ","
-        + dataAsJson("timestamp", wlLogRecord.getMillis())
-        + ","
-        + dataAsJson("serverName", wlLogRecord.getServerName())
-        + ","
-        + dataAsJson("threadName", wlLogRecord.getThreadName())
-        + ","
-        + dataAsJson("severity", wlLogRecord.getSeverityString())
-        + ","
-        + dataAsJson("userId", wlLogRecord.getUserId())
-        + ","
-        + dataAsJson("level", wlLogRecord.getLevel().toString())
-        + ","
-        + dataAsJson("loggerName", wlLogRecord.getLoggerName())
-        + ","
-        + dataAsJson("formattedDate", wlLogRecord.getFormattedDate())
-        + ","
-        + dataAsJson("subSystem", wlLogRecord.getSubsystem())
-        + ","
-        + dataAsJson("machineName", wlLogRecord.getMachineName())
-        + ","
-        + dataAsJson("transactionId", wlLogRecord.getTransactionId())
-        + ","
-        + dataAsJson("diagnosticContextId", wlLogRecord.getDiagnosticContextId())
-        + ","
-        + dataAsJson("sequenceNumber", wlLogRecord.getSequenceNumber())
-        + ","
-        + dataAsJson("domainUID", domainUID)
-        + "}";
+    return jsonEncoder.encode(wlLogRecord);
   }
 
   private void initialize(Config config) {
@@ -223,22 +535,86 @@ class LogExportHandler extends Handler {
     if (severity != null) {
       setLevel(WLLevel.getLevel(Severities.severityStringToNum(severity)));
     }
+    severityThresholds =
+        SeverityThresholds.create(config.getSubsystemSeverities(), config.getLoggerSeverities());
+    if (config.getRateLimitPerSecond() > 0) {
+      rateLimiter =
+          new RateLimiter(
+              config.getRateLimitPerSecond(),
+              config.getRateLimitKey() == RateLimitKey.SUBSYSTEM
+                  ? WLLogRecord::getSubsystem
+                  : WLLogRecord::getId);
+    }
+    if (config.getCoalesceWindowMs() > 0) {
+      coalescer = new RecordCoalescer(config.getCoalesceWindowMs(), config.getCoalesceMaxKeys());
+    }
     indexName = config.getIndexName();
     bulkSize = config.getBulkSize();
-    filterConfigs = config.getFilterConfigs();
-    httpHostPort = "http://" + publishHost + ":" + publishPort;
-    singleURL = httpHostPort + "/" + indexName + "/" + DOC_TYPE + "/?pretty";
-    bulkURL = httpHostPort + "/" + indexName + "/" + DOC_TYPE + "/_bulk?pretty";
+    bulkLingerMs = config.getBulkLingerMs();
+    bulkMaxBytes = config.getBulkMaxBytes();
+    if (bulkSize > 1 && config.getBulkMaxRetries() > 0) {
+      retryScheduler =
+          new BulkRetryScheduler(
+              config.getBulkMaxRetries(),
+              config.getBulkRetryBackoffMs(),
+              config.getBulkRetryMaxMegabytes() * 1024L * 1024L);
+    }
+    gzipEnabled = config.isGzipEnabled();
+    gzipLevel = config.getGzipLevel();
+    bulkAccumulator = new BulkAccumulator(bulkSize, bulkMaxBytes);
+    bufferPool =
+        new ByteBufferPool(
+            config.getBufferSize(), config.getBufferPoolSize(), config.isDirectBuffers());
+    failures = FailureReporter.toStandardError();
+    failures.startSummaries(FAILURE_SUMMARY_MILLIS);
+    filterPlan = FilterPlan.compile(config.getFilterConfigs(), failures);
+    if (!filterPlan.getFilters().isEmpty()) {
+      filterMetrics =
+          new FilterMetrics(filterPlan, config.getSlowFilterMicros(), failures.getOut());
+      filterMetrics.registerMBeans();
+      if (config.getFilterStatsIntervalMs() > 0) {
+        filterMetrics.startSummaries(config.getFilterStatsIntervalMs());
+      }
+    }
     domainUID = config.getDomainUID();
+    metrics = new ExporterMetrics(domainUID);
+    jsonEncoder = new JsonRecordEncoder(domainUID);
+    if (config.getSpillDirectory() != null) {
+      try {
+        spillLog =
+            new SpillLog(
+                new File(config.getSpillDirectory()),
+                config.getSpillSegmentMegabytes() * 1024 * 1024,
+                config.getSpillMaxMegabytes() * 1024L * 1024L,
+                failures);
+      } catch (IOException e) {
+        System.out.println(
+            "<weblogic.logging.exporter.LogExportHandler> spill log disabled: " + e);
+      }
+    }
 
     //
     //  Set up the publishing variables...
     //
 
     httpHostPort = "http://" + publishHost + ":" + publishPort;
-    singleURL = httpHostPort + "/" + indexName + "/" + DOC_TYPE + "/?pretty";
-    bulkURL = httpHostPort + "/" + indexName + "/" + DOC_TYPE + "/_bulk?pretty";
-    fluentdURL = httpHostPort + "/" + indexName;
+    singlePath = "/" + indexName + "/" + DOC_TYPE + "/";
+    // only ask for what is needed to find the failed items
+    bulkPath =
+        "/" + indexName + "/" + DOC_TYPE + "/_bulk?filter_path=errors,items.*.status,items.*.error";
+    fluentdPath = "/" + indexName;
+    if (config.getHttpTransport() == HttpTransportType.JAX_RS) {
+      transport = new JaxRsTransport(httpHostPort);
+    } else {
+      transport =
+          new PooledHttpTransport(
+              publishHost,
+              publishPort,
+              // every bulk request in flight needs its own connection
+              Math.max(config.getHttpMaxConnections(), config.getMaxConcurrency()),
+              config.getHttpConnectTimeoutMs(),
+              config.getHttpReadTimeoutMs());
+    }
   }
 
   private void createMappings() {
@@ -253,6 +629,12 @@ class LogExportHandler extends Handler {
             + "        \"timestamp\": {"
             + "\"type\": \"date\" "
             + "},"
+            + "        \"firstTimestamp\": {"
+            + "\"type\": \"date\" "
+            + "},"
+            + "        \"lastTimestamp\": {"
+            + "\"type\": \"date\" "
+            + "},"
             + "        \"sequenceNumber\": {"
             + "\"type\": \"keyword\" "
             + "},"
@@ -294,7 +676,7 @@ class LogExportHandler extends Handler {
             + "  }"
             + "}";
 
-    Result result = executePutOrPostOnUrl(httpHostPort + "/" + indexName, mappings, false);
+    Result result = executePutOrPost("/" + indexName, HttpContent.of(mappings), false);
     if (!result.successful) {
       //noinspection StatementWithEmptyBody
       if (result.getStatus() == HttpURLConnection.HTTP_BAD_REQUEST) {
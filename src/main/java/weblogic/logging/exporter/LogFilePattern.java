@@ -0,0 +1,117 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * The names of a log file and of the generations it is rotated into, from a pattern in the syntax
+ * of {@link java.util.logging.FileHandler}: {@code %t} is the temporary directory, {@code %h} the
+ * user's home directory, {@code %g} the generation, {@code %u} a unique number and {@code %%} a
+ * percent sign. As no lock files are used, {@code %u} is always 0. As with {@code FileHandler},
+ * {@code .%g} is appended to a pattern without {@code %g} when more than one generation is kept.
+ * An older generation may have been compressed, into a file named with a {@code .gz} suffix.
+ */
+class LogFilePattern {
+
+  static final String GZIP_SUFFIX = ".gz";
+
+  private final String pattern;
+  private final int generations;
+
+  /**
+   * Creates the pattern.
+   *
+   * @param pattern the pattern of the file names
+   * @param generations the number of files kept, the current one included
+   */
+  LogFilePattern(String pattern, int generations) {
+    this.generations = Math.max(1, generations);
+    this.pattern = this.generations > 1 && !pattern.contains("%g") ? pattern + ".%g" : pattern;
+  }
+
+  /** @return the number of files kept, the current one included */
+  int getGenerations() {
+    return generations;
+  }
+
+  /** @return the file written to */
+  File currentFile() {
+    return fileFor(0);
+  }
+
+  /**
+   * Finds the file of a generation.
+   *
+   * @param generation 0 for the current file, higher numbers for older ones
+   * @return the file
+   */
+  File fileFor(int generation) {
+    StringBuilder name = new StringBuilder(pattern.length() + 16);
+    for (int i = 0; i < pattern.length(); i++) {
+      char c = pattern.charAt(i);
+      if (c != '%' || i + 1 == pattern.length()) {
+        name.append(c);
+        continue;
+      }
+      char next = pattern.charAt(++i);
+      switch (next) {
+        case 't':
+          name.append(System.getProperty("java.io.tmpdir"));
+          break;
+        case 'h':
+          name.append(System.getProperty("user.home"));
+          break;
+        case 'g':
+          name.append(generation);
+          break;
+        case 'u':
+          name.append('0');
+          break;
+        case '%':
+          name.append('%');
+          break;
+        default:
+          name.append(c).append(next);
+      }
+    }
+    return new File(name.toString());
+  }
+
+  /**
+   * Finds the compressed file of a generation.
+   *
+   * @param generation 1 or higher
+   * @return the file
+   */
+  File compressedFileFor(int generation) {
+    return new File(fileFor(generation).getPath() + GZIP_SUFFIX);
+  }
+
+  /**
+   * Moves every file one generation back, deleting the oldest, so that the current file name is
+   * free to be created again.
+   *
+   * @throws IOException if a file cannot be renamed
+   */
+  void rotate() throws IOException {
+    Files.deleteIfExists(fileFor(generations - 1).toPath());
+    Files.deleteIfExists(compressedFileFor(generations - 1).toPath());
+    for (int generation = generations - 2; generation >= 0; generation--) {
+      moveIfExists(fileFor(generation), fileFor(generation + 1));
+      if (generation > 0) {
+        moveIfExists(compressedFileFor(generation), compressedFileFor(generation + 1));
+      }
+    }
+  }
+
+  private static void moveIfExists(File from, File to) throws IOException {
+    if (from.exists()) {
+      Files.move(from.toPath(), to.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+}
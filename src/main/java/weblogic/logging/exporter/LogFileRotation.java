@@ -0,0 +1,251 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.BiConsumer;
+import java.util.zip.GZIPOutputStream;
+import weblogic.logging.exporter.config.FileCompression;
+
+/**
+ * Rotates the files of a {@link LogFilePattern} for the {@link AsyncFileHandler}, compresses the
+ * generations it has rotated and deletes the oldest ones once the rotated files take more than a
+ * total size.
+ *
+ * <p>Compression runs on a daemon thread of the lowest priority, so a rotation only waits for the
+ * renames. A rotation can move the file being compressed a generation back, or delete it, before
+ * the compression is finished; the generations waiting to be compressed are therefore moved along
+ * with the files, under the same lock, and the compressed file takes the place of whichever
+ * generation its source has reached by then. Rotated files that a previous run left uncompressed
+ * are compressed when the rotation is created.
+ */
+class LogFileRotation {
+
+  private static final String TEMPORARY_SUFFIX = ".gz.tmp";
+  private static final int COPY_BUFFER_BYTES = 64 * 1024;
+  private static final long SHUTDOWN_WAIT_MILLIS = 5000;
+
+  private final LogFilePattern files;
+  private final long maxTotalBytes;
+  private final BiConsumer<String, Exception> errors;
+  // rotated generations waiting to be compressed, the newest first; guarded by this
+  private final Deque<Generation> uncompressed = new ArrayDeque<>();
+  private final Thread compressor;
+  private volatile boolean running = true;
+  // the generation being compressed, if any; guarded by this
+  private Generation compressing;
+
+  /** The number of a rotated file, kept up to date as the file is moved back. */
+  private static final class Generation {
+    // -1 once the file has been deleted
+    private int number;
+
+    private Generation(int number) {
+      this.number = number;
+    }
+  }
+
+  /**
+   * Creates the rotation and, when files are compressed, starts the compressor thread.
+   *
+   * @param files the names of the files
+   * @param compression how rotated files are compressed
+   * @param maxTotalBytes the size of the rotated files above which the oldest are deleted, 0 for
+   *     no limit
+   * @param errors told about the files that cannot be compressed or deleted
+   */
+  LogFileRotation(
+      LogFilePattern files,
+      FileCompression compression,
+      long maxTotalBytes,
+      BiConsumer<String, Exception> errors) {
+    this.files = files;
+    this.maxTotalBytes = Math.max(0, maxTotalBytes);
+    this.errors = errors;
+    if (compression == FileCompression.GZIP && files.getGenerations() > 1) {
+      for (int generation = 1; generation < files.getGenerations(); generation++) {
+        if (files.fileFor(generation).exists()) {
+          uncompressed.addLast(new Generation(generation));
+        }
+      }
+      compressor = new Thread(this::compressLoop, "weblogic-logging-exporter-file-compressor");
+      compressor.setDaemon(true);
+      compressor.setPriority(Thread.MIN_PRIORITY);
+      compressor.start();
+    } else {
+      compressor = null;
+    }
+    synchronized (this) {
+      deleteOverRetention();
+    }
+  }
+
+  /**
+   * Moves every file one generation back, as {@link LogFilePattern#rotate} does, queues the file
+   * that was current to be compressed and deletes the oldest files while the rotated ones take
+   * more than the total size.
+   *
+   * @throws IOException if a file cannot be renamed
+   */
+  synchronized void rotate() throws IOException {
+    if (files.getGenerations() > 1) {
+      files.rotate();
+      for (Generation generation : uncompressed) {
+        generation.number++;
+      }
+      if (compressing != null && compressing.number >= 0) {
+        compressing.number++;
+      }
+      // rotate() has deleted the oldest generation
+      forget(files.getGenerations());
+      if (compressor != null) {
+        uncompressed.addFirst(new Generation(1));
+        notifyAll();
+      }
+    }
+    deleteOverRetention();
+  }
+
+  /**
+   * Stops the compressor after the file it is compressing, waiting a bounded time. Files left
+   * uncompressed are compressed by the next rotation created for the same pattern.
+   */
+  void close() {
+    if (compressor == null) {
+      return;
+    }
+    synchronized (this) {
+      running = false;
+      notifyAll();
+    }
+    try {
+      compressor.join(SHUTDOWN_WAIT_MILLIS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void compressLoop() {
+    File temporary = new File(files.currentFile().getPath() + TEMPORARY_SUFFIX);
+    // left over if a previous run stopped while compressing
+    temporary.delete();
+    while (true) {
+      Generation generation;
+      File file;
+      InputStream source;
+      synchronized (this) {
+        try {
+          while (running && uncompressed.isEmpty()) {
+            wait();
+          }
+        } catch (InterruptedException e) {
+          return;
+        }
+        if (!running) {
+          return;
+        }
+        // the oldest first, as it is the first to be deleted
+        generation = uncompressed.pollLast();
+        file = files.fileFor(generation.number);
+        try {
+          // once open, the file can be read to the end wherever it is moved
+          source = new FileInputStream(file);
+        } catch (FileNotFoundException e) {
+          continue;
+        }
+        compressing = generation;
+      }
+      try {
+        if (compress(source, temporary)) {
+          replaceWithCompressed(generation, temporary);
+        }
+      } catch (IOException e) {
+        errors.accept("cannot compress " + file, e);
+      } finally {
+        synchronized (this) {
+          compressing = null;
+        }
+        temporary.delete();
+      }
+    }
+  }
+
+  private boolean compress(InputStream source, File target) throws IOException {
+    try (InputStream in = source;
+        OutputStream out = new GZIPOutputStream(new FileOutputStream(target), COPY_BUFFER_BYTES)) {
+      byte[] buffer = new byte[COPY_BUFFER_BYTES];
+      int read;
+      while ((read = in.read(buffer)) > 0) {
+        if (!running) {
+          return false;
+        }
+        out.write(buffer, 0, read);
+      }
+    }
+    return true;
+  }
+
+  private synchronized void replaceWithCompressed(Generation generation, File temporary)
+      throws IOException {
+    if (generation.number < 0) {
+      return;
+    }
+    Files.move(
+        temporary.toPath(),
+        files.compressedFileFor(generation.number).toPath(),
+        StandardCopyOption.REPLACE_EXISTING);
+    Files.deleteIfExists(files.fileFor(generation.number).toPath());
+    deleteOverRetention();
+  }
+
+  // called holding the lock
+  private void deleteOverRetention() {
+    if (maxTotalBytes == 0) {
+      return;
+    }
+    long total = 0;
+    for (int generation = 1; generation < files.getGenerations(); generation++) {
+      total += sizeOf(generation);
+    }
+    for (int generation = files.getGenerations() - 1;
+        generation > 0 && total > maxTotalBytes;
+        generation--) {
+      long size = sizeOf(generation);
+      if (size == 0) {
+        continue;
+      }
+      try {
+        Files.deleteIfExists(files.fileFor(generation).toPath());
+        Files.deleteIfExists(files.compressedFileFor(generation).toPath());
+      } catch (IOException e) {
+        errors.accept("cannot delete " + files.fileFor(generation), e);
+        return;
+      }
+      total -= size;
+      forget(generation);
+    }
+  }
+
+  private long sizeOf(int generation) {
+    return files.fileFor(generation).length() + files.compressedFileFor(generation).length();
+  }
+
+  // called holding the lock, once the files of the generation are gone
+  private void forget(int number) {
+    uncompressed.removeIf(generation -> generation.number == number);
+    if (compressing != null && compressing.number == number) {
+      compressing.number = -1;
+    }
+  }
+}
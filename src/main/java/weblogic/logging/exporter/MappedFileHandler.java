@@ -0,0 +1,430 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import weblogic.logging.exporter.config.FileCompression;
+import weblogic.logging.exporter.config.FileRotationInterval;
+import weblogic.logging.exporter.config.FileSyncPolicy;
+
+/**
+ * Writes formatted records to a rotating log file through a memory-mapped window of the file,
+ * without a lock on the logging path. A logging thread formats and encodes its record, reserves
+ * room for it by advancing the position of the window atomically and copies the bytes into the
+ * mapping; the operating system writes the pages back to the disk.
+ *
+ * <p>The thread whose record does not fit in the window any more maps the next window of the file,
+ * once every record reserved before its own has been copied; threads that reserved after it wait
+ * for the new window. A file that would go over the size limit is trimmed to the records written
+ * and rotated, through {@link LogFileRotation}, in the same way. The file is trimmed again when the
+ * handler is closed; if the process stops without closing it, the unused end of the window is left
+ * filled with zero bytes, which are trimmed when the file is next added to.
+ *
+ * <p>While a window is mapped, the file is as long as the window and ends in zero bytes past the
+ * last record. Readers that tail the file, such as Fluentd or Logstash, take those bytes for
+ * records, so this handler is not suited to a file that a collector follows. Windows does not let
+ * a mapped file be truncated or renamed, so the handler is not used there.
+ *
+ * <p>With a {@link FileSyncPolicy} other than {@code none}, a window is forced to the disk when it
+ * is left, and the current one every sync interval: as records are not written in batches, {@code
+ * batch} is the same as {@code interval}. The same background thread rotates the file hourly or
+ * daily.
+ */
+class MappedFileHandler extends Handler {
+
+  private static final int MAX_WINDOW_BYTES = 64 * 1024 * 1024;
+  private static final int TRIM_READ_BYTES = 64 * 1024;
+  private static final ByteBuffer ZEROS = ByteBuffer.allocateDirect(64 * 1024);
+  private static final long MAX_WAIT_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+  private static final long SHUTDOWN_WAIT_MILLIS = 5000;
+
+  private final LogFilePattern files;
+  private final LogFileRotation rotation;
+  private final long limit;
+  private final FileRotationInterval rotationInterval;
+  private final FileSyncPolicy syncPolicy;
+  private final long syncIntervalMillis;
+  // held to change windows, and to force one, so that a window is not forced once trimmed away
+  private final Object windowLock = new Object();
+  private final Thread syncer;
+  private volatile Window window;
+  private volatile boolean running = true;
+  // guarded by windowLock
+  private long nextRotationMillis;
+
+  /** A mapped region of the current file and the records reserved in it. */
+  private static final class Window {
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final long base;
+    private final int size;
+    // bytes reserved, which goes past the size once the window is full
+    private final AtomicLong reserved;
+    // bytes copied into the buffer
+    private final AtomicLong committed;
+
+    private Window(FileChannel channel, long base, int size, int initial) throws IOException {
+      preallocate(channel, base + size);
+      this.channel = channel;
+      this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, base, size);
+      this.base = base;
+      this.size = size;
+      this.reserved = new AtomicLong(initial);
+      this.committed = new AtomicLong(initial);
+    }
+  }
+
+  /**
+   * Opens and maps the current file and, when the file is synced or rotated by time, starts the
+   * thread that does it.
+   *
+   * @param pattern the file names, in the syntax of {@code FileHandler}
+   * @param limit the size in bytes at which the file is rotated, 0 for no limit
+   * @param count the number of files kept, the current one included
+   * @param append true to add to the current file, false to start it empty
+   * @param rotationInterval how often the file is rotated, in addition to at the size limit
+   * @param compression how rotated files are compressed
+   * @param maxTotalBytes the size of the rotated files above which the oldest are deleted, 0 for
+   *     no limit
+   * @param syncPolicy whether the file is forced to the disk
+   * @param syncIntervalMillis the time between syncs, unless the policy is {@code none}
+   * @throws IOException if the file cannot be opened or mapped
+   */
+  MappedFileHandler(
+      String pattern,
+      long limit,
+      int count,
+      boolean append,
+      FileRotationInterval rotationInterval,
+      FileCompression compression,
+      long maxTotalBytes,
+      FileSyncPolicy syncPolicy,
+      long syncIntervalMillis)
+      throws IOException {
+    this.files = new LogFilePattern(pattern, count);
+    this.limit = Math.max(0, limit);
+    this.rotationInterval = rotationInterval;
+    this.syncPolicy = syncPolicy;
+    this.syncIntervalMillis = Math.max(1, syncIntervalMillis);
+    synchronized (windowLock) {
+      FileChannel channel = openCurrentFile(append);
+      this.window = map(channel, channel.size(), 0);
+    }
+    this.rotation =
+        new LogFileRotation(
+            files,
+            compression,
+            maxTotalBytes,
+            (message, e) -> reportError(message, e, ErrorManager.GENERIC_FAILURE));
+    if (syncPolicy != FileSyncPolicy.NONE || rotationInterval != FileRotationInterval.NONE) {
+      this.syncer = new Thread(this::syncLoop, "weblogic-logging-exporter-file-sync");
+      this.syncer.setDaemon(true);
+      this.syncer.start();
+    } else {
+      this.syncer = null;
+    }
+  }
+
+  @Override
+  public void publish(LogRecord record) {
+    if (!running || !isLoggable(record)) {
+      return;
+    }
+    byte[] line;
+    try {
+      line = getFormatter().format(record).getBytes(StandardCharsets.UTF_8);
+    } catch (RuntimeException e) {
+      reportError(null, e, ErrorManager.FORMAT_FAILURE);
+      return;
+    }
+    if (line.length == 0) {
+      return;
+    }
+    Window current;
+    while ((current = window) != null) {
+      long position = current.reserved.getAndAdd(line.length);
+      if (position + line.length <= current.size) {
+        copy(current, position, line);
+        return;
+      }
+      if (position <= current.size) {
+        // this record is the first that does not fit, so it is up to this thread to move on
+        moveOn(current, position, line, false);
+        return;
+      }
+      awaitNextWindow(current);
+    }
+  }
+
+  /** Forces the current window to the disk. */
+  @Override
+  public void flush() {
+    try {
+      force(window);
+    } catch (RuntimeException e) {
+      reportError(null, e, ErrorManager.FLUSH_FAILURE);
+    }
+  }
+
+  /**
+   * Waits for the records being copied, trims the file to them, forces it to the disk unless the
+   * sync policy is {@code none} and stops compressing rotated files.
+   */
+  @Override
+  public void close() {
+    running = false;
+    seal(true);
+    if (syncer != null) {
+      synchronized (windowLock) {
+        windowLock.notifyAll();
+      }
+      try {
+        syncer.join(SHUTDOWN_WAIT_MILLIS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    rotation.close();
+  }
+
+  private static void copy(Window window, long position, byte[] line) {
+    try {
+      ByteBuffer target = window.buffer.duplicate();
+      target.position((int) position);
+      target.put(line);
+    } finally {
+      // even if the copy failed, as the thread that moves on waits for it
+      window.committed.addAndGet(line.length);
+    }
+  }
+
+  /**
+   * Reserves the rest of the current window, so that no more records are copied into it, and
+   * either rotates the file or, when closing, trims it and closes it.
+   */
+  private void seal(boolean closing) {
+    Window current;
+    while ((current = window) != null) {
+      long position = current.reserved.getAndAdd(current.size + 1L);
+      if (position <= current.size) {
+        moveOn(current, position, null, closing);
+        return;
+      }
+      awaitNextWindow(current);
+    }
+  }
+
+  /**
+   * Replaces a full window, once the records before the given position have been copied into it,
+   * with the next window of the file or the first of a rotated file. The line that did not fit is
+   * copied to the start of the new window; without a line, the file is rotated or, when closing,
+   * closed.
+   */
+  private void moveOn(Window current, long position, byte[] line, boolean closing) {
+    awaitCommitted(current, position);
+    long end = current.base + position;
+    int length = line == null ? 0 : line.length;
+    Window next = null;
+    synchronized (windowLock) {
+      try {
+        if (closing) {
+          finish(current, end);
+        } else if (line == null || (limit > 0 && end > 0 && end + length > limit)) {
+          finish(current, end);
+          rotation.rotate();
+          next = map(openCurrentFile(false), 0, length);
+        } else {
+          force(current);
+          next = map(current.channel, end, length);
+        }
+        if (next != null && line != null) {
+          next.buffer.duplicate().put(line);
+        }
+      } catch (IOException | RuntimeException e) {
+        reportError("cannot write to " + files.currentFile(), e, ErrorManager.WRITE_FAILURE);
+        if (next == null && !closing) {
+          // without a window the records that follow are dropped
+          running = false;
+          closeQuietly(current.channel);
+        }
+      } finally {
+        window = next;
+        windowLock.notifyAll();
+      }
+    }
+  }
+
+  private void awaitCommitted(Window current, long position) {
+    long parkNanos = 1000;
+    while (current.committed.get() < position) {
+      LockSupport.parkNanos(parkNanos);
+      parkNanos = Math.min(parkNanos * 2, MAX_WAIT_PARK_NANOS);
+    }
+  }
+
+  private void awaitNextWindow(Window current) {
+    long parkNanos = 1000;
+    while (window == current) {
+      LockSupport.parkNanos(parkNanos);
+      parkNanos = Math.min(parkNanos * 2, MAX_WAIT_PARK_NANOS);
+    }
+  }
+
+  // called holding windowLock
+  private Window map(FileChannel channel, long base, int length) throws IOException {
+    long size = MAX_WINDOW_BYTES;
+    if (limit > 0) {
+      size = Math.min(size, Math.max(1, limit - base));
+    }
+    return new Window(channel, base, (int) Math.max(size, length), length);
+  }
+
+  /**
+   * Writes zeros up to the end of a window before it is mapped. A mapping does not allocate the
+   * disk blocks behind it, and a page that cannot be written back, because the disk is full, faults
+   * on the thread copying a record into it as an {@link InternalError}; written through the
+   * channel, a full disk is an {@link IOException} for {@link #moveOn} to report.
+   */
+  private static void preallocate(FileChannel channel, long end) throws IOException {
+    long position = channel.size();
+    while (position < end) {
+      ByteBuffer zeros = ZEROS.duplicate();
+      zeros.limit((int) Math.min(zeros.capacity(), end - position));
+      position += channel.write(zeros, position);
+    }
+  }
+
+  // called holding windowLock
+  private void finish(Window current, long end) throws IOException {
+    if (syncPolicy != FileSyncPolicy.NONE) {
+      current.buffer.force();
+    }
+    try {
+      current.channel.truncate(end);
+    } finally {
+      current.channel.close();
+    }
+  }
+
+  private void force(Window current) {
+    if (current == null || syncPolicy == FileSyncPolicy.NONE) {
+      return;
+    }
+    synchronized (windowLock) {
+      if (current.channel.isOpen()) {
+        current.buffer.force();
+      }
+    }
+  }
+
+  // called holding windowLock
+  private FileChannel openCurrentFile(boolean append) throws IOException {
+    File file = files.currentFile();
+    FileChannel channel =
+        FileChannel.open(
+            file.toPath(),
+            StandardOpenOption.CREATE,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+    if (append) {
+      trimTrailingZeros(channel);
+    } else {
+      channel.truncate(0);
+    }
+    // a file added to is rotated at the end of the hour or day it was last written in
+    long lastWritten = channel.size() > 0 ? file.lastModified() : System.currentTimeMillis();
+    nextRotationMillis =
+        rotationInterval.nextRotationAfter(
+            ZonedDateTime.ofInstant(Instant.ofEpochMilli(lastWritten), ZoneId.systemDefault()));
+    return channel;
+  }
+
+  // removes the unused end of a window that was not trimmed when the file was last written
+  private static void trimTrailingZeros(FileChannel channel) throws IOException {
+    ByteBuffer block = ByteBuffer.allocate(TRIM_READ_BYTES);
+    long end = channel.size();
+    while (end > 0) {
+      long start = Math.max(0, end - TRIM_READ_BYTES);
+      block.clear().limit((int) (end - start));
+      while (block.hasRemaining() && channel.read(block, start + block.position()) >= 0) {
+        // read the whole block
+      }
+      int last = block.position() - 1;
+      while (last >= 0 && block.get(last) == 0) {
+        last--;
+      }
+      if (last >= 0) {
+        end = start + last + 1;
+        break;
+      }
+      end = start;
+    }
+    if (end < channel.size()) {
+      channel.truncate(end);
+    }
+  }
+
+  private void syncLoop() {
+    long nextSyncMillis = System.currentTimeMillis() + syncIntervalMillis;
+    while (running) {
+      boolean rotate;
+      synchronized (windowLock) {
+        long now = System.currentTimeMillis();
+        long due =
+            syncPolicy == FileSyncPolicy.NONE
+                ? nextRotationMillis
+                : Math.min(nextSyncMillis, nextRotationMillis);
+        if (now < due) {
+          try {
+            windowLock.wait(due - now);
+          } catch (InterruptedException e) {
+            return;
+          }
+          continue;
+        }
+        rotate = now >= nextRotationMillis;
+        if (rotate && isEmpty(window)) {
+          // nothing to rotate yet; wait for the next hour or day
+          nextRotationMillis =
+              rotationInterval.nextRotationAfter(
+                  ZonedDateTime.ofInstant(Instant.ofEpochMilli(now), ZoneId.systemDefault()));
+          rotate = false;
+        }
+      }
+      if (rotate) {
+        seal(false);
+      } else {
+        flush();
+        nextSyncMillis = System.currentTimeMillis() + syncIntervalMillis;
+      }
+    }
+  }
+
+  private static boolean isEmpty(Window current) {
+    return current != null && current.base == 0 && current.reserved.get() == 0;
+  }
+
+  private void closeQuietly(FileChannel channel) {
+    try {
+      channel.close();
+    } catch (IOException e) {
+      reportError(null, e, ErrorManager.CLOSE_FAILURE);
+    }
+  }
+}
@@ -0,0 +1,528 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A small HTTP/1.1 client that keeps a pool of persistent connections to a single host. Up to
+ * {@code maxConnections} requests can be in flight at once, each on its own connection; further
+ * callers wait for a connection to become free. Bodies are written straight from their buffers to
+ * the socket channel, and every response is read to the end so the connection can be reused.
+ *
+ * <p>A request is only sent again on a new connection when it cannot have reached the server: the
+ * pooled connection was found closed before the request was written, or writing the request
+ * failed. A connection that fails once the request has been written may have been closed after
+ * the server processed the request, so the error is passed up to the bulk retry logic rather than
+ * risk indexing the documents twice.
+ *
+ * <p>Writes to a socket channel have no timeout of their own, so a watchdog closes a connection
+ * when a single write to it blocks for longer than the read timeout; a server that stopped reading
+ * would otherwise hold the connection, and the caller, for ever.
+ */
+class PooledHttpTransport implements HttpTransport {
+
+  private static final long IDLE_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(30);
+  private static final int MAX_LINE_LENGTH = 8192;
+  private static final long WATCHDOG_KEEP_ALIVE_SECONDS = 10;
+
+  private final InetSocketAddress address;
+  private final String hostHeader;
+  private final int maxConnections;
+  private final int connectTimeoutMillis;
+  private final int readTimeoutMillis;
+  private final Semaphore permits;
+  private final BoundedRingQueue<Connection> idleConnections;
+  private final AtomicInteger openConnections = new AtomicInteger();
+  private final ScheduledThreadPoolExecutor writeWatchdog;
+  private volatile boolean closed;
+
+  /**
+   * Creates a transport. Connections are opened lazily.
+   *
+   * @param host the host to connect to
+   * @param port the port to connect to
+   * @param maxConnections the maximum number of concurrent requests and pooled connections
+   * @param connectTimeoutMillis the connect timeout
+   * @param readTimeoutMillis the maximum time to wait for response data, and for a single write to
+   *     complete; 0 for no limit
+   */
+  PooledHttpTransport(
+      String host, int port, int maxConnections, int connectTimeoutMillis, int readTimeoutMillis) {
+    this.address = InetSocketAddress.createUnresolved(host, port);
+    this.hostHeader = host + ":" + port;
+    this.connectTimeoutMillis = connectTimeoutMillis;
+    this.readTimeoutMillis = readTimeoutMillis;
+    this.maxConnections = Math.max(1, maxConnections);
+    this.permits = new Semaphore(this.maxConnections, true);
+    this.idleConnections = new BoundedRingQueue<>(this.maxConnections);
+    this.writeWatchdog =
+        new ScheduledThreadPoolExecutor(
+            1,
+            runnable -> {
+              Thread thread = new Thread(runnable, "weblogic-logging-exporter-http-watchdog");
+              thread.setDaemon(true);
+              return thread;
+            });
+    // the thread ends while no request is being written, so a discarded transport leaves none
+    writeWatchdog.setKeepAliveTime(WATCHDOG_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+    writeWatchdog.allowCoreThreadTimeOut(true);
+    writeWatchdog.setRemoveOnCancelPolicy(true);
+  }
+
+  @Override
+  public <T> T send(String method, String path, HttpContent content, ResponseHandler<T> handler)
+      throws IOException {
+    try {
+      permits.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while waiting for a connection to " + hostHeader);
+    }
+    try {
+      Connection connection = takeIdleConnection();
+      if (connection != null) {
+        try {
+          return exchangeAndRelease(connection, method, path, content, handler);
+        } catch (StaleConnectionException e) {
+          // the server closed the idle connection before taking the request; use a fresh one
+        }
+      }
+      return exchangeAndRelease(openConnection(), method, path, content, handler);
+    } finally {
+      permits.release();
+    }
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    Connection connection;
+    while ((connection = idleConnections.poll()) != null) {
+      connection.close();
+    }
+  }
+
+  private Connection takeIdleConnection() {
+    long now = System.nanoTime();
+    while (true) {
+      Connection connection = idleConnections.poll();
+      if (connection == null) {
+        if (openConnections.get() < maxConnections) {
+          return null;
+        }
+        // every connection is open and we hold a permit, so one is being returned to the queue
+        Thread.yield();
+      } else if (now - connection.lastUsedNanos < IDLE_TIMEOUT_NANOS
+          && connection.channel.isOpen()
+          && !isClosedByServer(connection)) {
+        return connection;
+      } else {
+        connection.close();
+      }
+    }
+  }
+
+  /**
+   * Checks, without waiting, whether the server has closed an idle connection: nothing should
+   * arrive on a connection between a response and the next request but the end of the stream.
+   */
+  private static boolean isClosedByServer(Connection connection) {
+    try {
+      if (connection.in.available() > 0) {
+        return true;
+      }
+      connection.channel.configureBlocking(false);
+      try {
+        return connection.channel.read(ByteBuffer.allocate(1)) != 0;
+      } finally {
+        connection.channel.configureBlocking(true);
+      }
+    } catch (IOException e) {
+      return true;
+    }
+  }
+
+  private Connection openConnection() throws IOException {
+    SocketChannel channel = SocketChannel.open();
+    try {
+      channel.socket().setTcpNoDelay(true);
+      channel.socket().setKeepAlive(true);
+      channel.socket().connect(resolve(), connectTimeoutMillis);
+      channel.socket().setSoTimeout(readTimeoutMillis);
+      return new Connection(channel, openConnections);
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  private InetSocketAddress resolve() {
+    return new InetSocketAddress(address.getHostString(), address.getPort());
+  }
+
+  private <T> T exchangeAndRelease(
+      Connection connection,
+      String method,
+      String path,
+      HttpContent content,
+      ResponseHandler<T> handler)
+      throws IOException {
+    boolean reusable = false;
+    try {
+      try {
+        writeRequest(connection, method, path, content);
+      } catch (SocketTimeoutException e) {
+        // the server is not reading; another connection to it would only wait as long
+        throw e;
+      } catch (IOException e) {
+        // the request is incomplete, so the server cannot have processed it
+        throw new StaleConnectionException(e);
+      }
+      awaitResponse(connection.in);
+      Response response = readResponseHead(connection.in, method);
+      T value = handler.handle(response.status, response.body);
+      // read whatever the handler left so that the next response starts at the right place
+      response.body.skipToEnd();
+      reusable = response.keepAlive;
+      return value;
+    } finally {
+      if (reusable && !closed) {
+        connection.lastUsedNanos = System.nanoTime();
+        if (!idleConnections.offer(connection)) {
+          connection.close();
+        }
+      } else {
+        connection.close();
+      }
+    }
+  }
+
+  private void writeRequest(Connection connection, String method, String path, HttpContent content)
+      throws IOException {
+    String encoding = content.getContentEncoding();
+    String head =
+        method
+            + " "
+            + path
+            + " HTTP/1.1\r\n"
+            + "Host: "
+            + hostHeader
+            + "\r\n"
+            + "Accept: application/json\r\n"
+            + "Content-Type: application/json\r\n"
+            + (encoding == null ? "" : "Content-Encoding: " + encoding + "\r\n")
+            + "Content-Length: "
+            + content.getContentLength()
+            + "\r\n"
+            + "Connection: keep-alive\r\n"
+            + "\r\n";
+    WritableByteChannel channel = new TimedChannel(connection);
+    ByteBuffer headBuffer = ByteBuffer.wrap(head.getBytes(StandardCharsets.US_ASCII));
+    while (headBuffer.hasRemaining()) {
+      channel.write(headBuffer);
+    }
+    content.writeTo(channel);
+  }
+
+  private static void awaitResponse(InputStream in) throws IOException {
+    in.mark(1);
+    if (in.read() < 0) {
+      throw new EOFException("Connection closed before the response");
+    }
+    in.reset();
+  }
+
+  private Response readResponseHead(InputStream in, String method) throws IOException {
+    Response response = new Response();
+    String statusLine = readLine(in);
+    String[] statusParts = statusLine.split(" ", 3);
+    if (statusParts.length < 2 || !statusParts[0].startsWith("HTTP/")) {
+      throw new IOException("Malformed HTTP status line: " + statusLine);
+    }
+    try {
+      response.status = Integer.parseInt(statusParts[1]);
+    } catch (NumberFormatException e) {
+      throw new IOException("Malformed HTTP status line: " + statusLine);
+    }
+    response.keepAlive = !"HTTP/1.0".equals(statusParts[0]);
+
+    long contentLength = -1;
+    boolean chunked = false;
+    String line;
+    while (!(line = readLine(in)).isEmpty()) {
+      int colon = line.indexOf(':');
+      if (colon <= 0) {
+        continue;
+      }
+      String name = line.substring(0, colon).trim().toLowerCase(Locale.ROOT);
+      String value = line.substring(colon + 1).trim();
+      if (name.equals("content-length")) {
+        try {
+          contentLength = Long.parseLong(value);
+        } catch (NumberFormatException e) {
+          throw new IOException("Malformed Content-Length: " + value);
+        }
+      } else if (name.equals("transfer-encoding")) {
+        chunked = value.toLowerCase(Locale.ROOT).contains("chunked");
+      } else if (name.equals("connection")) {
+        response.keepAlive = !value.equalsIgnoreCase("close");
+      }
+    }
+
+    boolean noBody =
+        "HEAD".equals(method)
+            || response.status / 100 == 1
+            || response.status == 204
+            || response.status == 304;
+    if (noBody) {
+      response.body = new FixedLengthBody(in, 0);
+    } else if (chunked) {
+      response.body = new ChunkedBody(in);
+    } else if (contentLength >= 0) {
+      response.body = new FixedLengthBody(in, contentLength);
+    } else {
+      // no length: the body ends when the server closes the connection
+      response.body = new FixedLengthBody(in, Long.MAX_VALUE);
+      response.keepAlive = false;
+    }
+    return response;
+  }
+
+  private static String readLine(InputStream in) throws IOException {
+    StringBuilder line = new StringBuilder();
+    int b;
+    while ((b = in.read()) != '\n') {
+      if (b < 0) {
+        throw new EOFException("Connection closed while reading the response");
+      }
+      if (b != '\r') {
+        if (line.length() >= MAX_LINE_LENGTH) {
+          throw new IOException("Response line too long");
+        }
+        line.append((char) b);
+      }
+    }
+    return line.toString();
+  }
+
+  /** Writes to a connection, closing it if a single write takes longer than the read timeout. */
+  private class TimedChannel implements WritableByteChannel {
+    private final Connection connection;
+
+    TimedChannel(Connection connection) {
+      this.connection = connection;
+    }
+
+    @Override
+    public int write(ByteBuffer source) throws IOException {
+      if (readTimeoutMillis == 0) {
+        return connection.channel.write(source);
+      }
+      connection.startWrite();
+      ScheduledFuture<?> watchdog =
+          writeWatchdog.schedule(connection::abortWrite, readTimeoutMillis, TimeUnit.MILLISECONDS);
+      try {
+        return connection.channel.write(source);
+      } catch (IOException e) {
+        if (connection.isWriteAborted()) {
+          throw new SocketTimeoutException(
+              "Write to " + hostHeader + " blocked for more than " + readTimeoutMillis + " ms");
+        }
+        throw e;
+      } finally {
+        connection.endWrite();
+        watchdog.cancel(false);
+      }
+    }
+
+    @Override
+    public boolean isOpen() {
+      return connection.channel.isOpen();
+    }
+
+    @Override
+    public void close() {
+      // the connection outlives the request
+    }
+  }
+
+  /** Signals that a request failed before the server could have received all of it. */
+  private static class StaleConnectionException extends IOException {
+    StaleConnectionException(IOException cause) {
+      super(cause.getMessage(), cause);
+    }
+  }
+
+  private static class Response {
+    private int status;
+    private boolean keepAlive;
+    private ResponseBody body;
+  }
+
+  /** A response body read from the connection's stream; closing it does not close the socket. */
+  private abstract static class ResponseBody extends InputStream {
+
+    @Override
+    public int read() throws IOException {
+      byte[] single = new byte[1];
+      return read(single, 0, 1) < 0 ? -1 : single[0] & 0xFF;
+    }
+
+    void skipToEnd() throws IOException {
+      byte[] chunk = new byte[8192];
+      while (read(chunk, 0, chunk.length) >= 0) {
+        // discard
+      }
+    }
+  }
+
+  private static class FixedLengthBody extends ResponseBody {
+    private final InputStream in;
+    private final boolean untilClose;
+    private long remaining;
+
+    FixedLengthBody(InputStream in, long length) {
+      this.in = in;
+      this.untilClose = length == Long.MAX_VALUE;
+      this.remaining = length;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+      if (remaining <= 0) {
+        return -1;
+      }
+      int read = in.read(bytes, offset, (int) Math.min(length, remaining));
+      if (read < 0) {
+        if (untilClose) {
+          remaining = 0;
+          return -1;
+        }
+        throw new EOFException("Connection closed before the end of the response body");
+      }
+      remaining -= read;
+      return read;
+    }
+  }
+
+  private static class ChunkedBody extends ResponseBody {
+    private final InputStream in;
+    private long chunkRemaining;
+    private boolean finished;
+
+    ChunkedBody(InputStream in) {
+      this.in = in;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+      if (finished) {
+        return -1;
+      }
+      if (chunkRemaining == 0 && !nextChunk()) {
+        return -1;
+      }
+      int read = in.read(bytes, offset, (int) Math.min(length, chunkRemaining));
+      if (read < 0) {
+        throw new EOFException("Connection closed before the end of the response body");
+      }
+      chunkRemaining -= read;
+      if (chunkRemaining == 0) {
+        readLine(in);
+      }
+      return read;
+    }
+
+    private boolean nextChunk() throws IOException {
+      String sizeLine = readLine(in);
+      int extension = sizeLine.indexOf(';');
+      String size = (extension >= 0 ? sizeLine.substring(0, extension) : sizeLine).trim();
+      try {
+        chunkRemaining = Long.parseLong(size, 16);
+      } catch (NumberFormatException e) {
+        throw new IOException("Malformed chunk size: " + sizeLine);
+      }
+      if (chunkRemaining == 0) {
+        while (!readLine(in).isEmpty()) {
+          // skip trailers
+        }
+        finished = true;
+        return false;
+      }
+      return true;
+    }
+  }
+
+  private static class Connection {
+    private final SocketChannel channel;
+    private final InputStream in;
+    private final AtomicInteger openConnections;
+    private long lastUsedNanos;
+    private boolean closed;
+    // guarded by this, as the watchdog thread reads them
+    private boolean writing;
+    private boolean writeAborted;
+
+    Connection(SocketChannel channel, AtomicInteger openConnections) throws IOException {
+      this.channel = channel;
+      this.in = new BufferedInputStream(channel.socket().getInputStream());
+      this.openConnections = openConnections;
+      openConnections.incrementAndGet();
+    }
+
+    synchronized void startWrite() {
+      writing = true;
+    }
+
+    synchronized void endWrite() {
+      writing = false;
+    }
+
+    synchronized boolean isWriteAborted() {
+      return writeAborted;
+    }
+
+    /** Closes the channel if a write is still blocked, which makes the write fail. */
+    synchronized void abortWrite() {
+      if (!writing) {
+        return;
+      }
+      writeAborted = true;
+      try {
+        channel.close();
+      } catch (IOException e) {
+        // the write fails all the same
+      }
+    }
+
+    void close() {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      openConnections.decrementAndGet();
+      try {
+        channel.close();
+      } catch (IOException e) {
+        // nothing more to do with a broken connection
+      }
+    }
+  }
+}
@@ -0,0 +1,84 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Serves the {@link ExporterMetrics} in the Prometheus text format at {@code /metrics}, on a port
+ * of its own and a single daemon thread, for scraping next to the WebLogic Monitoring Exporter.
+ */
+class PrometheusEndpoint {
+
+  static final String PATH = "/metrics";
+  private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+  private final ExporterMetrics metrics;
+  private final HttpServer server;
+  private final ExecutorService executor;
+
+  /**
+   * Starts the endpoint.
+   *
+   * @param metrics the metrics to serve
+   * @param port the port to listen on, on all addresses; 0 picks a free one
+   * @throws IOException if the port cannot be bound
+   */
+  PrometheusEndpoint(ExporterMetrics metrics, int port) throws IOException {
+    this.metrics = metrics;
+    this.server = HttpServer.create(new InetSocketAddress(port), 0);
+    this.executor =
+        Executors.newSingleThreadExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "weblogic-logging-exporter-metrics");
+              thread.setDaemon(true);
+              return thread;
+            });
+    server.createContext(PATH, this::handle);
+    server.setExecutor(executor);
+    server.start();
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    try (InputStream in = exchange.getRequestBody()) {
+      // nothing is expected in the body, but it must be read for the connection to be reused
+      while (in.read() >= 0) {
+        continue;
+      }
+      if (!"GET".equals(exchange.getRequestMethod())) {
+        exchange.sendResponseHeaders(405, -1);
+        return;
+      }
+      StringBuilder text = new StringBuilder(4096);
+      metrics.writePrometheus(text);
+      byte[] body = text.toString().getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+      exchange.sendResponseHeaders(200, body.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(body);
+      }
+    } finally {
+      exchange.close();
+    }
+  }
+
+  /** @return the port the endpoint listens on */
+  int getPort() {
+    return server.getAddress().getPort();
+  }
+
+  /** Stops the endpoint. */
+  void stop() {
+    server.stop(0);
+    executor.shutdownNow();
+  }
+}
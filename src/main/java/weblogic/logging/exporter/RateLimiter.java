@@ -0,0 +1,172 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import weblogic.logging.WLLevel;
+import weblogic.logging.WLLogRecord;
+
+/**
+ * Limits how many records with the same key, e.g. the same message ID, are exported per second.
+ * The records of the current second are counted in a count-min sketch, so memory does not grow
+ * with the number of keys; a sketch can only overestimate, so a rare key may occasionally be
+ * limited together with a frequent one that shares its counters. Records of severity Error and
+ * above are never suppressed. The suppressed records are counted per key, for a bounded number of
+ * keys, and reported by {@link #drainSummaries(long)}.
+ */
+class RateLimiter {
+
+  static final int MAX_TRACKED_KEYS = 1024;
+  private static final int DEPTH = 4;
+  private static final int WIDTH = 4096;
+  private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+  private static final int EXEMPT_LEVEL_VALUE = WLLevel.ERROR.intValue();
+
+  private final int limitPerSecond;
+  private final Function<WLLogRecord, String> keyOf;
+  private final AtomicIntegerArray counts = new AtomicIntegerArray(DEPTH * WIDTH);
+  private final Map<String, Suppressed> suppressed = new ConcurrentHashMap<>();
+  private final Suppressed otherSuppressed = new Suppressed(null);
+  private volatile long currentWindow;
+
+  /**
+   * Creates a rate limiter.
+   *
+   * @param limitPerSecond the number of records with the same key exported per second
+   * @param keyOf reads the key of a record
+   */
+  RateLimiter(int limitPerSecond, Function<WLLogRecord, String> keyOf) {
+    this.limitPerSecond = limitPerSecond;
+    this.keyOf = keyOf;
+  }
+
+  /**
+   * Counts a record and tells whether it may be exported.
+   *
+   * @param record the record
+   * @param nowNanos the current {@link System#nanoTime()}
+   * @return false if the record is to be suppressed
+   */
+  boolean tryAcquire(WLLogRecord record, long nowNanos) {
+    if (record.getLevel().intValue() >= EXEMPT_LEVEL_VALUE) {
+      return true;
+    }
+    String key = keyOf.apply(record);
+    if (key == null) {
+      return true;
+    }
+    startWindow(nowNanos / WINDOW_NANOS);
+    int hash = spread(key.hashCode());
+    int estimate = Integer.MAX_VALUE;
+    for (int row = 0; row < DEPTH; row++) {
+      int column = spread(hash + row * 0x9E3779B9) & (WIDTH - 1);
+      estimate = Math.min(estimate, counts.incrementAndGet(row * WIDTH + column));
+    }
+    if (estimate <= limitPerSecond) {
+      return true;
+    }
+    countSuppressed(key, record);
+    return false;
+  }
+
+  private void startWindow(long window) {
+    if (window == currentWindow) {
+      return;
+    }
+    synchronized (this) {
+      if (window != currentWindow) {
+        // counts from threads still in the old window may leak into the new one; that is harmless
+        for (int i = 0; i < counts.length(); i++) {
+          counts.set(i, 0);
+        }
+        currentWindow = window;
+      }
+    }
+  }
+
+  private static int spread(int hash) {
+    hash *= 0x85EBCA6B;
+    return hash ^ (hash >>> 16);
+  }
+
+  private void countSuppressed(String key, WLLogRecord record) {
+    Suppressed entry = suppressed.get(key);
+    if (entry == null) {
+      if (suppressed.size() >= MAX_TRACKED_KEYS) {
+        otherSuppressed.count.increment();
+        return;
+      }
+      entry = suppressed.computeIfAbsent(key, k -> new Suppressed(record));
+    }
+    entry.count.increment();
+  }
+
+  /**
+   * Builds one record for each key with records suppressed since the last call, saying how many
+   * were suppressed. Keys without suppressed records are forgotten.
+   *
+   * @param intervalMillis the time since the last call, for the message
+   * @return the summary records
+   */
+  List<WLLogRecord> drainSummaries(long intervalMillis) {
+    List<WLLogRecord> summaries = new ArrayList<>();
+    Iterator<Map.Entry<String, Suppressed>> entries = suppressed.entrySet().iterator();
+    while (entries.hasNext()) {
+      Map.Entry<String, Suppressed> entry = entries.next();
+      long count = entry.getValue().count.sumThenReset();
+      if (count == 0) {
+        entries.remove();
+      } else {
+        summaries.add(summaryOf(entry.getValue().sample, count, intervalMillis));
+      }
+    }
+    long others = otherSuppressed.count.sumThenReset();
+    if (others > 0) {
+      WLLogRecord summary =
+          new WLLogRecord(
+              WLLevel.WARNING,
+              others + " records with other keys suppressed in the last " + intervalMillis + " ms");
+      summary.setLoggerName("WebLogicLoggingExporter");
+      summaries.add(summary);
+    }
+    return summaries;
+  }
+
+  private static WLLogRecord summaryOf(WLLogRecord sample, long count, long intervalMillis) {
+    WLLogRecord summary =
+        new WLLogRecord(
+            sample.getLevel(),
+            count + " similar records suppressed in the last " + intervalMillis + " ms");
+    summary.setId(sample.getId());
+    summary.setLoggerName(sample.getLoggerName());
+    summary.setServerName(sample.getServerName());
+    summary.setMachineName(sample.getMachineName());
+    summary.setThreadName(sample.getThreadName());
+    summary.setUserId(sample.getUserId());
+    summary.setTransactionId("");
+    return summary;
+  }
+
+  /** @return the number of keys whose suppressed records are counted separately */
+  int getTrackedKeyCount() {
+    return suppressed.size();
+  }
+
+  private static class Suppressed {
+    private final WLLogRecord sample;
+    private final LongAdder count = new LongAdder();
+
+    Suppressed(WLLogRecord sample) {
+      this.sample = sample;
+    }
+  }
+}
@@ -0,0 +1,149 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import weblogic.logging.WLLogRecord;
+
+/**
+ * Holds back records that repeat one seen shortly before. A record opens a window, keyed by a hash
+ * of its message ID, message, server and subsystem, and is exported as usual; identical records
+ * that follow within the window are only counted, and {@link #drainExpired(long)} turns the count
+ * into one {@link CoalescedRecord} when the window ends. At most a fixed number of windows are
+ * open; a record that would open another is exported without being watched for repeats.
+ */
+class RecordCoalescer {
+
+  private final long windowMillis;
+  private final int maxKeys;
+  private final Map<Long, Window> windows = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a coalescer.
+   *
+   * @param windowMillis how long after a record its repeats are counted
+   * @param maxKeys the most windows open at a time
+   */
+  RecordCoalescer(long windowMillis, int maxKeys) {
+    this.windowMillis = windowMillis;
+    this.maxKeys = maxKeys;
+  }
+
+  /**
+   * Counts a record as a repeat if a window for it is open, or else opens one.
+   *
+   * @param record the record
+   * @return true if the record was counted and must not be exported by itself
+   */
+  boolean absorb(WLLogRecord record) {
+    Long key = keyOf(record);
+    Window window = windows.get(key);
+    if (window == null) {
+      if (windows.size() < maxKeys) {
+        windows.putIfAbsent(key, new Window(record));
+      }
+      return false;
+    }
+    return window.absorb(record, windowMillis);
+  }
+
+  private static Long keyOf(WLLogRecord record) {
+    long hash = Objects.hashCode(record.getId());
+    hash = mix(hash * 31 + Objects.hashCode(record.getMessage()));
+    hash = mix(hash * 31 + Objects.hashCode(record.getServerName()));
+    hash = mix(hash * 31 + Objects.hashCode(record.getSubsystem()));
+    return hash;
+  }
+
+  private static long mix(long hash) {
+    hash *= 0x9E3779B97F4A7C15L;
+    return hash ^ (hash >>> 32);
+  }
+
+  /**
+   * Closes the windows that ended.
+   *
+   * @param nowMillis the current time, in milliseconds since the epoch
+   * @return one record for each closed window that counted repeats
+   */
+  List<WLLogRecord> drainExpired(long nowMillis) {
+    return drain(nowMillis - windowMillis);
+  }
+
+  /**
+   * Closes all the windows, when the handler shuts down.
+   *
+   * @return one record for each window that counted repeats
+   */
+  List<WLLogRecord> drainAll() {
+    return drain(Long.MAX_VALUE);
+  }
+
+  private List<WLLogRecord> drain(long openedBefore) {
+    List<WLLogRecord> coalesced = new ArrayList<>();
+    Iterator<Window> iterator = windows.values().iterator();
+    while (iterator.hasNext()) {
+      Window window = iterator.next();
+      if (window.first.getMillis() <= openedBefore) {
+        iterator.remove();
+        WLLogRecord record = window.close();
+        if (record != null) {
+          coalesced.add(record);
+        }
+      }
+    }
+    return coalesced;
+  }
+
+  /** @return the number of open windows */
+  int getOpenWindowCount() {
+    return windows.size();
+  }
+
+  private static class Window {
+    private final WLLogRecord first;
+    private long repeatCount;
+    private long firstRepeatMillis;
+    private long lastRepeatMillis;
+    private boolean closed;
+
+    Window(WLLogRecord first) {
+      this.first = first;
+    }
+
+    synchronized boolean absorb(WLLogRecord record, long windowMillis) {
+      // a closed or ended window is about to be drained; a different record may share the hash
+      if (closed
+          || record.getMillis() - first.getMillis() >= windowMillis
+          || !sameFields(record)) {
+        return false;
+      }
+      if (repeatCount++ == 0) {
+        firstRepeatMillis = record.getMillis();
+      }
+      lastRepeatMillis = record.getMillis();
+      return true;
+    }
+
+    private boolean sameFields(WLLogRecord record) {
+      return Objects.equals(first.getId(), record.getId())
+          && Objects.equals(first.getMessage(), record.getMessage())
+          && Objects.equals(first.getServerName(), record.getServerName())
+          && Objects.equals(first.getSubsystem(), record.getSubsystem());
+    }
+
+    synchronized WLLogRecord close() {
+      closed = true;
+      if (repeatCount == 0) {
+        return null;
+      }
+      return new CoalescedRecord(first, repeatCount, firstRepeatMillis, lastRepeatMillis);
+    }
+  }
+}
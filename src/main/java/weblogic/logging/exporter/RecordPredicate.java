@@ -0,0 +1,25 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import weblogic.logging.WLLogRecord;
+
+/**
+ * A filter expression compiled to Java, reading the record's getters directly. When a field it
+ * needs is not set, it cannot tell what the WLDF query would decide and answers {@link #UNKNOWN}.
+ */
+interface RecordPredicate {
+
+  int NO_MATCH = 0;
+  int MATCH = 1;
+  int UNKNOWN = -1;
+
+  /**
+   * Evaluates the expression against a record.
+   *
+   * @param record the record
+   * @return {@link #MATCH}, {@link #NO_MATCH} or {@link #UNKNOWN}
+   */
+  int test(WLLogRecord record);
+}
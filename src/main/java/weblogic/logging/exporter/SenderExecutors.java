@@ -0,0 +1,53 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates the executor that bulk requests are sent on. This version, for Java 8 to 20, uses a fixed
+ * pool of daemon platform threads that stop when idle. On Java 21 and later the multi-release JAR
+ * holds a version from {@code src/main/java21} that starts a virtual thread for each request.
+ */
+final class SenderExecutors {
+
+  private static final long IDLE_THREAD_SECONDS = 60;
+
+  private SenderExecutors() {}
+
+  /**
+   * Creates an executor for bulk requests.
+   *
+   * @param threads the most requests that are sent at once
+   * @return the executor
+   */
+  static ExecutorService newBulkExecutor(int threads) {
+    AtomicInteger threadNumber = new AtomicInteger();
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            IDLE_THREAD_SECONDS,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            runnable -> {
+              Thread thread =
+                  new Thread(
+                      runnable, "weblogic-logging-exporter-bulk-" + threadNumber.getAndIncrement());
+              thread.setDaemon(true);
+              return thread;
+            });
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  /** @return true if bulk requests are sent on virtual threads */
+  static boolean usesVirtualThreads() {
+    return false;
+  }
+}
@@ -0,0 +1,133 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import weblogic.i18n.logging.Severities;
+import weblogic.logging.WLLevel;
+
+/**
+ * Minimum severities for particular subsystems and logger names, held as level values. Subsystems
+ * are looked up in a hash table. Logger names are looked up in a trie of their characters, where a
+ * configured name also covers the names below it in the dotted hierarchy and the longest one wins.
+ * Neither lookup allocates.
+ */
+class SeverityThresholds {
+
+  /** Returned when no threshold is configured for a record. */
+  static final int NONE = Integer.MIN_VALUE;
+
+  private final Map<String, Integer> subsystemLevels;
+  private final Node loggerRoot;
+
+  private SeverityThresholds(Map<String, Integer> subsystemLevels, Node loggerRoot) {
+    this.subsystemLevels = subsystemLevels;
+    this.loggerRoot = loggerRoot;
+  }
+
+  /**
+   * Builds the thresholds.
+   *
+   * @param subsystemSeverities the minimum severity by subsystem name
+   * @param loggerSeverities the minimum severity by logger name
+   * @return the thresholds, or null if there are none
+   */
+  static SeverityThresholds create(
+      Map<String, String> subsystemSeverities, Map<String, String> loggerSeverities) {
+    if (subsystemSeverities.isEmpty() && loggerSeverities.isEmpty()) {
+      return null;
+    }
+    Map<String, Integer> subsystemLevels = new HashMap<>();
+    for (Map.Entry<String, String> entry : subsystemSeverities.entrySet()) {
+      subsystemLevels.put(entry.getKey(), levelValue(entry.getValue()));
+    }
+    Node loggerRoot = null;
+    if (!loggerSeverities.isEmpty()) {
+      NodeBuilder root = new NodeBuilder();
+      for (Map.Entry<String, String> entry : loggerSeverities.entrySet()) {
+        NodeBuilder node = root;
+        for (char c : entry.getKey().toCharArray()) {
+          node = node.children.computeIfAbsent(c, k -> new NodeBuilder());
+        }
+        node.levelValue = levelValue(entry.getValue());
+      }
+      loggerRoot = root.build();
+    }
+    return new SeverityThresholds(subsystemLevels, loggerRoot);
+  }
+
+  private static int levelValue(String severity) {
+    return WLLevel.getLevel(Severities.severityStringToNum(severity)).intValue();
+  }
+
+  /**
+   * Finds the minimum level of a record.
+   *
+   * @param subsystem the subsystem of the record, or null
+   * @param loggerName the name of the logger of the record, or null
+   * @return the level value, or {@link #NONE} if no threshold applies
+   */
+  int levelValueFor(String subsystem, String loggerName) {
+    if (subsystem != null && !subsystemLevels.isEmpty()) {
+      Integer level = subsystemLevels.get(subsystem);
+      if (level != null) {
+        return level;
+      }
+    }
+    return loggerRoot == null || loggerName == null ? NONE : loggerLevelValue(loggerName);
+  }
+
+  private int loggerLevelValue(String loggerName) {
+    int best = NONE;
+    Node node = loggerRoot;
+    int length = loggerName.length();
+    for (int i = 0; i < length; i++) {
+      node = node.child(loggerName.charAt(i));
+      if (node == null) {
+        break;
+      }
+      // a name only matches whole segments: com.example covers com.example.orders, not com.examples
+      if (node.levelValue != NONE && (i + 1 == length || loggerName.charAt(i + 1) == '.')) {
+        best = node.levelValue;
+      }
+    }
+    return best;
+  }
+
+  private static class NodeBuilder {
+    private final TreeMap<Character, NodeBuilder> children = new TreeMap<>();
+    private int levelValue = NONE;
+
+    Node build() {
+      char[] keys = new char[children.size()];
+      Node[] nodes = new Node[children.size()];
+      int i = 0;
+      for (Map.Entry<Character, NodeBuilder> entry : children.entrySet()) {
+        keys[i] = entry.getKey();
+        nodes[i++] = entry.getValue().build();
+      }
+      return new Node(keys, nodes, levelValue);
+    }
+  }
+
+  private static class Node {
+    private final char[] keys;
+    private final Node[] children;
+    private final int levelValue;
+
+    Node(char[] keys, Node[] children, int levelValue) {
+      this.keys = keys;
+      this.children = children;
+      this.levelValue = levelValue;
+    }
+
+    Node child(char c) {
+      int index = Arrays.binarySearch(keys, c);
+      return index < 0 ? null : children[index];
+    }
+  }
+}
@@ -0,0 +1,391 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * A durable FIFO of bulk entries kept in memory-mapped segment files, used to hold records while
+ * Elasticsearch cannot take them. Each record is written as a 4-byte length, a 4-byte CRC32 of the
+ * payload, and the payload. The length is written last, so a record that was cut short by a crash
+ * reads as the end of the segment. A replayed record is marked by negating its length, so that
+ * after a restart the log resumes with the first record not yet replayed. Segments are deleted once
+ * all their records have been replayed.
+ *
+ * <p>Any number of threads may append, but only one thread may read with {@link #peek(int, long)}
+ * and {@link #commit(List)}.
+ */
+class SpillLog {
+
+  private static final String SEGMENT_PREFIX = "spill-";
+  private static final String SEGMENT_SUFFIX = ".log";
+  private static final int HEADER_BYTES = 8;
+  private static final int ZERO_CHUNK_BYTES = 64 * 1024;
+  private static final String SOURCE = "SpillLog";
+
+  private final File directory;
+  private final int segmentBytes;
+  private final int maxSegments;
+  private final FailureReporter failures;
+  private final Deque<Segment> segments = new ArrayDeque<>();
+  private long nextSequence;
+  private long pendingRecords;
+  private boolean closed;
+
+  /**
+   * Opens the log, creating the directory if needed and recovering the records left by a previous
+   * run.
+   *
+   * @param directory the directory holding the segment files
+   * @param segmentBytes the size of each segment file
+   * @param maxBytes the most disk space the segment files may take
+   * @param failures where errors writing records are reported
+   * @throws IOException if the directory or an existing segment cannot be opened
+   */
+  SpillLog(File directory, int segmentBytes, long maxBytes, FailureReporter failures)
+      throws IOException {
+    this.directory = directory;
+    this.failures = failures;
+    this.segmentBytes = Math.max(HEADER_BYTES + 1024, segmentBytes);
+    this.maxSegments =
+        (int) Math.max(1, Math.min(Integer.MAX_VALUE, maxBytes / this.segmentBytes));
+    if (!directory.isDirectory() && !directory.mkdirs()) {
+      throw new IOException("Cannot create spill directory " + directory);
+    }
+    recover();
+  }
+
+  private void recover() throws IOException {
+    File[] files = directory.listFiles((dir, name) -> parseSequence(name) >= 0);
+    if (files == null) {
+      throw new IOException("Cannot list spill directory " + directory);
+    }
+    Arrays.sort(
+        files, (a, b) -> Long.compare(parseSequence(a.getName()), parseSequence(b.getName())));
+    for (File file : files) {
+      Segment segment = new Segment(file, parseSequence(file.getName()), segmentBytes);
+      segment.scan();
+      nextSequence = segment.sequence + 1;
+      if (segment.readPosition == segment.writePosition) {
+        // everything in it was replayed before the restart
+        segment.delete();
+      } else {
+        segments.addLast(segment);
+        pendingRecords += segment.pendingRecords;
+      }
+    }
+  }
+
+  private static long parseSequence(String name) {
+    if (!name.startsWith(SEGMENT_PREFIX) || !name.endsWith(SEGMENT_SUFFIX)) {
+      return -1;
+    }
+    try {
+      return Long.parseLong(
+          name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+
+  /**
+   * Appends a record.
+   *
+   * @param payload the record
+   * @param offset the start of the record in the array
+   * @param length the length of the record
+   * @return false if the record was not stored because the log is full, closed or failing
+   */
+  synchronized boolean append(byte[] payload, int offset, int length) {
+    if (closed || length <= 0 || HEADER_BYTES + length > segmentBytes) {
+      return false;
+    }
+    try {
+      Segment tail = segments.peekLast();
+      if (tail == null
+          || tail.sealed
+          || tail.writePosition + HEADER_BYTES + length > segmentBytes) {
+        if (segments.size() >= maxSegments) {
+          return false;
+        }
+        if (tail != null) {
+          tail.sealed = true;
+        }
+        tail = new Segment(segmentFile(nextSequence), nextSequence, segmentBytes);
+        nextSequence++;
+        segments.addLast(tail);
+      }
+      tail.write(payload, offset, length);
+    } catch (IOException e) {
+      // reported once per interval, so that a full disk does not print a line per record
+      failures.report(SOURCE, "write " + e.getClass().getName(), 1, e);
+      return false;
+    }
+    pendingRecords++;
+    notifyAll();
+    return true;
+  }
+
+  private File segmentFile(long sequence) {
+    return new File(
+        directory, String.format("%s%020d%s", SEGMENT_PREFIX, sequence, SEGMENT_SUFFIX));
+  }
+
+  /**
+   * Waits until there are records to replay.
+   *
+   * @param timeoutMillis the maximum time to wait
+   * @return true if there are records to replay
+   * @throws InterruptedException if the thread is interrupted while waiting
+   */
+  synchronized boolean awaitRecords(long timeoutMillis) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    while (pendingRecords == 0 && !closed) {
+      long remaining = deadline - System.nanoTime();
+      if (remaining <= 0) {
+        return false;
+      }
+      TimeUnit.NANOSECONDS.timedWait(this, remaining);
+    }
+    return pendingRecords > 0;
+  }
+
+  /**
+   * Returns the oldest records that have not been replayed, without removing them.
+   *
+   * @param maxRecords the maximum number of records to return
+   * @param maxBytes the maximum total size of the records, except that at least one is returned
+   * @return the records, oldest first
+   */
+  synchronized List<Entry> peek(int maxRecords, long maxBytes) {
+    List<Entry> entries = new ArrayList<>();
+    long bytes = 0;
+    for (Segment segment : segments) {
+      int position = segment.readPosition;
+      while (position < segment.writePosition && entries.size() < maxRecords) {
+        int length = segment.map.getInt(position);
+        if (length > 0) {
+          if (!entries.isEmpty() && bytes + length > maxBytes) {
+            return entries;
+          }
+          byte[] payload = new byte[length];
+          ByteBuffer source = segment.map.duplicate();
+          source.position(position + HEADER_BYTES);
+          source.get(payload);
+          entries.add(new Entry(segment, position, payload));
+          bytes += length;
+        }
+        position += HEADER_BYTES + Math.abs(length);
+      }
+      if (entries.size() >= maxRecords) {
+        break;
+      }
+    }
+    return entries;
+  }
+
+  /**
+   * Marks records returned by {@link #peek(int, long)} as replayed and deletes segments that hold
+   * nothing else.
+   *
+   * @param entries the records that have been replayed
+   */
+  synchronized void commit(List<Entry> entries) {
+    for (Entry entry : entries) {
+      if (entry.segment.map.getInt(entry.position) > 0) {
+        entry.segment.map.putInt(entry.position, -entry.payload.length);
+        entry.segment.pendingRecords--;
+        pendingRecords--;
+      }
+    }
+    while (!segments.isEmpty()) {
+      Segment head = segments.peekFirst();
+      head.advanceReadPosition();
+      if (head.readPosition < head.writePosition || !head.sealed) {
+        break;
+      }
+      segments.removeFirst();
+      head.delete();
+    }
+  }
+
+  /** @return the number of records waiting to be replayed */
+  synchronized long getPendingRecords() {
+    return pendingRecords;
+  }
+
+  /** @return the number of segment files in use */
+  synchronized int getSegmentCount() {
+    return segments.size();
+  }
+
+  /** Writes the mapped segments to disk and closes them. */
+  synchronized void close() {
+    closed = true;
+    for (Segment segment : segments) {
+      segment.close();
+    }
+    segments.clear();
+    notifyAll();
+  }
+
+  /** A record read from the log. */
+  static class Entry {
+    private final Segment segment;
+    private final int position;
+    private final byte[] payload;
+
+    Entry(Segment segment, int position, byte[] payload) {
+      this.segment = segment;
+      this.position = position;
+      this.payload = payload;
+    }
+
+    byte[] getPayload() {
+      return payload;
+    }
+  }
+
+  private static class Segment {
+    private final File file;
+    private final long sequence;
+    private final RandomAccessFile randomAccessFile;
+    private final MappedByteBuffer map;
+    private final CRC32 crc = new CRC32();
+    private int writePosition;
+    private int readPosition;
+    private long pendingRecords;
+    private boolean sealed;
+
+    Segment(File file, long sequence, int size) throws IOException {
+      this.file = file;
+      this.sequence = sequence;
+      this.randomAccessFile = new RandomAccessFile(file, "rw");
+      long existingBytes = -1;
+      try {
+        existingBytes = randomAccessFile.length();
+        int mapSize = (int) Math.max(size, existingBytes);
+        FileChannel channel = randomAccessFile.getChannel();
+        preallocate(channel, mapSize);
+        this.map = channel.map(FileChannel.MapMode.READ_WRITE, 0, mapSize);
+      } catch (IOException e) {
+        randomAccessFile.close();
+        if (existingBytes == 0) {
+          // a new segment that could not be allocated holds no records
+          file.delete();
+        }
+        throw e;
+      }
+    }
+
+    /**
+     * Writes zeros up to the end of the segment before it is mapped, so that the disk blocks are
+     * allocated: with the disk full, a write into a sparse mapping faults as an {@link
+     * InternalError} in {@link SpillLog#append}, while the channel fails here with an IOException.
+     */
+    private static void preallocate(FileChannel channel, long end) throws IOException {
+      ByteBuffer zeros = ByteBuffer.allocate(ZERO_CHUNK_BYTES);
+      long position = channel.size();
+      while (position < end) {
+        zeros.clear();
+        zeros.limit((int) Math.min(zeros.capacity(), end - position));
+        position += channel.write(zeros, position);
+      }
+    }
+
+    /** Finds the end of the records and the first one not replayed after a restart. */
+    void scan() {
+      // a recovered segment is not appended to; new records go to a new segment
+      sealed = true;
+      int position = 0;
+      readPosition = -1;
+      while (position + HEADER_BYTES <= map.capacity()) {
+        int length = map.getInt(position);
+        int size = Math.abs(length);
+        if (length == 0 || position + HEADER_BYTES + size > map.capacity()) {
+          break;
+        }
+        if (length > 0) {
+          if (!checksumMatches(position, length)) {
+            break;
+          }
+          pendingRecords++;
+          if (readPosition < 0) {
+            readPosition = position;
+          }
+        }
+        position += HEADER_BYTES + size;
+      }
+      writePosition = position;
+      if (readPosition < 0) {
+        readPosition = writePosition;
+      }
+    }
+
+    private boolean checksumMatches(int position, int length) {
+      crc.reset();
+      ByteBuffer payload = map.duplicate();
+      payload.position(position + HEADER_BYTES);
+      payload.limit(position + HEADER_BYTES + length);
+      byte[] chunk = new byte[Math.min(length, 8192)];
+      while (payload.hasRemaining()) {
+        int count = Math.min(chunk.length, payload.remaining());
+        payload.get(chunk, 0, count);
+        crc.update(chunk, 0, count);
+      }
+      return (int) crc.getValue() == map.getInt(position + 4);
+    }
+
+    void write(byte[] payload, int offset, int length) {
+      crc.reset();
+      crc.update(payload, offset, length);
+      ByteBuffer target = map.duplicate();
+      target.position(writePosition + HEADER_BYTES);
+      target.put(payload, offset, length);
+      map.putInt(writePosition + 4, (int) crc.getValue());
+      // the length goes in last: until it is there, the record does not exist
+      map.putInt(writePosition, length);
+      writePosition += HEADER_BYTES + length;
+      pendingRecords++;
+    }
+
+    void advanceReadPosition() {
+      while (readPosition < writePosition) {
+        int length = map.getInt(readPosition);
+        if (length > 0) {
+          return;
+        }
+        readPosition += HEADER_BYTES - length;
+      }
+    }
+
+    void close() {
+      try {
+        map.force();
+        randomAccessFile.close();
+      } catch (IOException e) {
+        // the data is in the page cache; nothing more can be done here
+      }
+    }
+
+    void delete() {
+      close();
+      if (!file.delete()) {
+        file.deleteOnExit();
+      }
+    }
+  }
+}
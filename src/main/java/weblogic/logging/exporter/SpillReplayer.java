@@ -0,0 +1,159 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Sends the records held in a {@link SpillLog} back to Elasticsearch, oldest first, on a thread of
+ * its own. While the endpoint keeps failing, the replayer waits between attempts, doubling the wait
+ * up to half a minute. Records are only marked as replayed once Elasticsearch has answered the bulk
+ * request; items it rejects as overloaded go back to the end of the log.
+ */
+class SpillReplayer {
+
+  private static final long IDLE_WAIT_MILLIS = 1000;
+  private static final long INITIAL_BACKOFF_MILLIS = 1000;
+  private static final long MAX_BACKOFF_MILLIS = 30000;
+  private static final long SHUTDOWN_WAIT_MILLIS = 5000;
+
+  private final SpillLog spillLog;
+  private final ByteBufferPool bufferPool;
+  private final int batchSize;
+  private final long maxBatchBytes;
+  private final Function<BulkBody, BulkResponse> sender;
+  private final FailureReporter failures;
+  private final LongAdder replayed = new LongAdder();
+  private final LongAdder failed = new LongAdder();
+  private final Thread thread;
+  private volatile boolean running = true;
+
+  /**
+   * Creates the replayer and starts its thread.
+   *
+   * @param spillLog the log to replay
+   * @param bufferPool the pool to build bulk bodies from
+   * @param batchSize the maximum number of records per bulk request
+   * @param maxBatchBytes the maximum size of a bulk request, 0 for no limit
+   * @param sender sends one bulk body
+   * @param failures reports the records that have to be dropped
+   */
+  SpillReplayer(
+      SpillLog spillLog,
+      ByteBufferPool bufferPool,
+      int batchSize,
+      long maxBatchBytes,
+      Function<BulkBody, BulkResponse> sender,
+      FailureReporter failures) {
+    this.spillLog = spillLog;
+    this.bufferPool = bufferPool;
+    this.batchSize = Math.max(1, batchSize);
+    this.maxBatchBytes = maxBatchBytes > 0 ? maxBatchBytes : Long.MAX_VALUE;
+    this.sender = sender;
+    this.failures = failures;
+    this.thread = new Thread(this::replayLoop, "weblogic-logging-exporter-replay");
+    this.thread.setDaemon(true);
+    this.thread.start();
+  }
+
+  private void replayLoop() {
+    long backoffMillis = INITIAL_BACKOFF_MILLIS;
+    try {
+      while (running) {
+        if (!spillLog.awaitRecords(IDLE_WAIT_MILLIS)) {
+          continue;
+        }
+        if (replayBatch()) {
+          backoffMillis = INITIAL_BACKOFF_MILLIS;
+        } else {
+          synchronized (this) {
+            if (running) {
+              wait(backoffMillis);
+            }
+          }
+          backoffMillis = Math.min(MAX_BACKOFF_MILLIS, backoffMillis * 2);
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Sends one batch of the oldest records.
+   *
+   * @return true if Elasticsearch answered the request
+   */
+  boolean replayBatch() {
+    List<SpillLog.Entry> entries = spillLog.peek(batchSize, maxBatchBytes);
+    if (entries.isEmpty()) {
+      return true;
+    }
+    BulkBody body = new BulkBody(bufferPool);
+    try {
+      for (SpillLog.Entry entry : entries) {
+        body.appendEntry(entry.getPayload());
+      }
+      BulkResponse response;
+      try {
+        response = sender.apply(body);
+      } catch (RuntimeException e) {
+        response = BulkResponse.requestFailed(0, String.valueOf(e));
+      }
+      if (response.isRequestFailed() && BulkResponseParser.isRetryable(response.getStatus())) {
+        return false;
+      }
+      if (response.isRequestFailed()) {
+        failed.add(entries.size());
+        failures.report(
+            "SpillReplayer",
+            "dropped after status " + response.getStatus(),
+            entries.size(),
+            response);
+      } else {
+        for (int item : response.getRetryableItems()) {
+          byte[] payload = entries.get(item).getPayload();
+          if (!spillLog.append(payload, 0, payload.length)) {
+            failed.increment();
+          }
+        }
+        failed.add(response.getPermanentFailureCount());
+        replayed.add(
+            entries.size()
+                - response.getRetryableCount()
+                - response.getPermanentFailureCount());
+      }
+      spillLog.commit(entries);
+      return response.getRetryableCount() == 0;
+    } finally {
+      body.release();
+    }
+  }
+
+  /** Stops the thread, waiting a bounded time for the batch in flight. */
+  void shutdown() {
+    running = false;
+    // not interrupted: that would close the connection of a request in flight
+    synchronized (this) {
+      notifyAll();
+    }
+    try {
+      thread.join(SHUTDOWN_WAIT_MILLIS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /** @return the number of spilled records delivered to Elasticsearch */
+  long getReplayedCount() {
+    return replayed.sum();
+  }
+
+  /** @return the number of spilled records that Elasticsearch rejected for good */
+  long getFailedCount() {
+    return failed.sum();
+  }
+}
@@ -4,13 +4,16 @@
 package weblogic.logging.exporter;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import weblogic.logging.LoggingHelper;
 import weblogic.logging.ServerLoggingHandler;
 import weblogic.logging.exporter.config.Config;
+import weblogic.logging.exporter.config.FileWriterType;
 
 public class Startup {
 
@@ -45,20 +48,25 @@ public class Startup {
       Config config = Config.loadConfig(file);
       System.out.println(config);
 
-      //  Elastic log handler is enabled or the file log handler
-      if (config.getEnabled()) {
-        logger.addHandler(new LogExportHandler(config));
-      } else if (config.isFileLoggingEnabled()) {
+      // The Elastic log handler and the file log handler can be enabled together. Each is a handler
+      // of its own, with its own level, format and queue. When both are enabled, the configuration
+      // hands the export off to the sender threads and drops records rather than wait for them, so
+      // a slow Elasticsearch never holds up the logging thread and the file writes behind it.
+      if (config.isFileLoggingEnabled()) {
         // Because of this bridge log messages in the applications themselves are being forwarded to the server logger.
         // so that logging in ear/war artifacts are also visible to the server logger and appear in the JSON log file.
         Logger.getLogger("").addHandler(new ServerLoggingHandler());
 
         // Register a file handler using the provided config
-        FileHandler fh = new FileHandler(config.getOutputFile(), config.getMaxFileSize(), config.getGetMaxRollbackFiles(), config.getAppendToFile());
+        Handler fh = createFileHandler(config);
         fh.setLevel(Level.parse(config.getFileLoggingLogLevel()));
-        fh.setFormatter(new WebLogicLogFormatter(config.getDomainUID()));
+        fh.setFormatter(new EcsRecordFormatter());
         logger.addHandler(fh);
-      } else {
+      }
+      if (config.getEnabled()) {
+        logger.addHandler(new LogExportHandler(config));
+      }
+      if (!config.getEnabled() && !config.isFileLoggingEnabled()) {
         System.out.println("WebLogic Elasticsearch Logging Exporter is disabled");
       }
       // also catch errors so that WebLogic does not crash when a required library was not placed in the classpath correctly.
@@ -67,4 +75,45 @@ public class Startup {
       e.printStackTrace();
     }
   }
+
+  private static Handler createFileHandler(Config config) throws IOException {
+    // unset limits mean no size limit and a single file, as for FileHandler
+    int limit = config.getMaxFileSize() == null ? 0 : config.getMaxFileSize();
+    int count = config.getGetMaxRollbackFiles() == null ? 1 : config.getGetMaxRollbackFiles();
+    long maxTotalBytes = config.getFileRetentionMaxMegabytes() * 1024L * 1024L;
+    if (config.getFileWriter() == FileWriterType.HANDLER) {
+      return new FileHandler(config.getOutputFile(), limit, count, config.getAppendToFile());
+    }
+    if (config.getFileWriter() == FileWriterType.MAPPED && isWindows()) {
+      // Windows cannot truncate or rename a file that is still mapped, so the handler could not rotate
+      System.out.println(
+              "WebLogic Logging Exporter: fileWriter mapped is not supported on Windows, using async instead");
+    } else if (config.getFileWriter() == FileWriterType.MAPPED) {
+      return new MappedFileHandler(
+              config.getOutputFile(),
+              limit,
+              count,
+              config.getAppendToFile(),
+              config.getFileRotationInterval(),
+              config.getFileCompression(),
+              maxTotalBytes,
+              config.getFileSyncPolicy(),
+              config.getFileSyncIntervalMs());
+    }
+    return new AsyncFileHandler(
+            config.getOutputFile(),
+            limit,
+            count,
+            config.getAppendToFile(),
+            config.getFileRotationInterval(),
+            config.getFileCompression(),
+            maxTotalBytes,
+            config.getFileSyncPolicy(),
+            config.getFileSyncIntervalMs(),
+            config.getFileQueueCapacity());
+  }
+
+  private static boolean isWindows() {
+    return System.getProperty("os.name", "").startsWith("Windows");
+  }
 }
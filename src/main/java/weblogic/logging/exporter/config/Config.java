@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package weblogic.logging.exporter.config;
@@ -8,6 +8,7 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -21,15 +22,88 @@ public class Config {
   public static final String DEFAULT_INDEX_NAME = "wls";
   public static final int DEFAULT_BULK_SIZE = 1;
   public static final String DEFAULT_DOMAIN_UID = "unknown";
+  public static final int DEFAULT_BULK_LINGER_MS = 1000;
+  public static final int DEFAULT_BULK_MAX_BYTES = 5 * 1024 * 1024;
+  public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+  public static final int DEFAULT_BUFFER_POOL_SIZE = 64;
+  public static final HttpTransportType DEFAULT_HTTP_TRANSPORT = HttpTransportType.BUILTIN;
+  public static final int DEFAULT_HTTP_MAX_CONNECTIONS = 4;
+  public static final int DEFAULT_GZIP_LEVEL = 6;
+  public static final int DEFAULT_BULK_MAX_RETRIES = 3;
+  public static final int DEFAULT_BULK_RETRY_BACKOFF_MS = 200;
+  public static final int DEFAULT_BULK_RETRY_MAX_MEGABYTES = 64;
+  public static final int DEFAULT_SPILL_MAX_MEGABYTES = 512;
+  public static final int DEFAULT_SPILL_SEGMENT_MEGABYTES = 16;
+  public static final int DEFAULT_FILTER_STATS_INTERVAL_MS = 5 * 60 * 1000;
+  public static final int DEFAULT_SLOW_FILTER_MICROS = 50;
+  public static final RateLimitKey DEFAULT_RATE_LIMIT_KEY = RateLimitKey.MESSAGE_ID;
+  public static final int DEFAULT_RATE_LIMIT_SUMMARY_MS = 60 * 1000;
+  public static final int DEFAULT_COALESCE_MAX_KEYS = 1024;
+  public static final int DEFAULT_MIN_CONCURRENCY = 1;
+  public static final int DEFAULT_MAX_CONCURRENCY = 1;
+  public static final int DEFAULT_HTTP_CONNECT_TIMEOUT_MS = 5000;
+  public static final int DEFAULT_HTTP_READ_TIMEOUT_MS = 30000;
+  public static final int DEFAULT_QUEUE_CAPACITY = 8192;
+  public static final QueueOverflowPolicy DEFAULT_QUEUE_OVERFLOW_POLICY =
+      QueueOverflowPolicy.DROP_NEWEST;
+  public static final String DEFAULT_QUEUE_OVERFLOW_SEVERITY = "Warning";
+  public static final int DEFAULT_SENDER_THREADS = 1;
+  public static final FileWriterType DEFAULT_FILE_WRITER = FileWriterType.ASYNC;
+  public static final FileSyncPolicy DEFAULT_FILE_SYNC_POLICY = FileSyncPolicy.NONE;
+  public static final int DEFAULT_FILE_SYNC_INTERVAL_MS = 1000;
+  public static final int DEFAULT_FILE_QUEUE_CAPACITY = 8192;
+  public static final FileRotationInterval DEFAULT_FILE_ROTATION_INTERVAL =
+      FileRotationInterval.NONE;
+  public static final FileCompression DEFAULT_FILE_COMPRESSION = FileCompression.NONE;
+  public static final int DEFAULT_FILE_RETENTION_MAX_MEGABYTES = 0;
 
   private static final String HOST = "publishHost";
   private static final String PORT = "publishPort";
   private static final String FILTERS = "weblogicLoggingExporterFilters";
+  private static final String FILTER_STATS_INTERVAL_MS =
+      "weblogicLoggingExporterFilterStatsIntervalMs";
+  private static final String SLOW_FILTER_MICROS = "weblogicLoggingExporterSlowFilterMicros";
+  private static final String RATE_LIMIT_PER_SECOND = "weblogicLoggingExporterRateLimitPerSecond";
+  private static final String RATE_LIMIT_KEY = "weblogicLoggingExporterRateLimitKey";
+  private static final String RATE_LIMIT_SUMMARY_MS = "weblogicLoggingExporterRateLimitSummaryMs";
+  private static final String COALESCE_WINDOW_MS = "weblogicLoggingExporterCoalesceWindowMs";
+  private static final String COALESCE_MAX_KEYS = "weblogicLoggingExporterCoalesceMaxKeys";
+  private static final String METRICS_PORT = "weblogicLoggingExporterMetricsPort";
   private static final String ENABLED = "weblogicLoggingExporterEnabled";
   private static final String SEVERITY = "weblogicLoggingExporterSeverity";
+  private static final String SUBSYSTEM_SEVERITIES = "weblogicLoggingExporterSubsystemSeverities";
+  private static final String LOGGER_SEVERITIES = "weblogicLoggingExporterLoggerSeverities";
   private static final String BULK_SIZE = "weblogicLoggingExporterBulkSize";
+  private static final String BULK_LINGER_MS = "weblogicLoggingExporterBulkLingerMs";
+  private static final String BULK_MAX_BYTES = "weblogicLoggingExporterBulkMaxBytes";
+  private static final String BUFFER_SIZE = "weblogicLoggingExporterBufferSize";
+  private static final String BUFFER_POOL_SIZE = "weblogicLoggingExporterBufferPoolSize";
+  private static final String DIRECT_BUFFERS = "weblogicLoggingExporterDirectBuffers";
+  private static final String HTTP_TRANSPORT = "weblogicLoggingExporterHttpTransport";
+  private static final String HTTP_MAX_CONNECTIONS = "weblogicLoggingExporterHttpMaxConnections";
+  private static final String HTTP_CONNECT_TIMEOUT_MS =
+      "weblogicLoggingExporterHttpConnectTimeoutMs";
+  private static final String HTTP_READ_TIMEOUT_MS = "weblogicLoggingExporterHttpReadTimeoutMs";
+  private static final String GZIP_ENABLED = "weblogicLoggingExporterGzipEnabled";
+  private static final String GZIP_LEVEL = "weblogicLoggingExporterGzipLevel";
+  private static final String BULK_MAX_RETRIES = "weblogicLoggingExporterBulkMaxRetries";
+  private static final String BULK_RETRY_BACKOFF_MS = "weblogicLoggingExporterBulkRetryBackoffMs";
+  private static final String BULK_RETRY_MAX_MEGABYTES =
+      "weblogicLoggingExporterBulkRetryMaxMegabytes";
+  private static final String SPILL_DIRECTORY = "weblogicLoggingExporterSpillDirectory";
+  private static final String SPILL_MAX_MEGABYTES = "weblogicLoggingExporterSpillMaxMegabytes";
+  private static final String SPILL_SEGMENT_MEGABYTES =
+      "weblogicLoggingExporterSpillSegmentMegabytes";
+  private static final String MIN_CONCURRENCY = "weblogicLoggingExporterMinConcurrency";
+  private static final String MAX_CONCURRENCY = "weblogicLoggingExporterMaxConcurrency";
   private static final String INDEX_NAME = "weblogicLoggingIndexName";
   private static final String DOMAIN_UID = "domainUID";
+  private static final String ASYNC_ENABLED = "weblogicLoggingExporterAsyncEnabled";
+  private static final String QUEUE_CAPACITY = "weblogicLoggingExporterQueueCapacity";
+  private static final String QUEUE_OVERFLOW_POLICY = "weblogicLoggingExporterQueueOverflowPolicy";
+  private static final String QUEUE_OVERFLOW_SEVERITY =
+      "weblogicLoggingExporterQueueOverflowSeverity";
+  private static final String SENDER_THREADS = "weblogicLoggingExporterSenderThreads";
 
   private static final String WRITE_TO_FILE_ENABLED = "writeToFileEnabled";
   private static final String OUTPUT_FILE = "outputFile";
@@ -37,15 +111,56 @@ public class Config {
   private static final String MAX_FILE_SIZE = "maxFileSize";
   private static final String APPEND_TO_FILE = "appendToFile";
   private static final String FILE_LOGGING_LOG_LEVEL = "fileLoggingLogLevel";
+  private static final String FILE_WRITER = "fileWriter";
+  private static final String FILE_SYNC_POLICY = "fileSyncPolicy";
+  private static final String FILE_SYNC_INTERVAL_MS = "fileSyncIntervalMs";
+  private static final String FILE_QUEUE_CAPACITY = "fileQueueCapacity";
+  private static final String FILE_ROTATION_INTERVAL = "fileRotationInterval";
+  private static final String FILE_COMPRESSION = "fileCompression";
+  private static final String FILE_RETENTION_MAX_MEGABYTES = "fileRetentionMaxMegabytes";
 
   private String host = DEFAULT_HOST;
   private int port = DEFAULT_PORT;
   private String indexName = DEFAULT_INDEX_NAME;
   private int bulkSize = DEFAULT_BULK_SIZE;
+  private int bulkLingerMs = DEFAULT_BULK_LINGER_MS;
+  private int bulkMaxBytes = DEFAULT_BULK_MAX_BYTES;
+  private int bufferSize = DEFAULT_BUFFER_SIZE;
+  private int bufferPoolSize = DEFAULT_BUFFER_POOL_SIZE;
+  private boolean directBuffers = false;
+  private HttpTransportType httpTransport = DEFAULT_HTTP_TRANSPORT;
+  private int httpMaxConnections = DEFAULT_HTTP_MAX_CONNECTIONS;
+  private int httpConnectTimeoutMs = DEFAULT_HTTP_CONNECT_TIMEOUT_MS;
+  private int httpReadTimeoutMs = DEFAULT_HTTP_READ_TIMEOUT_MS;
+  private boolean gzipEnabled = false;
+  private int gzipLevel = DEFAULT_GZIP_LEVEL;
+  private int bulkMaxRetries = DEFAULT_BULK_MAX_RETRIES;
+  private int bulkRetryBackoffMs = DEFAULT_BULK_RETRY_BACKOFF_MS;
+  private int bulkRetryMaxMegabytes = DEFAULT_BULK_RETRY_MAX_MEGABYTES;
+  private String spillDirectory;
+  private int spillMaxMegabytes = DEFAULT_SPILL_MAX_MEGABYTES;
+  private int spillSegmentMegabytes = DEFAULT_SPILL_SEGMENT_MEGABYTES;
+  private int minConcurrency = DEFAULT_MIN_CONCURRENCY;
+  private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
   private boolean enabled = true;
   private String severity = null;
+  private Map<String, String> subsystemSeverities = Collections.emptyMap();
+  private Map<String, String> loggerSeverities = Collections.emptyMap();
   private final List<FilterConfig> filterConfigs = new ArrayList<>();
+  private int filterStatsIntervalMs = DEFAULT_FILTER_STATS_INTERVAL_MS;
+  private int slowFilterMicros = DEFAULT_SLOW_FILTER_MICROS;
+  private int rateLimitPerSecond = 0;
+  private RateLimitKey rateLimitKey = DEFAULT_RATE_LIMIT_KEY;
+  private int rateLimitSummaryMs = DEFAULT_RATE_LIMIT_SUMMARY_MS;
+  private int coalesceWindowMs = 0;
+  private int coalesceMaxKeys = DEFAULT_COALESCE_MAX_KEYS;
+  private int metricsPort = 0;
   private String domainUID = DEFAULT_DOMAIN_UID;
+  private boolean asyncEnabled = false;
+  private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+  private QueueOverflowPolicy queueOverflowPolicy = DEFAULT_QUEUE_OVERFLOW_POLICY;
+  private String queueOverflowSeverity = DEFAULT_QUEUE_OVERFLOW_SEVERITY;
+  private int senderThreads = DEFAULT_SENDER_THREADS;
 
   private boolean fileLoggingEnabled;
   private String outputFile;
@@ -54,6 +169,13 @@ public class Config {
   private boolean appendToFile;
 
   private String fileLoggingLogLevel = "INFO";
+  private FileWriterType fileWriter = DEFAULT_FILE_WRITER;
+  private FileSyncPolicy fileSyncPolicy = DEFAULT_FILE_SYNC_POLICY;
+  private int fileSyncIntervalMs = DEFAULT_FILE_SYNC_INTERVAL_MS;
+  private int fileQueueCapacity = DEFAULT_FILE_QUEUE_CAPACITY;
+  private FileRotationInterval fileRotationInterval = DEFAULT_FILE_ROTATION_INTERVAL;
+  private FileCompression fileCompression = DEFAULT_FILE_COMPRESSION;
+  private int fileRetentionMaxMegabytes = DEFAULT_FILE_RETENTION_MAX_MEGABYTES;
 
   private Config() {}
 
@@ -70,6 +192,12 @@ public class Config {
     if (yaml.containsKey(SEVERITY)) {
       severity = MapUtils.getStringValue(yaml, SEVERITY);
     }
+    if (yaml.containsKey(SUBSYSTEM_SEVERITIES)) {
+      subsystemSeverities = MapUtils.getStringMap(yaml, SUBSYSTEM_SEVERITIES);
+    }
+    if (yaml.containsKey(LOGGER_SEVERITIES)) {
+      loggerSeverities = MapUtils.getStringMap(yaml, LOGGER_SEVERITIES);
+    }
     if (yaml.containsKey(BULK_SIZE)) {
       bulkSize = MapUtils.getIntegerValue(yaml, BULK_SIZE);
     }
@@ -82,6 +210,111 @@ public class Config {
     if (bulkSize <= 1) {
       bulkSize = 1;
     }
+    if (yaml.containsKey(BULK_LINGER_MS)) {
+      bulkLingerMs = Math.max(0, MapUtils.getIntegerValue(yaml, BULK_LINGER_MS));
+    }
+    if (yaml.containsKey(BULK_MAX_BYTES)) {
+      bulkMaxBytes = Math.max(0, MapUtils.getIntegerValue(yaml, BULK_MAX_BYTES));
+    }
+    if (yaml.containsKey(BUFFER_SIZE)) {
+      bufferSize = MapUtils.getIntegerValue(yaml, BUFFER_SIZE);
+    }
+    if (yaml.containsKey(BUFFER_POOL_SIZE)) {
+      bufferPoolSize = Math.max(1, MapUtils.getIntegerValue(yaml, BUFFER_POOL_SIZE));
+    }
+    if (yaml.containsKey(DIRECT_BUFFERS)) {
+      directBuffers = MapUtils.getBooleanValue(yaml, DIRECT_BUFFERS);
+    }
+    if (yaml.containsKey(HTTP_TRANSPORT)) {
+      httpTransport =
+          HttpTransportType.fromConfigValue(
+              HTTP_TRANSPORT, MapUtils.getStringValue(yaml, HTTP_TRANSPORT));
+    }
+    if (yaml.containsKey(HTTP_MAX_CONNECTIONS)) {
+      httpMaxConnections = Math.max(1, MapUtils.getIntegerValue(yaml, HTTP_MAX_CONNECTIONS));
+    }
+    if (yaml.containsKey(HTTP_CONNECT_TIMEOUT_MS)) {
+      httpConnectTimeoutMs = Math.max(0, MapUtils.getIntegerValue(yaml, HTTP_CONNECT_TIMEOUT_MS));
+    }
+    if (yaml.containsKey(HTTP_READ_TIMEOUT_MS)) {
+      httpReadTimeoutMs = Math.max(0, MapUtils.getIntegerValue(yaml, HTTP_READ_TIMEOUT_MS));
+    }
+    if (yaml.containsKey(GZIP_ENABLED)) {
+      gzipEnabled = MapUtils.getBooleanValue(yaml, GZIP_ENABLED);
+    }
+    if (yaml.containsKey(GZIP_LEVEL)) {
+      gzipLevel = Math.max(0, Math.min(9, MapUtils.getIntegerValue(yaml, GZIP_LEVEL)));
+    }
+    if (yaml.containsKey(BULK_MAX_RETRIES)) {
+      bulkMaxRetries = Math.max(0, MapUtils.getIntegerValue(yaml, BULK_MAX_RETRIES));
+    }
+    if (yaml.containsKey(BULK_RETRY_BACKOFF_MS)) {
+      bulkRetryBackoffMs = Math.max(1, MapUtils.getIntegerValue(yaml, BULK_RETRY_BACKOFF_MS));
+    }
+    if (yaml.containsKey(BULK_RETRY_MAX_MEGABYTES)) {
+      bulkRetryMaxMegabytes =
+          Math.max(1, MapUtils.getIntegerValue(yaml, BULK_RETRY_MAX_MEGABYTES));
+    }
+    if (yaml.containsKey(SPILL_DIRECTORY)) {
+      spillDirectory = MapUtils.getStringValue(yaml, SPILL_DIRECTORY);
+    }
+    if (yaml.containsKey(SPILL_MAX_MEGABYTES)) {
+      spillMaxMegabytes = Math.max(1, MapUtils.getIntegerValue(yaml, SPILL_MAX_MEGABYTES));
+    }
+    if (yaml.containsKey(SPILL_SEGMENT_MEGABYTES)) {
+      spillSegmentMegabytes =
+          Math.max(1, Math.min(1024, MapUtils.getIntegerValue(yaml, SPILL_SEGMENT_MEGABYTES)));
+    }
+    if (yaml.containsKey(FILTER_STATS_INTERVAL_MS)) {
+      filterStatsIntervalMs = Math.max(0, MapUtils.getIntegerValue(yaml, FILTER_STATS_INTERVAL_MS));
+    }
+    if (yaml.containsKey(SLOW_FILTER_MICROS)) {
+      slowFilterMicros = Math.max(0, MapUtils.getIntegerValue(yaml, SLOW_FILTER_MICROS));
+    }
+    if (yaml.containsKey(RATE_LIMIT_PER_SECOND)) {
+      rateLimitPerSecond = Math.max(0, MapUtils.getIntegerValue(yaml, RATE_LIMIT_PER_SECOND));
+    }
+    if (yaml.containsKey(RATE_LIMIT_KEY)) {
+      rateLimitKey =
+          RateLimitKey.fromConfigValue(
+              RATE_LIMIT_KEY, MapUtils.getStringValue(yaml, RATE_LIMIT_KEY));
+    }
+    if (yaml.containsKey(RATE_LIMIT_SUMMARY_MS)) {
+      rateLimitSummaryMs = Math.max(1, MapUtils.getIntegerValue(yaml, RATE_LIMIT_SUMMARY_MS));
+    }
+    if (yaml.containsKey(COALESCE_WINDOW_MS)) {
+      coalesceWindowMs = Math.max(0, MapUtils.getIntegerValue(yaml, COALESCE_WINDOW_MS));
+    }
+    if (yaml.containsKey(COALESCE_MAX_KEYS)) {
+      coalesceMaxKeys = Math.max(1, MapUtils.getIntegerValue(yaml, COALESCE_MAX_KEYS));
+    }
+    if (yaml.containsKey(METRICS_PORT)) {
+      metricsPort = Math.max(0, MapUtils.getIntegerValue(yaml, METRICS_PORT));
+    }
+    if (yaml.containsKey(MIN_CONCURRENCY)) {
+      minConcurrency = Math.max(1, MapUtils.getIntegerValue(yaml, MIN_CONCURRENCY));
+    }
+    if (yaml.containsKey(MAX_CONCURRENCY)) {
+      maxConcurrency = Math.max(1, MapUtils.getIntegerValue(yaml, MAX_CONCURRENCY));
+    }
+    maxConcurrency = Math.max(minConcurrency, maxConcurrency);
+    if (yaml.containsKey(ASYNC_ENABLED)) {
+      asyncEnabled = MapUtils.getBooleanValue(yaml, ASYNC_ENABLED);
+    }
+    if (yaml.containsKey(QUEUE_CAPACITY)) {
+      queueCapacity = Math.max(1, MapUtils.getIntegerValue(yaml, QUEUE_CAPACITY));
+    }
+    if (yaml.containsKey(QUEUE_OVERFLOW_POLICY)) {
+      queueOverflowPolicy =
+          QueueOverflowPolicy.fromConfigValue(
+              QUEUE_OVERFLOW_POLICY, MapUtils.getStringValue(yaml, QUEUE_OVERFLOW_POLICY));
+    }
+    if (yaml.containsKey(QUEUE_OVERFLOW_SEVERITY)) {
+      queueOverflowSeverity = MapUtils.getStringValue(yaml, QUEUE_OVERFLOW_SEVERITY);
+    }
+    if (yaml.containsKey(SENDER_THREADS)) {
+      senderThreads = Math.max(1, MapUtils.getIntegerValue(yaml, SENDER_THREADS));
+    }
     // index name needs to be all lowercase.
     if (yaml.containsKey(INDEX_NAME)) {
       indexName = MapUtils.getStringValue(yaml, INDEX_NAME);
@@ -111,6 +344,59 @@ public class Config {
     if (yaml.containsKey(FILE_LOGGING_LOG_LEVEL)) {
       fileLoggingLogLevel = MapUtils.getStringValue(yaml, FILE_LOGGING_LOG_LEVEL);
     }
+    if (yaml.containsKey(FILE_WRITER)) {
+      fileWriter =
+          FileWriterType.fromConfigValue(FILE_WRITER, MapUtils.getStringValue(yaml, FILE_WRITER));
+    }
+    if (yaml.containsKey(FILE_SYNC_POLICY)) {
+      fileSyncPolicy =
+          FileSyncPolicy.fromConfigValue(
+              FILE_SYNC_POLICY, MapUtils.getStringValue(yaml, FILE_SYNC_POLICY));
+    }
+    if (yaml.containsKey(FILE_SYNC_INTERVAL_MS)) {
+      fileSyncIntervalMs = Math.max(1, MapUtils.getIntegerValue(yaml, FILE_SYNC_INTERVAL_MS));
+    }
+    if (yaml.containsKey(FILE_QUEUE_CAPACITY)) {
+      fileQueueCapacity = Math.max(1, MapUtils.getIntegerValue(yaml, FILE_QUEUE_CAPACITY));
+    }
+    if (yaml.containsKey(FILE_ROTATION_INTERVAL)) {
+      fileRotationInterval =
+          FileRotationInterval.fromConfigValue(
+              FILE_ROTATION_INTERVAL, MapUtils.getStringValue(yaml, FILE_ROTATION_INTERVAL));
+    }
+    if (yaml.containsKey(FILE_COMPRESSION)) {
+      fileCompression =
+          FileCompression.fromConfigValue(
+              FILE_COMPRESSION, MapUtils.getStringValue(yaml, FILE_COMPRESSION));
+    }
+    if (yaml.containsKey(FILE_RETENTION_MAX_MEGABYTES)) {
+      // 0 means no limit
+      fileRetentionMaxMegabytes =
+          Math.max(0, MapUtils.getIntegerValue(yaml, FILE_RETENTION_MAX_MEGABYTES));
+    }
+    if (enabled && fileLoggingEnabled) {
+      isolateFileFromExport();
+    }
+  }
+
+  // both outputs run on the logging thread, so a slow Elasticsearch would also hold up the file
+  // unless the export is handed off to the sender threads, and dropped when they fall behind
+  private void isolateFileFromExport() {
+    if (!asyncEnabled) {
+      asyncEnabled = true;
+      System.out.println("The JSON log file is written, so " + ASYNC_ENABLED + " is turned on");
+    }
+    if (queueOverflowPolicy == QueueOverflowPolicy.BLOCK
+        || queueOverflowPolicy == QueueOverflowPolicy.DROP_BELOW_SEVERITY) {
+      System.out.println(
+          "The JSON log file is written, so "
+              + QUEUE_OVERFLOW_POLICY
+              + " "
+              + queueOverflowPolicy
+              + " is replaced by "
+              + QueueOverflowPolicy.DROP_NEWEST);
+      queueOverflowPolicy = QueueOverflowPolicy.DROP_NEWEST;
+    }
   }
 
   public static Config loadConfig(File file) {
@@ -183,16 +469,57 @@ public class Config {
             ", port=" + port +
             ", indexName='" + indexName + '\'' +
             ", bulkSize=" + bulkSize +
+            ", bulkLingerMs=" + bulkLingerMs +
+            ", bulkMaxBytes=" + bulkMaxBytes +
+            ", bufferSize=" + bufferSize +
+            ", bufferPoolSize=" + bufferPoolSize +
+            ", directBuffers=" + directBuffers +
+            ", httpTransport=" + httpTransport +
+            ", httpMaxConnections=" + httpMaxConnections +
+            ", httpConnectTimeoutMs=" + httpConnectTimeoutMs +
+            ", httpReadTimeoutMs=" + httpReadTimeoutMs +
+            ", gzipEnabled=" + gzipEnabled +
+            ", gzipLevel=" + gzipLevel +
+            ", bulkMaxRetries=" + bulkMaxRetries +
+            ", bulkRetryBackoffMs=" + bulkRetryBackoffMs +
+            ", bulkRetryMaxMegabytes=" + bulkRetryMaxMegabytes +
+            ", spillDirectory='" + spillDirectory + '\'' +
+            ", spillMaxMegabytes=" + spillMaxMegabytes +
+            ", spillSegmentMegabytes=" + spillSegmentMegabytes +
+            ", minConcurrency=" + minConcurrency +
+            ", maxConcurrency=" + maxConcurrency +
             ", enabled=" + enabled +
             ", severity='" + severity + '\'' +
+            ", subsystemSeverities=" + subsystemSeverities +
+            ", loggerSeverities=" + loggerSeverities +
             ", filterConfigs=" + filterConfigs +
+            ", filterStatsIntervalMs=" + filterStatsIntervalMs +
+            ", slowFilterMicros=" + slowFilterMicros +
+            ", rateLimitPerSecond=" + rateLimitPerSecond +
+            ", rateLimitKey=" + rateLimitKey +
+            ", rateLimitSummaryMs=" + rateLimitSummaryMs +
+            ", coalesceWindowMs=" + coalesceWindowMs +
+            ", coalesceMaxKeys=" + coalesceMaxKeys +
+            ", metricsPort=" + metricsPort +
             ", domainUID='" + domainUID + '\'' +
+            ", asyncEnabled=" + asyncEnabled +
+            ", queueCapacity=" + queueCapacity +
+            ", queueOverflowPolicy=" + queueOverflowPolicy +
+            ", queueOverflowSeverity='" + queueOverflowSeverity + '\'' +
+            ", senderThreads=" + senderThreads +
             ", fileLoggingEnabled=" + fileLoggingEnabled +
             ", outputFile='" + outputFile + '\'' +
             ", getMaxRollbackFiles=" + getMaxRollbackFiles +
             ", maxFileSize=" + maxFileSize +
             ", appendToFile=" + appendToFile +
             ", fileLoggingLogLevel='" + fileLoggingLogLevel + '\'' +
+            ", fileWriter=" + fileWriter +
+            ", fileSyncPolicy=" + fileSyncPolicy +
+            ", fileSyncIntervalMs=" + fileSyncIntervalMs +
+            ", fileQueueCapacity=" + fileQueueCapacity +
+            ", fileRotationInterval=" + fileRotationInterval +
+            ", fileCompression=" + fileCompression +
+            ", fileRetentionMaxMegabytes=" + fileRetentionMaxMegabytes +
             '}';
   }
 
@@ -216,6 +543,14 @@ public class Config {
     return severity;
   }
 
+  public Map<String, String> getSubsystemSeverities() {
+    return subsystemSeverities;
+  }
+
+  public Map<String, String> getLoggerSeverities() {
+    return loggerSeverities;
+  }
+
   public List<FilterConfig> getFilterConfigs() {
     return filterConfigs;
   }
@@ -224,10 +559,138 @@ public class Config {
     return bulkSize;
   }
 
+  public int getBulkLingerMs() {
+    return bulkLingerMs;
+  }
+
+  public int getBulkMaxBytes() {
+    return bulkMaxBytes;
+  }
+
+  public int getBufferSize() {
+    return bufferSize;
+  }
+
+  public int getBufferPoolSize() {
+    return bufferPoolSize;
+  }
+
+  public boolean isDirectBuffers() {
+    return directBuffers;
+  }
+
+  public HttpTransportType getHttpTransport() {
+    return httpTransport;
+  }
+
+  public int getHttpMaxConnections() {
+    return httpMaxConnections;
+  }
+
+  public int getHttpConnectTimeoutMs() {
+    return httpConnectTimeoutMs;
+  }
+
+  public int getHttpReadTimeoutMs() {
+    return httpReadTimeoutMs;
+  }
+
+  public boolean isGzipEnabled() {
+    return gzipEnabled;
+  }
+
+  public int getGzipLevel() {
+    return gzipLevel;
+  }
+
+  public int getBulkMaxRetries() {
+    return bulkMaxRetries;
+  }
+
+  public int getBulkRetryBackoffMs() {
+    return bulkRetryBackoffMs;
+  }
+
+  public int getBulkRetryMaxMegabytes() {
+    return bulkRetryMaxMegabytes;
+  }
+
+  public String getSpillDirectory() {
+    return spillDirectory;
+  }
+
+  public int getSpillMaxMegabytes() {
+    return spillMaxMegabytes;
+  }
+
+  public int getSpillSegmentMegabytes() {
+    return spillSegmentMegabytes;
+  }
+
+  public int getFilterStatsIntervalMs() {
+    return filterStatsIntervalMs;
+  }
+
+  public int getSlowFilterMicros() {
+    return slowFilterMicros;
+  }
+
+  public int getRateLimitPerSecond() {
+    return rateLimitPerSecond;
+  }
+
+  public RateLimitKey getRateLimitKey() {
+    return rateLimitKey;
+  }
+
+  public int getRateLimitSummaryMs() {
+    return rateLimitSummaryMs;
+  }
+
+  public int getCoalesceWindowMs() {
+    return coalesceWindowMs;
+  }
+
+  public int getCoalesceMaxKeys() {
+    return coalesceMaxKeys;
+  }
+
+  public int getMetricsPort() {
+    return metricsPort;
+  }
+
+  public int getMinConcurrency() {
+    return minConcurrency;
+  }
+
+  public int getMaxConcurrency() {
+    return maxConcurrency;
+  }
+
   public String getDomainUID() {
     return domainUID;
   }
 
+  public boolean isAsyncEnabled() {
+    return asyncEnabled;
+  }
+
+  public int getQueueCapacity() {
+    return queueCapacity;
+  }
+
+  public QueueOverflowPolicy getQueueOverflowPolicy() {
+    return queueOverflowPolicy;
+  }
+
+  public String getQueueOverflowSeverity() {
+    return queueOverflowSeverity;
+  }
+
+  public int getSenderThreads() {
+    return senderThreads;
+  }
+
   public boolean isFileLoggingEnabled() {
     return fileLoggingEnabled;
   }
@@ -251,4 +714,32 @@ public class Config {
   public String getFileLoggingLogLevel() {
     return fileLoggingLogLevel;
   }
+
+  public FileWriterType getFileWriter() {
+    return fileWriter;
+  }
+
+  public FileSyncPolicy getFileSyncPolicy() {
+    return fileSyncPolicy;
+  }
+
+  public int getFileSyncIntervalMs() {
+    return fileSyncIntervalMs;
+  }
+
+  public int getFileQueueCapacity() {
+    return fileQueueCapacity;
+  }
+
+  public FileRotationInterval getFileRotationInterval() {
+    return fileRotationInterval;
+  }
+
+  public FileCompression getFileCompression() {
+    return fileCompression;
+  }
+
+  public int getFileRetentionMaxMegabytes() {
+    return fileRetentionMaxMegabytes;
+  }
 }
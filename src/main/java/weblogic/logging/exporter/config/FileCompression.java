@@ -0,0 +1,32 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter.config;
+
+/** How the asynchronous file writer compresses the JSON log files it has rotated. */
+public enum FileCompression {
+  /** Rotated files are kept as they are. */
+  NONE("none"),
+  /** Rotated files are compressed with gzip into files named with a {@code .gz} suffix. */
+  GZIP("gzip");
+
+  private final String configValue;
+
+  FileCompression(String configValue) {
+    this.configValue = configValue;
+  }
+
+  static FileCompression fromConfigValue(String key, String value) {
+    for (FileCompression compression : values()) {
+      if (compression.configValue.equalsIgnoreCase(value)) {
+        return compression;
+      }
+    }
+    throw MapUtils.createBadTypeException(key, value, "one of none, gzip");
+  }
+
+  @Override
+  public String toString() {
+    return configValue;
+  }
+}
@@ -0,0 +1,55 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter.config;
+
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * How often the asynchronous file writer rotates the JSON log file, in addition to rotating it
+ * when it reaches its size limit.
+ */
+public enum FileRotationInterval {
+  /** Only when the file reaches its size limit. */
+  NONE("none", null),
+  /** At the start of every hour. */
+  HOURLY("hourly", ChronoUnit.HOURS),
+  /** At midnight, in the time zone of the server. */
+  DAILY("daily", ChronoUnit.DAYS);
+
+  private final String configValue;
+  private final ChronoUnit unit;
+
+  FileRotationInterval(String configValue, ChronoUnit unit) {
+    this.configValue = configValue;
+    this.unit = unit;
+  }
+
+  /**
+   * Finds the first rotation after a time.
+   *
+   * @param time the time
+   * @return the start of the next hour or day, or {@code Long.MAX_VALUE} for {@link #NONE}
+   */
+  public long nextRotationAfter(ZonedDateTime time) {
+    if (unit == null) {
+      return Long.MAX_VALUE;
+    }
+    return time.truncatedTo(unit).plus(1, unit).toInstant().toEpochMilli();
+  }
+
+  static FileRotationInterval fromConfigValue(String key, String value) {
+    for (FileRotationInterval interval : values()) {
+      if (interval.configValue.equalsIgnoreCase(value)) {
+        return interval;
+      }
+    }
+    throw MapUtils.createBadTypeException(key, value, "one of none, hourly, daily");
+  }
+
+  @Override
+  public String toString() {
+    return configValue;
+  }
+}
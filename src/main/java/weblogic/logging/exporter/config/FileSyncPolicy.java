@@ -0,0 +1,34 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter.config;
+
+/** When the asynchronous file writer forces what it has written to the disk. */
+public enum FileSyncPolicy {
+  /** Leave it to the operating system. */
+  NONE("none"),
+  /** At most once per sync interval, and when the file is rotated or closed. */
+  INTERVAL("interval"),
+  /** After every batch of records written. */
+  BATCH("batch");
+
+  private final String configValue;
+
+  FileSyncPolicy(String configValue) {
+    this.configValue = configValue;
+  }
+
+  static FileSyncPolicy fromConfigValue(String key, String value) {
+    for (FileSyncPolicy policy : values()) {
+      if (policy.configValue.equalsIgnoreCase(value)) {
+        return policy;
+      }
+    }
+    throw MapUtils.createBadTypeException(key, value, "one of none, interval, batch");
+  }
+
+  @Override
+  public String toString() {
+    return configValue;
+  }
+}
@@ -0,0 +1,34 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter.config;
+
+/** How the JSON log file is written when file logging is enabled. */
+public enum FileWriterType {
+  /** Formats on the logging thread and writes on a background thread through a file channel. */
+  ASYNC("async"),
+  /** The {@code java.util.logging.FileHandler} of the JDK, which writes on the logging thread. */
+  HANDLER("handler"),
+  /** Copies from the logging thread into a memory-mapped window of the file, without a lock. */
+  MAPPED("mapped");
+
+  private final String configValue;
+
+  FileWriterType(String configValue) {
+    this.configValue = configValue;
+  }
+
+  static FileWriterType fromConfigValue(String key, String value) {
+    for (FileWriterType type : values()) {
+      if (type.configValue.equalsIgnoreCase(value)) {
+        return type;
+      }
+    }
+    throw MapUtils.createBadTypeException(key, value, "one of async, handler, mapped");
+  }
+
+  @Override
+  public String toString() {
+    return configValue;
+  }
+}
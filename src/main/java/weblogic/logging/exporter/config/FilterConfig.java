@@ -1,10 +1,11 @@
-// Copyright (c) 2018, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package weblogic.logging.exporter.config;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -19,7 +20,7 @@ public class FilterConfig {
   private static final String SERVERS = "FilterServers";
 
   private String expression;
-  private String[] servers = new String[0];
+  private List<String> servers = Collections.emptyList();
   private Query query = null;
 
   private FilterConfig(Map<String, Object> map) {
@@ -52,7 +53,7 @@ public class FilterConfig {
 
     Set<String> uniqueValues = new HashSet<>(Arrays.asList(values));
     if (values.length != uniqueValues.size()) reportDuplicateValues(values, uniqueValues);
-    this.servers = values;
+    this.servers = Collections.unmodifiableList(Arrays.asList(values));
   }
 
   private void reportDuplicateValues(String[] values, Set<String> uniqueValues) {
@@ -62,12 +63,16 @@ public class FilterConfig {
     throw new ConfigurationException("Duplicate values for " + duplicate);
   }
 
+  public String getExpression() {
+    return expression;
+  }
+
   public Query getQuery() {
     return query;
   }
 
   public List<String> getServers() {
-    return Arrays.asList(servers);
+    return servers;
   }
 
   @Override
@@ -77,7 +82,7 @@ public class FilterConfig {
         + expression
         + '\''
         + ", servers="
-        + Arrays.toString(servers)
+        + servers
         + '}';
   }
 }
@@ -0,0 +1,32 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter.config;
+
+/** The HTTP client used to send requests to Elasticsearch. */
+public enum HttpTransportType {
+  /** The exporter's own pool of persistent HTTP/1.1 connections. */
+  BUILTIN("builtin"),
+  /** The JAX-RS client provided by the server. */
+  JAX_RS("jaxrs");
+
+  private final String configValue;
+
+  HttpTransportType(String configValue) {
+    this.configValue = configValue;
+  }
+
+  static HttpTransportType fromConfigValue(String key, String value) {
+    for (HttpTransportType type : values()) {
+      if (type.configValue.equalsIgnoreCase(value)) {
+        return type;
+      }
+    }
+    throw MapUtils.createBadTypeException(key, value, "one of builtin, jaxrs");
+  }
+
+  @Override
+  public String toString() {
+    return configValue;
+  }
+}
@@ -1,8 +1,10 @@
-// Copyright (c) 2018, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package weblogic.logging.exporter.config;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -72,6 +74,28 @@ class MapUtils {
     return result;
   }
 
+  /**
+   * Returns the specified map value as a map of strings to strings, in the order of the file.
+   *
+   * @param map a map containing the value
+   * @param key the map key at which the value is found
+   * @return the string representations of the keys and values of the nested map
+   */
+  static Map<String, String> getStringMap(Map<String, Object> map, String key) {
+    Object value = map.get(key);
+    if (!(value instanceof Map)) {
+      throw createBadTypeException(key, value, "a map of names to values");
+    }
+    Map<String, String> result = new LinkedHashMap<>();
+    for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+      if (entry.getKey() == null || entry.getValue() == null) {
+        throw createBadTypeException(key, value, "a map of names to values");
+      }
+      result.put(entry.getKey().toString(), entry.getValue().toString());
+    }
+    return Collections.unmodifiableMap(result);
+  }
+
   /**
    * Attempts to retrieve the specified value as a boolean. It can recognize the value either as a
    * Boolean object or a string.
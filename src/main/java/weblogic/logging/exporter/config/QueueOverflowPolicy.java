@@ -0,0 +1,37 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter.config;
+
+/** What the asynchronous exporter does with a new record when its hand-off queue is full. */
+public enum QueueOverflowPolicy {
+  /** Wait until the sender threads have made room. */
+  BLOCK("block"),
+  /** Discard the record that could not be queued. */
+  DROP_NEWEST("dropNewest"),
+  /** Discard the oldest queued record to make room for the new one. */
+  DROP_OLDEST("dropOldest"),
+  /** Discard the new record if it is below the overflow severity, otherwise wait. */
+  DROP_BELOW_SEVERITY("dropBelowSeverity");
+
+  private final String configValue;
+
+  QueueOverflowPolicy(String configValue) {
+    this.configValue = configValue;
+  }
+
+  static QueueOverflowPolicy fromConfigValue(String key, String value) {
+    for (QueueOverflowPolicy policy : values()) {
+      if (policy.configValue.equalsIgnoreCase(value)) {
+        return policy;
+      }
+    }
+    throw MapUtils.createBadTypeException(
+        key, value, "one of block, dropNewest, dropOldest, dropBelowSeverity");
+  }
+
+  @Override
+  public String toString() {
+    return configValue;
+  }
+}
@@ -0,0 +1,32 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter.config;
+
+/** The field of a record whose values the exporter limits the rate of. */
+public enum RateLimitKey {
+  /** Count the records of each message ID, e.g. BEA-000000. */
+  MESSAGE_ID("messageID"),
+  /** Count the records of each subsystem, e.g. JDBC. */
+  SUBSYSTEM("subsystem");
+
+  private final String configValue;
+
+  RateLimitKey(String configValue) {
+    this.configValue = configValue;
+  }
+
+  static RateLimitKey fromConfigValue(String key, String value) {
+    for (RateLimitKey rateLimitKey : values()) {
+      if (rateLimitKey.configValue.equalsIgnoreCase(value)) {
+        return rateLimitKey;
+      }
+    }
+    throw MapUtils.createBadTypeException(key, value, "one of messageID, subsystem");
+  }
+
+  @Override
+  public String toString() {
+    return configValue;
+  }
+}
@@ -0,0 +1,34 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Creates the executor that bulk requests are sent on. This version, for Java 21 and later, starts
+ * a virtual thread for each request, so that a blocked HTTP send does not hold a platform thread
+ * and the number of requests in flight is bounded only by the concurrency limit.
+ */
+final class SenderExecutors {
+
+  private SenderExecutors() {}
+
+  /**
+   * Creates an executor for bulk requests.
+   *
+   * @param threads the most requests that are sent at once; not needed, as virtual threads are
+   *     cheap enough to start one per request
+   * @return the executor
+   */
+  static ExecutorService newBulkExecutor(int threads) {
+    return Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name("weblogic-logging-exporter-bulk-", 0).factory());
+  }
+
+  /** @return true if bulk requests are sent on virtual threads */
+  static boolean usesVirtualThreads() {
+    return true;
+  }
+}
@@ -0,0 +1,104 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test the AdaptiveConcurrencyLimit class")
+public class AdaptiveConcurrencyLimitTest {
+
+  private static final long ONE_MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private static void runRound(AdaptiveConcurrencyLimit limit, long latencyNanos)
+      throws InterruptedException {
+    int requests = limit.getLimit();
+    for (int i = 0; i < requests; i++) {
+      limit.acquire();
+    }
+    for (int i = 0; i < requests; i++) {
+      limit.release(latencyNanos, false);
+    }
+  }
+
+  @DisplayName("The limit grows while it is in use, up to the maximum")
+  @Test
+  public void growsWhileSaturated() throws InterruptedException {
+    AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(1, 8);
+    runRound(limit, ONE_MS);
+    int afterOneRound = limit.getLimit();
+    for (int i = 0; i < 50; i++) {
+      runRound(limit, ONE_MS);
+    }
+
+    assertAll(() -> assertEquals(2, afterOneRound), () -> assertEquals(8, limit.getLimit()));
+  }
+
+  @DisplayName("The limit does not grow while less than half of it is used")
+  @Test
+  public void doesNotGrowWhenIdle() throws InterruptedException {
+    AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(4, 8);
+    for (int i = 0; i < 50; i++) {
+      limit.acquire();
+      limit.release(ONE_MS, false);
+    }
+
+    assertEquals(4, limit.getLimit());
+  }
+
+  @DisplayName("An overloaded response halves the limit once per round, down to the minimum")
+  @Test
+  public void halvesOnOverload() throws InterruptedException {
+    AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 16);
+    while (limit.getLimit() < 16) {
+      runRound(limit, ONE_MS);
+    }
+    limit.acquire();
+    limit.acquire();
+    limit.release(TimeUnit.SECONDS.toNanos(10), true);
+    int afterFirstRejection = limit.getLimit();
+    limit.release(TimeUnit.SECONDS.toNanos(10), true);
+    int afterSecondRejectionOfRound = limit.getLimit();
+    for (int i = 0; i < 5; i++) {
+      limit.acquire();
+      limit.release(0, true);
+    }
+
+    assertAll(
+        () -> assertEquals(8, afterFirstRejection),
+        () -> assertEquals(8, afterSecondRejectionOfRound),
+        () -> assertEquals(2, limit.getLimit()));
+  }
+
+  @DisplayName("Small and large batches of different latencies do not hold the limit down")
+  @Test
+  public void growsWithMixedBatchSizes() throws InterruptedException {
+    AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(1, 8);
+    for (int i = 0; i < 50; i++) {
+      // a small bulk from the linger flush, then a full one that takes 40 times as long
+      runRound(limit, ONE_MS);
+      runRound(limit, 40 * ONE_MS);
+    }
+
+    assertEquals(8, limit.getLimit());
+  }
+
+  @DisplayName("Waiting for idle returns once every request has been released")
+  @Test
+  public void awaitsIdle() throws InterruptedException {
+    AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(1, 1);
+    limit.acquire();
+    boolean idleWhileInFlight = limit.awaitIdle(10);
+    new Thread(() -> limit.release(ONE_MS, false)).start();
+
+    assertAll(
+        () -> assertFalse(idleWhileInFlight), () -> assertTrue(limit.awaitIdle(5000)));
+  }
+}
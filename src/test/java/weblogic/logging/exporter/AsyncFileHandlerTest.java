@@ -0,0 +1,233 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Formatter;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import weblogic.logging.exporter.config.FileCompression;
+import weblogic.logging.exporter.config.FileRotationInterval;
+import weblogic.logging.exporter.config.FileSyncPolicy;
+
+@DisplayName("Test the AsyncFileHandler class")
+public class AsyncFileHandlerTest {
+
+  @TempDir File directory;
+
+  private AsyncFileHandler createHandler(String name, long limit, int count, boolean append)
+      throws IOException {
+    return createHandler(
+        name, limit, count, append, FileRotationInterval.NONE, FileCompression.NONE, 0);
+  }
+
+  private AsyncFileHandler createHandler(
+      String name,
+      long limit,
+      int count,
+      boolean append,
+      FileRotationInterval rotationInterval,
+      FileCompression compression,
+      long maxTotalBytes)
+      throws IOException {
+    AsyncFileHandler handler =
+        new AsyncFileHandler(
+            new File(directory, name).getPath(),
+            limit,
+            count,
+            append,
+            rotationInterval,
+            compression,
+            maxTotalBytes,
+            FileSyncPolicy.BATCH,
+            1000,
+            16);
+    handler.setFormatter(
+        new Formatter() {
+          @Override
+          public String format(LogRecord record) {
+            return record.getMessage() + "\n";
+          }
+        });
+    return handler;
+  }
+
+  private static List<String> readLines(File file) throws IOException {
+    return Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+  }
+
+  private static List<String> readCompressedLines(File file) throws IOException {
+    try (BufferedReader reader =
+        new BufferedReader(
+            new InputStreamReader(
+                new GZIPInputStream(new FileInputStream(file)), StandardCharsets.UTF_8))) {
+      return reader.lines().collect(Collectors.toList());
+    }
+  }
+
+  private static void publishRecords(AsyncFileHandler handler, int count) {
+    for (int i = 0; i < count; i++) {
+      // 20 bytes per line, so five lines fill a file of 100 bytes
+      handler.publish(new LogRecord(Level.INFO, String.format("record-%012d", i)));
+    }
+  }
+
+  @DisplayName("Records from several threads are all written, each on a line of its own")
+  @Test
+  public void writesEveryRecord() throws Exception {
+    AsyncFileHandler handler = createHandler("json.log", 0, 1, false);
+    List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < 4; t++) {
+      final int thread = t;
+      threads.add(
+          new Thread(
+              () -> {
+                for (int i = 0; i < 1000; i++) {
+                  handler.publish(new LogRecord(Level.INFO, "thread-" + thread + "-" + i));
+                }
+              }));
+    }
+    threads.forEach(Thread::start);
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    handler.flush();
+    final List<String> flushed = readLines(new File(directory, "json.log"));
+    handler.close();
+
+    assertAll(
+        () -> assertEquals(4000, flushed.size()),
+        () -> assertTrue(flushed.contains("thread-3-999")),
+        () -> assertTrue(flushed.indexOf("thread-0-1") > flushed.indexOf("thread-0-0")));
+  }
+
+  @DisplayName("The file is rotated before it goes over the size limit")
+  @Test
+  public void rotatesAtTheSizeLimit() throws Exception {
+    AsyncFileHandler handler = createHandler("json%g.log", 100, 3, false);
+    publishRecords(handler, 20);
+    handler.close();
+
+    final File current = new File(directory, "json0.log");
+    final File oldest = new File(directory, "json2.log");
+    assertAll(
+        () -> assertEquals(100, current.length()),
+        () -> assertEquals("record-000000000015", readLines(current).get(0)),
+        () -> assertEquals("record-000000000005", readLines(oldest).get(0)),
+        () -> assertFalse(new File(directory, "json3.log").exists()));
+  }
+
+  @DisplayName("Rotated files are compressed in the background and moved back as files rotate")
+  @Test
+  public void compressesRotatedFiles() throws Exception {
+    AsyncFileHandler handler =
+        createHandler(
+            "json%g.log", 100, 4, false, FileRotationInterval.NONE, FileCompression.GZIP, 0);
+    publishRecords(handler, 15);
+    handler.flush();
+    final File newer = new File(directory, "json1.log.gz");
+    final File older = new File(directory, "json2.log.gz");
+    long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+    while (!(newer.exists() && older.exists()) && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    handler.close();
+
+    final File current = new File(directory, "json0.log");
+    assertAll(
+        () -> assertEquals("record-000000000010", readLines(current).get(0)),
+        () -> assertEquals("record-000000000005", readCompressedLines(newer).get(0)),
+        () -> assertEquals(5, readCompressedLines(older).size()),
+        () -> assertFalse(new File(directory, "json1.log").exists()),
+        () -> assertFalse(new File(directory, "json2.log").exists()));
+  }
+
+  @DisplayName("The oldest rotated files are deleted once they take more than the total size")
+  @Test
+  public void deletesFilesOverTheTotalSize() throws Exception {
+    AsyncFileHandler handler =
+        createHandler(
+            "json%g.log", 100, 5, false, FileRotationInterval.NONE, FileCompression.NONE, 250);
+    publishRecords(handler, 20);
+    handler.close();
+
+    // three rotated files of 100 bytes, only two of which fit
+    final File current = new File(directory, "json0.log");
+    final File oldest = new File(directory, "json2.log");
+    assertAll(
+        () -> assertEquals("record-000000000015", readLines(current).get(0)),
+        () -> assertEquals("record-000000000005", readLines(oldest).get(0)),
+        () -> assertFalse(new File(directory, "json3.log").exists()));
+  }
+
+  @DisplayName("A file last written in an earlier hour is rotated before the next record")
+  @Test
+  public void rotatesAtTheStartOfAnHour() throws Exception {
+    final File current = new File(directory, "json0.log");
+    Files.write(current.toPath(), "yesterday\n".getBytes(StandardCharsets.UTF_8));
+    current.setLastModified(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(1));
+    AsyncFileHandler handler =
+        createHandler(
+            "json%g.log", 0, 2, true, FileRotationInterval.HOURLY, FileCompression.NONE, 0);
+    handler.publish(new LogRecord(Level.INFO, "today"));
+    handler.publish(new LogRecord(Level.INFO, "still today"));
+    handler.close();
+
+    assertAll(
+        () -> assertEquals(List.of("today", "still today"), readLines(current)),
+        () -> assertEquals(List.of("yesterday"), readLines(new File(directory, "json1.log"))));
+  }
+
+  @DisplayName("The current file is added to or started again as configured")
+  @Test
+  public void appendsOrTruncates() throws Exception {
+    AsyncFileHandler first = createHandler("json.log", 0, 1, false);
+    first.publish(new LogRecord(Level.INFO, "first"));
+    first.close();
+    AsyncFileHandler appending = createHandler("json.log", 0, 1, true);
+    appending.publish(new LogRecord(Level.INFO, "appended"));
+    appending.close();
+    final List<String> appended = readLines(new File(directory, "json.log"));
+    AsyncFileHandler truncating = createHandler("json.log", 0, 1, false);
+    truncating.publish(new LogRecord(Level.INFO, "alone"));
+    truncating.close();
+    final List<String> truncated = readLines(new File(directory, "json.log"));
+
+    assertAll(
+        () -> assertEquals(List.of("first", "appended"), appended),
+        () -> assertEquals(List.of("alone"), truncated));
+  }
+
+  @DisplayName("File names follow the FileHandler pattern syntax")
+  @Test
+  public void expandsFileHandlerPatterns() {
+    final String home = System.getProperty("user.home");
+    assertAll(
+        () -> assertEquals(new File("app.log.2"), new LogFilePattern("app.log", 3).fileFor(2)),
+        () -> assertEquals(new File("app-1.log"), new LogFilePattern("app-%g.log", 3).fileFor(1)),
+        () -> assertEquals(new File("app.log"), new LogFilePattern("app.log", 1).currentFile()),
+        () ->
+            assertEquals(
+                new File(home + "/a%0.log"), new LogFilePattern("%h/a%%%u.log", 1).fileFor(0)));
+  }
+}
@@ -0,0 +1,196 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import weblogic.logging.exporter.config.QueueOverflowPolicy;
+
+@DisplayName("Test the AsyncLogSender class")
+public class AsyncLogSenderTest {
+
+  private final List<String> sent = Collections.synchronizedList(new ArrayList<>());
+  private final CountDownLatch senderBusy = new CountDownLatch(1);
+  private final CountDownLatch releaseSender = new CountDownLatch(1);
+  private final FailureReporter failures = new FailureReporter(System.out);
+  private AsyncLogSender sender;
+
+  @AfterEach
+  public void shutdownSender() {
+    releaseSender.countDown();
+    if (sender != null) {
+      sender.shutdown();
+    }
+  }
+
+  private Consumer<List<LogRecord>> recordingConsumer() {
+    return batch -> {
+      for (LogRecord record : batch) {
+        sent.add(record.getMessage());
+      }
+    };
+  }
+
+  private Consumer<List<LogRecord>> blockingConsumer() {
+    return batch -> {
+      senderBusy.countDown();
+      try {
+        releaseSender.await(10, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      recordingConsumer().accept(batch);
+    };
+  }
+
+  private AsyncLogSender createBlockedSender(QueueOverflowPolicy policy) throws Exception {
+    AsyncLogSender blocked =
+        new AsyncLogSender(
+            4, policy, Level.WARNING.intValue(), 1, 1, 0, blockingConsumer(), null, failures);
+    blocked.submit(new LogRecord(Level.INFO, "in-flight"));
+    assertTrue(senderBusy.await(10, TimeUnit.SECONDS));
+    return blocked;
+  }
+
+  @DisplayName("The ring queue is FIFO and rounds its capacity up to a power of two")
+  @Test
+  public void ringQueueIsFifo() {
+    BoundedRingQueue<Integer> queue = new BoundedRingQueue<>(3);
+
+    assertEquals(4, queue.capacity());
+    for (int i = 0; i < 4; i++) {
+      assertTrue(queue.offer(i));
+    }
+    assertFalse(queue.offer(4));
+    assertEquals(4, queue.size());
+    for (int i = 0; i < 4; i++) {
+      assertEquals(Integer.valueOf(i), queue.poll());
+    }
+    assertNull(queue.poll());
+    assertTrue(queue.isEmpty());
+  }
+
+  @DisplayName("All submitted records are handed to the consumer in bounded batches")
+  @Test
+  public void allRecordsAreSent() {
+    List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+    Consumer<List<LogRecord>> consumer = recordingConsumer();
+    sender =
+        new AsyncLogSender(
+            64,
+            QueueOverflowPolicy.BLOCK,
+            Level.WARNING.intValue(),
+            2,
+            10,
+            0,
+            batch -> {
+              batchSizes.add(batch.size());
+              consumer.accept(batch);
+            },
+            null,
+            failures);
+
+    for (int i = 0; i < 1000; i++) {
+      assertTrue(sender.submit(new LogRecord(Level.INFO, "record-" + i)));
+    }
+    sender.shutdown();
+
+    assertEquals(1000, sent.size());
+    assertEquals(1000, sender.getEnqueuedCount());
+    assertEquals(0, sender.getDroppedCount());
+    assertTrue(batchSizes.stream().allMatch(size -> size <= 10));
+  }
+
+  @DisplayName("A partial batch is handed over once the linger time has passed")
+  @Test
+  public void partialBatchIsSentAfterLinger() throws Exception {
+    CountDownLatch received = new CountDownLatch(1);
+    Consumer<List<LogRecord>> consumer = recordingConsumer();
+    sender =
+        new AsyncLogSender(
+            64,
+            QueueOverflowPolicy.BLOCK,
+            Level.WARNING.intValue(),
+            1,
+            100,
+            50,
+            batch -> {
+              consumer.accept(batch);
+              received.countDown();
+            },
+            null,
+            failures);
+
+    sender.submit(new LogRecord(Level.INFO, "lonely"));
+
+    assertTrue(received.await(10, TimeUnit.SECONDS));
+    assertEquals(Collections.singletonList("lonely"), new ArrayList<>(sent));
+  }
+
+  @DisplayName("With dropNewest, records that do not fit are discarded")
+  @Test
+  public void dropNewestDiscardsNewRecords() throws Exception {
+    sender = createBlockedSender(QueueOverflowPolicy.DROP_NEWEST);
+
+    for (int i = 0; i < 6; i++) {
+      sender.submit(new LogRecord(Level.INFO, "record-" + i));
+    }
+    releaseSender.countDown();
+    sender.shutdown();
+
+    assertEquals(2, sender.getDroppedCount());
+    assertEquals(
+        Arrays.asList("in-flight", "record-0", "record-1", "record-2", "record-3"),
+        new ArrayList<>(sent));
+  }
+
+  @DisplayName("With dropOldest, the oldest queued records make room for new ones")
+  @Test
+  public void dropOldestDiscardsOldRecords() throws Exception {
+    sender = createBlockedSender(QueueOverflowPolicy.DROP_OLDEST);
+
+    for (int i = 0; i < 6; i++) {
+      assertTrue(sender.submit(new LogRecord(Level.INFO, "record-" + i)));
+    }
+    releaseSender.countDown();
+    sender.shutdown();
+
+    assertEquals(2, sender.getDroppedCount());
+    assertEquals(
+        Arrays.asList("in-flight", "record-2", "record-3", "record-4", "record-5"),
+        new ArrayList<>(sent));
+  }
+
+  @DisplayName("With dropBelowSeverity, only records below the overflow severity are discarded")
+  @Test
+  public void dropBelowSeverityKeepsSevereRecords() throws Exception {
+    sender = createBlockedSender(QueueOverflowPolicy.DROP_BELOW_SEVERITY);
+    for (int i = 0; i < 4; i++) {
+      sender.submit(new LogRecord(Level.INFO, "record-" + i));
+    }
+
+    assertFalse(sender.submit(new LogRecord(Level.INFO, "dropped")));
+    Thread severe = new Thread(() -> sender.submit(new LogRecord(Level.SEVERE, "severe")));
+    severe.start();
+    releaseSender.countDown();
+    severe.join(10_000);
+    sender.shutdown();
+
+    assertEquals(1, sender.getDroppedCount());
+    assertTrue(sent.contains("severe"));
+    assertFalse(sent.contains("dropped"));
+  }
+}
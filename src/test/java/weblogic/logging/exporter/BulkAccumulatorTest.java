@@ -0,0 +1,137 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test the BulkAccumulator class")
+public class BulkAccumulatorTest {
+
+  private static final int THREADS = 8;
+  private static final int PAYLOADS_PER_THREAD = 20_000;
+  private static final int BATCH_SIZE = 37;
+
+  @DisplayName("A full batch is returned to the thread that filled it")
+  @Test
+  public void fullBatchIsReturned() {
+    BulkAccumulator accumulator = new BulkAccumulator(3, 0, 1);
+
+    assertNull(accumulator.add("a"));
+    assertNull(accumulator.add("b"));
+    assertEquals(Arrays.asList("a", "b", "c"), accumulator.add("c"));
+    assertTrue(accumulator.drain().isEmpty());
+  }
+
+  @DisplayName("Draining returns partially filled batches once")
+  @Test
+  public void drainReturnsPartialBatches() {
+    BulkAccumulator accumulator = new BulkAccumulator(10, 0, 1);
+    accumulator.add("a");
+    accumulator.add("b");
+
+    List<List<String>> drained = accumulator.drain();
+
+    assertEquals(1, drained.size());
+    assertEquals(Arrays.asList("a", "b"), drained.get(0));
+    assertTrue(accumulator.drain().isEmpty());
+  }
+
+  @DisplayName("A batch is cut short when its payloads reach the byte limit")
+  @Test
+  public void batchIsReturnedAtByteLimit() {
+    BulkAccumulator accumulator = new BulkAccumulator(100, 10, 1);
+
+    assertNull(accumulator.add("12345"));
+    assertEquals(Arrays.asList("12345", "67890"), accumulator.add("67890"));
+    assertNull(accumulator.add("x"));
+  }
+
+  @DisplayName("Draining by age leaves batches younger than the linger time")
+  @Test
+  public void drainByAgeSkipsYoungBatches() throws Exception {
+    BulkAccumulator accumulator = new BulkAccumulator(10, 0, 1);
+    accumulator.add("a");
+
+    assertTrue(accumulator.drain(TimeUnit.HOURS.toNanos(1)).isEmpty());
+    Thread.sleep(20);
+    assertEquals(1, accumulator.drain(TimeUnit.MILLISECONDS.toNanos(10)).size());
+  }
+
+  @DisplayName("Concurrent adds and drains neither lose nor duplicate payloads")
+  @Test
+  public void concurrentAddsAndDrainsKeepEveryPayloadOnce() throws Exception {
+    BulkAccumulator accumulator = new BulkAccumulator(BATCH_SIZE, 150, 4);
+    List<List<String>> sent = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch start = new CountDownLatch(1);
+    AtomicBoolean producing = new AtomicBoolean(true);
+
+    List<Thread> producers = new ArrayList<>();
+    for (int t = 0; t < THREADS; t++) {
+      final int threadNumber = t;
+      Thread producer =
+          new Thread(
+              () -> {
+                awaitQuietly(start);
+                for (int i = 0; i < PAYLOADS_PER_THREAD; i++) {
+                  List<String> batch = accumulator.add(threadNumber + "-" + i);
+                  if (batch != null) {
+                    sent.add(batch);
+                  }
+                }
+              });
+      producers.add(producer);
+      producer.start();
+    }
+    Thread flusher =
+        new Thread(
+            () -> {
+              awaitQuietly(start);
+              while (producing.get()) {
+                sent.addAll(accumulator.drain());
+              }
+            });
+    flusher.start();
+
+    start.countDown();
+    for (Thread producer : producers) {
+      producer.join();
+    }
+    producing.set(false);
+    flusher.join();
+    sent.addAll(accumulator.drain());
+
+    Set<String> unique = new HashSet<>();
+    int total = 0;
+    for (List<String> batch : sent) {
+      assertTrue(batch.size() <= BATCH_SIZE);
+      for (String payload : batch) {
+        assertNotNull(payload);
+        unique.add(payload);
+        total++;
+      }
+    }
+    assertEquals(THREADS * PAYLOADS_PER_THREAD, total);
+    assertEquals(THREADS * PAYLOADS_PER_THREAD, unique.size());
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
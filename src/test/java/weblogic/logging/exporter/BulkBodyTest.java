@@ -0,0 +1,112 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test the BulkBody class")
+public class BulkBodyTest {
+
+  private static final String ASCII_DOCUMENT = "{\"message\":\"The server started.\"}";
+  private static final String MIXED_DOCUMENT =
+      "{\"message\":\"Gr\u00fc\u00dfe \u2603 \ud83d\ude00 end\"}";
+
+  private static String expectedBody(String... documents) {
+    StringBuilder expected = new StringBuilder();
+    for (String document : documents) {
+      expected.append("{\"index\":{}}\n").append(document).append('\n');
+    }
+    return expected.toString();
+  }
+
+  private static byte[] streamed(BulkBody body) throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    body.writeTo(out);
+    return out.toByteArray();
+  }
+
+  @DisplayName("Documents are interleaved with index action lines")
+  @Test
+  public void documentsAreInterleavedWithActions() throws Exception {
+    BulkBody body = new BulkBody(new ByteBufferPool(1024, 4, false));
+    body.appendDocument(ASCII_DOCUMENT);
+    body.appendDocument(ASCII_DOCUMENT);
+
+    byte[] expected =
+        expectedBody(ASCII_DOCUMENT, ASCII_DOCUMENT).getBytes(StandardCharsets.UTF_8);
+    assertArrayEquals(expected, streamed(body));
+    assertEquals(expected.length, body.size());
+    assertEquals(2, body.getDocumentCount());
+  }
+
+  @DisplayName("Multi-byte characters are encoded as UTF-8 across buffer boundaries")
+  @Test
+  public void multiByteCharactersSpanBuffers() throws Exception {
+    for (boolean direct : new boolean[] {false, true}) {
+      BulkBody body = new BulkBody(new ByteBufferPool(64, 4, direct));
+      for (int i = 0; i < 20; i++) {
+        body.appendDocument(MIXED_DOCUMENT);
+      }
+
+      String[] documents = new String[20];
+      Arrays.fill(documents, MIXED_DOCUMENT);
+      byte[] expected = expectedBody(documents).getBytes(StandardCharsets.UTF_8);
+      assertArrayEquals(expected, streamed(body));
+
+      ByteArrayOutputStream channelOut = new ByteArrayOutputStream();
+      body.writeTo(Channels.newChannel(channelOut));
+      assertArrayEquals(expected, channelOut.toByteArray());
+      assertEquals(expectedBody(documents), body.toString());
+    }
+  }
+
+  @DisplayName("Released buffers are reused by the next body")
+  @Test
+  public void releasedBuffersAreReused() {
+    ByteBufferPool pool = new ByteBufferPool(64, 8, false);
+    BulkBody body = new BulkBody(pool);
+    for (int i = 0; i < 10; i++) {
+      body.appendDocument(ASCII_DOCUMENT);
+    }
+    body.release();
+    int pooled = pool.getPooledCount();
+
+    assertTrue(pooled > 1);
+    assertTrue(body.isEmpty());
+    new BulkBody(pool).appendDocument(ASCII_DOCUMENT);
+    assertEquals(pooled - 1, pool.getPooledCount());
+  }
+
+  @DisplayName("Single documents are copied into another body across buffer boundaries")
+  @Test
+  public void documentsAreCopied() throws Exception {
+    for (boolean direct : new boolean[] {false, true}) {
+      ByteBufferPool pool = new ByteBufferPool(64, 16, direct);
+      BulkBody source = new BulkBody(pool);
+      source.appendDocument(ASCII_DOCUMENT);
+      source.appendDocument(MIXED_DOCUMENT);
+      source.appendDocument(ASCII_DOCUMENT + " ");
+      BulkBody copy = new BulkBody(pool);
+      copy.appendDocumentFrom(source, 2);
+      copy.appendDocumentFrom(source, 1);
+
+      assertAll(
+          () ->
+              assertEquals(
+                  expectedBody(ASCII_DOCUMENT + " ", MIXED_DOCUMENT),
+                  new String(streamed(copy), StandardCharsets.UTF_8)),
+          () -> assertEquals(2, copy.getDocumentCount()),
+          () ->
+              assertThrows(
+                  IndexOutOfBoundsException.class, () -> copy.appendDocumentFrom(source, 3)));
+    }
+  }
+}
@@ -0,0 +1,148 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test the BulkResponseParser class")
+public class BulkResponseParserTest {
+
+  private static BulkResponse parse(int status, String json) throws IOException {
+    return BulkResponseParser.read(
+        status, new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  @DisplayName("Parsing stops at errors:false without reading the items")
+  @Test
+  public void stopsAtErrorsFalse() throws IOException {
+    BulkResponse response = parse(200, "{\"took\":3,\"errors\":false,\"items\":[this is not json");
+
+    assertAll(
+        () -> assertFalse(response.isRequestFailed()),
+        () -> assertEquals(0, response.getRetryableCount()),
+        () -> assertEquals(0, response.getPermanentFailureCount()));
+  }
+
+  @DisplayName("Rejected items are retryable and mapping failures are permanent")
+  @Test
+  public void classifiesItems() throws IOException {
+    BulkResponse response =
+        parse(
+            200,
+            "{\n  \"took\" : 30,\n  \"errors\" : true,\n  \"items\" : [\n"
+                + "    {\"index\":{\"_index\":\"wls\",\"_shards\":{\"total\":2,\"failed\":0},"
+                + "\"status\":201}},\n"
+                + "    {\"index\":{\"status\":429,\"error\":{\"type\":"
+                + "\"es_rejected_execution_exception\",\"reason\":\"rejected execution\"}}},\n"
+                + "    {\"index\":{\"status\":400,\"error\":{\"type\":\"mapper_parsing_exception\","
+                + "\"reason\":\"failed to parse field [timestamp] \\\"x\\\" \\u00e9\","
+                + "\"caused_by\":{\"type\":\"illegal_argument_exception\",\"reason\":\"[x]\"}}}},\n"
+                + "    {\"index\":{\"status\":503,\"error\":\"unavailable_shards_exception\"}},\n"
+                + "    {\"index\":{\"status\":200}}\n"
+                + "  ]\n}");
+
+    assertAll(
+        () -> assertFalse(response.isRequestFailed()),
+        () -> assertArrayEquals(new int[] {1, 3}, response.getRetryableItems()),
+        () -> assertEquals(1, response.getPermanentFailureCount()),
+        () ->
+            assertEquals(
+                "400 mapper_parsing_exception: failed to parse field [timestamp] \"x\" \u00e9",
+                response.getFirstItemError()));
+  }
+
+  @DisplayName("A filtered response with items before errors is read completely")
+  @Test
+  public void readsItemsBeforeErrors() throws IOException {
+    BulkResponse response =
+        parse(
+            200,
+            "{\"items\":[{\"index\":{\"status\":201}},{\"create\":{\"status\":429,"
+                + "\"error\":{\"type\":\"es_rejected_execution_exception\"}}}],\"errors\":true}");
+
+    assertArrayEquals(new int[] {1}, response.getRetryableItems());
+  }
+
+  @DisplayName("A non-2xx response fails the whole request")
+  @Test
+  public void failsWholeRequest() throws IOException {
+    BulkResponse response = parse(503, "{\"error\":\"cluster unavailable\"}");
+
+    assertAll(
+        () -> assertTrue(response.isRequestFailed()),
+        () -> assertEquals(503, response.getStatus()),
+        () -> assertTrue(BulkResponseParser.isRetryable(response.getStatus())),
+        () -> assertEquals("{\"error\":\"cluster unavailable\"}", response.getFailureMessage()));
+  }
+
+  @DisplayName("A truncated response is reported as an I/O error")
+  @Test
+  public void rejectsTruncatedResponse() {
+    assertThrows(
+        IOException.class,
+        () -> parse(200, "{\"errors\":true,\"items\":[{\"index\":{\"status\":4"));
+  }
+
+  @DisplayName("Retry backoff doubles with jitter and is capped")
+  @Test
+  public void backoffGrowsWithJitter() {
+    BulkRetryScheduler scheduler = new BulkRetryScheduler(3, 100, 1024);
+    try {
+      for (int i = 0; i < 100; i++) {
+        long first = scheduler.backoffMillis(1);
+        long third = scheduler.backoffMillis(3);
+        long late = scheduler.backoffMillis(40);
+        assertAll(
+            () -> assertTrue(first >= 50 && first <= 100, "first " + first),
+            () -> assertTrue(third >= 200 && third <= 400, "third " + third),
+            () ->
+                assertTrue(
+                    late >= BulkRetryScheduler.MAX_BACKOFF_MILLIS / 2
+                        && late <= BulkRetryScheduler.MAX_BACKOFF_MILLIS,
+                    "late " + late));
+      }
+      assertAll(
+          () -> assertTrue(scheduler.canRetry(2)), () -> assertFalse(scheduler.canRetry(3)));
+    } finally {
+      scheduler.shutdown();
+    }
+  }
+
+  @DisplayName("Retries are refused while the bodies waiting for one take up the room")
+  @Test
+  public void capsPendingRetryBytes() throws InterruptedException {
+    BulkRetryScheduler scheduler = new BulkRetryScheduler(3, 1, 100);
+    try {
+      final boolean first = scheduler.tryReserve(60);
+      final boolean overCap = scheduler.tryReserve(60);
+      CountDownLatch ran = new CountDownLatch(1);
+      scheduler.schedule(1, 60, ran::countDown);
+      final boolean retryRan = ran.await(5, TimeUnit.SECONDS);
+      final long pendingAfterRun = scheduler.getPendingBytes();
+      final boolean afterRun = scheduler.tryReserve(60);
+
+      assertAll(
+          () -> assertTrue(first),
+          () -> assertFalse(overCap),
+          () -> assertTrue(retryRan),
+          () -> assertEquals(0, pendingAfterRun),
+          () -> assertTrue(afterRun));
+    } finally {
+      scheduler.shutdown();
+    }
+  }
+}
@@ -0,0 +1,147 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test the BulkSenderPool class against a slow HTTP stub")
+public class BulkSenderPoolTest {
+
+  private static final int LATENCY_MILLIS = 20;
+
+  static {
+    // the stub writes response headers and body separately; without this, Nagle's algorithm and
+    // delayed acknowledgements stall every response by tens of milliseconds
+    System.setProperty("sun.net.httpserver.nodelay", "true");
+  }
+
+
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicInteger maxInFlight = new AtomicInteger();
+  private final AtomicInteger requests = new AtomicInteger();
+  private volatile boolean overloaded;
+  private HttpServer server;
+  private ExecutorService serverThreads;
+  private PooledHttpTransport transport;
+  private ByteBufferPool bufferPool;
+
+  @BeforeEach
+  public void startServer() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext("/", this::handle);
+    serverThreads = Executors.newFixedThreadPool(16);
+    server.setExecutor(serverThreads);
+    server.start();
+    transport =
+        new PooledHttpTransport(
+            InetAddress.getLoopbackAddress().getHostAddress(),
+            server.getAddress().getPort(),
+            8,
+            5000,
+            5000);
+    bufferPool = new ByteBufferPool(1024, 16, false);
+  }
+
+  @AfterEach
+  public void stopServer() {
+    transport.close();
+    server.stop(0);
+    serverThreads.shutdownNow();
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    int current = inFlight.incrementAndGet();
+    maxInFlight.accumulateAndGet(current, Math::max);
+    try (InputStream in = exchange.getRequestBody()) {
+      while (in.read() >= 0) {
+        // consume the request
+      }
+      Thread.sleep(LATENCY_MILLIS);
+      requests.incrementAndGet();
+      inFlight.decrementAndGet();
+      byte[] response = "{\"errors\":false}".getBytes(StandardCharsets.UTF_8);
+      exchange.sendResponseHeaders(overloaded ? 429 : 200, response.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(response);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      exchange.close();
+    }
+  }
+
+  private BulkSenderPool createPool(int minConcurrency, int maxConcurrency) {
+    return new BulkSenderPool(
+        minConcurrency,
+        maxConcurrency,
+        body -> {
+          try {
+            return transport.send("POST", "/index/doc/_bulk", body);
+          } catch (IOException e) {
+            return new Result(null, 0, false);
+          }
+        },
+        new FailureReporter(System.out));
+  }
+
+  private void submitBodies(BulkSenderPool pool, int count) {
+    for (int i = 0; i < count; i++) {
+      BulkBody body = new BulkBody(bufferPool);
+      body.appendDocument("{\"n\":" + i + "}");
+      pool.submit(body);
+    }
+  }
+
+  @DisplayName("Requests are sent in parallel, up to the maximum concurrency")
+  @Test
+  public void sendsInParallel() {
+    BulkSenderPool pool = createPool(1, 4);
+    submitBodies(pool, 60);
+
+    assertTrue(pool.awaitIdle(10000));
+    pool.shutdown();
+    assertAll(
+        () -> assertEquals(60, requests.get()),
+        () -> assertEquals(4, maxInFlight.get()),
+        () -> assertEquals(4, pool.getConcurrencyLimit()));
+  }
+
+  @DisplayName("429 responses bring the concurrency back to the minimum")
+  @Test
+  public void backsOffWhenOverloaded() {
+    BulkSenderPool pool = createPool(1, 4);
+    submitBodies(pool, 40);
+    assertTrue(pool.awaitIdle(10000));
+    int limitBeforeOverload = pool.getConcurrencyLimit();
+
+    overloaded = true;
+    submitBodies(pool, 20);
+    assertTrue(pool.awaitIdle(10000));
+    pool.shutdown();
+
+    assertAll(
+        () -> assertEquals(4, limitBeforeOverload),
+        () -> assertEquals(1, pool.getConcurrencyLimit()),
+        () -> assertEquals(60, requests.get()));
+  }
+}
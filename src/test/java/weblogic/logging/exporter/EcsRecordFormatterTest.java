@@ -0,0 +1,75 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import weblogic.logging.WLLevel;
+import weblogic.logging.WLLogRecord;
+
+@DisplayName("Test the EcsRecordFormatter class")
+public class EcsRecordFormatterTest {
+
+  private final EcsRecordFormatter formatter = new EcsRecordFormatter();
+  private final WebLogicLogFormatter ecsFormatter = new WebLogicLogFormatter("domain1");
+
+  private static WLLogRecord createRecord(WLLevel level, String message) {
+    WLLogRecord record = new WLLogRecord(level, message);
+    record.setId("BEA-000360");
+    record.setServerName("managed-server-1");
+    record.setUserId("<WLS Kernel>");
+    record.setLoggerName("WebLogicServer");
+    return record;
+  }
+
+  private void assertSameAsEcsFormatter(WLLogRecord record) {
+    assertEquals(ecsFormatter.format(record), formatter.format(record));
+  }
+
+  @DisplayName("A one-line record is written as the ECS formatter writes it")
+  @Test
+  public void matchesEcsFormatterForPlainRecords() {
+    assertAll(
+        () -> assertSameAsEcsFormatter(createRecord(WLLevel.NOTICE, "Server started.")),
+        () -> assertSameAsEcsFormatter(createRecord(WLLevel.INFO, "padded level")),
+        () -> assertSameAsEcsFormatter(createRecord(WLLevel.DEBUG, "Gr\u00fc\u00dfe \u2603")));
+  }
+
+  @DisplayName("Quotes, control characters, parameters and exceptions are written the same way")
+  @Test
+  public void matchesEcsFormatterForEscapesAndExceptions() {
+    WLLogRecord escaped =
+        createRecord(WLLevel.ERROR, "pool \"ds\" closed\r\n\tat Foo.bar(Foo.java:1)\u0001");
+    WLLogRecord parameterized = createRecord(WLLevel.WARNING, "{0} of {1} sessions lost");
+    parameterized.setParameters(new Object[] {3, "10"});
+    WLLogRecord thrown = createRecord(WLLevel.CRITICAL, "request failed");
+    thrown.setThrown(new IllegalStateException("bad \"state\"", new RuntimeException("cause")));
+
+    assertAll(
+        () -> assertSameAsEcsFormatter(escaped),
+        () -> assertSameAsEcsFormatter(parameterized),
+        () -> assertSameAsEcsFormatter(thrown));
+  }
+
+  @DisplayName("A record from another thread is written with its thread ID")
+  @Test
+  public void matchesEcsFormatterForOtherThreads() throws InterruptedException {
+    AtomicReference<WLLogRecord> created = new AtomicReference<>();
+    Thread thread = new Thread(() -> created.set(createRecord(WLLevel.NOTICE, "elsewhere")));
+    thread.start();
+    thread.join();
+    final WLLogRecord record = created.get();
+    final String line = formatter.format(record);
+
+    assertAll(
+        () -> assertSameAsEcsFormatter(record),
+        () -> assertTrue(line.contains("\"process.thread.id\":"), line),
+        () -> assertTrue(line.endsWith("}\n"), line));
+  }
+}
@@ -0,0 +1,97 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test the ExporterMetrics class")
+public class ExporterMetricsTest {
+
+  private static final String PREFIX = "weblogic_logging_exporter_";
+
+  private static ExporterMetrics sampleMetrics() {
+    ExporterMetrics metrics = new ExporterMetrics("domain1");
+    for (int i = 0; i < 10; i++) {
+      metrics.countPublished();
+    }
+    metrics.countFiltered();
+    metrics.countSent(8);
+    metrics.countFailed(1);
+    metrics.countBulk(9);
+    metrics.countRequest(1000, 400, TimeUnit.MILLISECONDS.toNanos(3));
+    return metrics;
+  }
+
+  private static void assertSample(String text, String name, String labels, long value) {
+    String line = PREFIX + name + "{domain=\"domain1\"" + labels + "} " + value + "\n";
+    assertTrue(text.contains(line), text);
+  }
+
+  @DisplayName("Counters and histograms are written in the Prometheus text format")
+  @Test
+  public void writesPrometheusText() {
+    StringBuilder out = new StringBuilder();
+    sampleMetrics().writePrometheus(out);
+    String text = out.toString();
+
+    assertAll(
+        () -> assertTrue(text.contains("# TYPE " + PREFIX + "records_published_total counter\n")),
+        () -> assertSample(text, "records_published_total", "", 10),
+        () -> assertSample(text, "records_sent_total", "", 8),
+        () -> assertSample(text, "sent_bytes_total", "", 400),
+        () -> assertSample(text, "request_duration_seconds_bucket", ",le=\"0.0025\"", 0),
+        () -> assertSample(text, "request_duration_seconds_bucket", ",le=\"0.005\"", 1),
+        () -> assertSample(text, "bulk_size_records_bucket", ",le=\"10\"", 1),
+        () -> assertSample(text, "bulk_size_records_sum", "", 9));
+  }
+
+  @DisplayName("The metrics are served over HTTP and registered as an MBean")
+  @Test
+  public void servesMetrics() throws IOException, JMException {
+    ExporterMetrics metrics = sampleMetrics();
+    metrics.registerMBean();
+    PrometheusEndpoint endpoint = new PrometheusEndpoint(metrics, 0);
+    try {
+      URL url = new URL("http://127.0.0.1:" + endpoint.getPort() + PrometheusEndpoint.PATH);
+      HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+      String body;
+      try (InputStream in = connection.getInputStream()) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int read;
+        while ((read = in.read(buffer)) >= 0) {
+          bytes.write(buffer, 0, read);
+        }
+        body = new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+      }
+      Object published =
+          ManagementFactory.getPlatformMBeanServer()
+              .getAttribute(new ObjectName(ExporterMetrics.OBJECT_NAME), "PublishedCount");
+
+      assertAll(
+          () -> assertEquals(200, connection.getResponseCode()),
+          () -> assertTrue(connection.getContentType().startsWith("text/plain; version=0.0.4")),
+          () -> assertTrue(body.contains("records_failed_total{domain=\"domain1\"} 1\n"), body),
+          () -> assertEquals(10L, published));
+    } finally {
+      endpoint.stop();
+      metrics.unregisterMBean();
+    }
+  }
+}
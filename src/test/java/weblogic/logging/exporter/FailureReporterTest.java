@@ -0,0 +1,86 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test the FailureReporter class")
+public class FailureReporterTest {
+
+  private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+  private final FailureReporter reporter =
+      new FailureReporter(new PrintStream(output, true, StandardCharsets.UTF_8));
+
+  private String[] printedLines() {
+    String text = new String(output.toByteArray(), StandardCharsets.UTF_8);
+    return text.isEmpty() ? new String[0] : text.split(System.lineSeparator());
+  }
+
+  @DisplayName("A storm of failures prints one line at once and one summary per interval")
+  @Test
+  public void summarizesRepeatedFailures() {
+    for (int i = 0; i < 1000; i++) {
+      reporter.report("LogExportHandler", "status 503", 10, "response " + i);
+    }
+    reporter.report("LogExportHandler", "status 400", 1, "bad request");
+    reporter.printSummary();
+
+    final String[] lines = printedLines();
+    assertAll(
+        () -> assertEquals(3, lines.length),
+        () ->
+            assertEquals(
+                "<weblogic.logging.exporter.LogExportHandler> status 503 (10 records): response 0",
+                lines[0]),
+        () -> assertTrue(lines[1].contains("status 400 (1 records): bad request"), lines[1]),
+        () -> assertTrue(lines[2].contains("999 more failures with status 503"), lines[2]),
+        () -> assertTrue(lines[2].contains("(9990 records)"), lines[2]),
+        () -> assertTrue(lines[2].endsWith("the last: response 999"), lines[2]));
+  }
+
+  @DisplayName("Once a kind has been quiet for an interval its next failure is printed at once")
+  @Test
+  public void forgetsQuietKinds() {
+    reporter.report("AsyncLogSender", "java.lang.IllegalStateException", 5, "first");
+    reporter.report("AsyncLogSender", "java.lang.IllegalStateException", 5, "second");
+    List<String> summary = reporter.summarize();
+    final List<String> quiet = reporter.summarize();
+    reporter.report("AsyncLogSender", "java.lang.IllegalStateException", 5, "third");
+
+    final String[] lines = printedLines();
+    assertAll(
+        () -> assertEquals(1, summary.size()),
+        () -> assertTrue(quiet.isEmpty()),
+        () -> assertEquals(2, lines.length),
+        () -> assertTrue(lines[1].endsWith("(5 records): third"), lines[1]));
+  }
+
+  @DisplayName("Samples are cut short and the number of kinds is bounded")
+  @Test
+  public void boundsSamplesAndKinds() {
+    StringBuilder payload = new StringBuilder();
+    for (int i = 0; i < 1000; i++) {
+      payload.append("{\"message\":\"x\"}\n");
+    }
+    for (int i = 0; i < FailureReporter.MAX_KINDS + 10; i++) {
+      reporter.report("LogExportHandler", "kind " + i, 1, payload);
+    }
+
+    final String[] lines = printedLines();
+    assertAll(
+        () -> assertEquals(FailureReporter.MAX_KINDS + 1, lines.length),
+        () -> assertTrue(lines[0].length() < FailureReporter.MAX_SAMPLE_CHARS + 100, lines[0]),
+        () -> assertTrue(lines[0].endsWith("... (16000 chars)"), lines[0]),
+        () -> assertTrue(lines[lines.length - 1].contains(FailureReporter.OTHER_KINDS)));
+  }
+}
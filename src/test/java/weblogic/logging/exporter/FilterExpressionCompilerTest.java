@@ -0,0 +1,97 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import weblogic.logging.WLLevel;
+import weblogic.logging.WLLogRecord;
+
+@DisplayName("Test the FilterExpressionCompiler class")
+public class FilterExpressionCompilerTest {
+
+  private static WLLogRecord record() {
+    WLLogRecord record = new WLLogRecord(WLLevel.ERROR, "Connection reset");
+    record.setId("BEA-001129");
+    record.setLoggerName("JDBC");
+    record.setServerName("managed-server-1");
+    record.setUserId("weblogic");
+    return record;
+  }
+
+  private static int test(String expression) {
+    RecordPredicate predicate = FilterExpressionCompiler.compile(expression);
+    assertNotNull(predicate, expression);
+    return predicate.test(record());
+  }
+
+  @DisplayName("Comparisons read the record's fields")
+  @Test
+  public void comparisons() {
+    assertAll(
+        () -> assertEquals(RecordPredicate.MATCH, test("MSGID = 'BEA-001129'")),
+        () -> assertEquals(RecordPredicate.NO_MATCH, test("MSGID != 'BEA-001129'")),
+        () -> assertEquals(RecordPredicate.MATCH, test("SUBSYSTEM = 'JDBC'")),
+        () -> assertEquals(RecordPredicate.MATCH, test("SEVERITY IN ('Error','Critical')")),
+        () -> assertEquals(RecordPredicate.NO_MATCH, test("SEVERITY in ('Notice')")),
+        () -> assertEquals(RecordPredicate.MATCH, test("SERVER LIKE 'managed-%'")),
+        () -> assertEquals(RecordPredicate.NO_MATCH, test("USERID like 'admin%'")));
+  }
+
+  @DisplayName("AND and OR combine comparisons, with AND binding tighter")
+  @Test
+  public void combinations() {
+    assertAll(
+        () ->
+            assertEquals(
+                RecordPredicate.MATCH,
+                test("SUBSYSTEM = 'JMS' OR SUBSYSTEM = 'JDBC' AND USERID = 'weblogic'")),
+        () ->
+            assertEquals(
+                RecordPredicate.NO_MATCH,
+                test("(SUBSYSTEM = 'JMS' OR SUBSYSTEM = 'JDBC') AND USERID = 'admin'")),
+        () -> assertEquals(RecordPredicate.NO_MATCH, test("MSGID = 'x' and SEVERITY = 'Error'")));
+  }
+
+  @DisplayName("A missing field makes the result unknown unless the other side decides it")
+  @Test
+  public void missingField() {
+    WLLogRecord record = record();
+    record.setUserId(null);
+
+    assertAll(
+        () ->
+            assertEquals(
+                RecordPredicate.UNKNOWN,
+                FilterExpressionCompiler.compile("USERID != 'weblogic'").test(record)),
+        () ->
+            assertEquals(
+                RecordPredicate.NO_MATCH,
+                FilterExpressionCompiler.compile("USERID = 'a' AND MSGID = 'x'").test(record)),
+        () ->
+            assertEquals(
+                RecordPredicate.MATCH,
+                FilterExpressionCompiler.compile("USERID = 'a' OR MSGID = 'BEA-001129'")
+                    .test(record)));
+  }
+
+  @DisplayName("Other shapes are left to WLDF")
+  @Test
+  public void unsupportedShapes() {
+    assertAll(
+        () -> assertNull(FilterExpressionCompiler.compile("MACHINE = 'host1'")),
+        () -> assertNull(FilterExpressionCompiler.compile("MSGID LIKE '%449'")),
+        () -> assertNull(FilterExpressionCompiler.compile("MSGID LIKE 'BEA_%'")),
+        () -> assertNull(FilterExpressionCompiler.compile("NOT (MSGID = 'BEA-000449')")),
+        () -> assertNull(FilterExpressionCompiler.compile("USERID = 'O''Brien'")),
+        () -> assertNull(FilterExpressionCompiler.compile("SEVERITY > 4")),
+        () -> assertNull(FilterExpressionCompiler.compile("(MSGID = 'x'")),
+        () -> assertNull(FilterExpressionCompiler.compile("MSGID = 'x' AND")));
+  }
+}
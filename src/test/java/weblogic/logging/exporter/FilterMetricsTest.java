@@ -0,0 +1,103 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import weblogic.logging.WLLevel;
+import weblogic.logging.WLLogRecord;
+import weblogic.logging.exporter.config.Config;
+
+@DisplayName("Test the FilterMetrics class")
+public class FilterMetricsTest {
+
+  private static final FailureReporter FAILURES =
+      new FailureReporter(new PrintStream(new ByteArrayOutputStream()));
+
+  private static FilterPlan loadPlan() {
+    return FilterPlan.compile(
+        Config.loadConfig(new File("src/test/resources/filterConfig.yaml")).getFilterConfigs(),
+        FAILURES);
+  }
+
+  private static WLLogRecord record(WLLevel level, String id) {
+    WLLogRecord record = new WLLogRecord(level, "message");
+    record.setId(id);
+    record.setServerName("AdminServer");
+    return record;
+  }
+
+  @DisplayName("Each filter counts its evaluations and drops")
+  @Test
+  public void countsEvaluations() {
+    FilterPlan plan = loadPlan();
+    plan.accepts(record(WLLevel.ERROR, "BEA-000449"));
+    plan.accepts(record(WLLevel.NOTICE, "BEA-000360"));
+    plan.accepts(record(WLLevel.ERROR, "BEA-000360"));
+    CompiledFilter msgid = plan.getFilters().get(0);
+    CompiledFilter severity = plan.getFilters().get(3);
+
+    assertAll(
+        () -> assertEquals(3, msgid.getEvaluationCount()),
+        () -> assertEquals(1, msgid.getDropCount()),
+        () -> assertEquals(2, msgid.getMatchCount()),
+        () -> assertEquals(2, severity.getEvaluationCount()),
+        () -> assertEquals(1, severity.getDropCount()),
+        () -> assertTrue(msgid.isNative()));
+  }
+
+  @DisplayName("The summary covers the interval since the last one and flags slow filters")
+  @Test
+  public void summarizesIntervals() {
+    FilterPlan plan = loadPlan();
+    CompiledFilter msgid = plan.getFilters().get(0);
+    FilterMetrics metrics = new FilterMetrics(plan, 1, FAILURES.getOut());
+    msgid.countEvaluation(true, 500);
+    msgid.countEvaluation(false, 3500);
+
+    List<String> first = metrics.summarize();
+    List<String> second = metrics.summarize();
+
+    assertAll(
+        () -> assertEquals(2, first.size()),
+        () ->
+            assertEquals(
+                "filter 0 'MSGID != 'BEA-000449'' evaluated 2, dropped 1, errors 0,"
+                    + " average 2000 ns",
+                first.get(0)),
+        () -> assertTrue(first.get(1).startsWith("WARNING: filter 0"), first.get(1)),
+        () -> assertTrue(second.isEmpty()));
+  }
+
+  @DisplayName("Each filter is registered as an MBean until shutdown")
+  @Test
+  public void registersMBeans() throws Exception {
+    FilterPlan plan = loadPlan();
+    FilterMetrics metrics = new FilterMetrics(plan, 50, FAILURES.getOut());
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    ObjectName name = new ObjectName(FilterMetrics.OBJECT_NAME_PREFIX + 0);
+
+    metrics.registerMBeans();
+    Object expression = server.getAttribute(name, "Expression");
+    Object isNative = server.getAttribute(name, "Native");
+    metrics.shutdown();
+
+    assertAll(
+        () -> assertEquals("MSGID != 'BEA-000449'", expression),
+        () -> assertEquals(Boolean.TRUE, isNative),
+        () -> assertFalse(server.isRegistered(name)));
+  }
+}
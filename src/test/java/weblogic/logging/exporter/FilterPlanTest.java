@@ -0,0 +1,104 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.PrintStream;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import weblogic.diagnostics.query.Query;
+import weblogic.logging.WLLevel;
+import weblogic.logging.WLLogRecord;
+import weblogic.logging.exporter.config.Config;
+import weblogic.logging.exporter.config.FilterConfig;
+
+@DisplayName("Test the FilterPlan class")
+public class FilterPlanTest {
+
+  private static final FailureReporter FAILURES =
+      new FailureReporter(new PrintStream(new ByteArrayOutputStream()));
+
+  private static List<FilterConfig> loadFilters() {
+    return Config.loadConfig(new File("src/test/resources/filterConfig.yaml")).getFilterConfigs();
+  }
+
+  private static Query[] queriesFor(FilterPlan plan, String serverName) {
+    CompiledFilter[] filters = plan.filtersFor(serverName);
+    Query[] queries = new Query[filters.length];
+    for (int i = 0; i < filters.length; i++) {
+      queries[i] = filters[i].getQuery();
+    }
+    return queries;
+  }
+
+  @DisplayName("A plan without filters is empty")
+  @Test
+  public void emptyPlan() {
+    FilterPlan plan = FilterPlan.compile(Collections.emptyList(), FAILURES);
+
+    assertAll(
+        () -> assertTrue(plan.isEmpty()),
+        () -> assertEquals(0, plan.filtersFor("managed-server-1").length));
+  }
+
+  @DisplayName("Each server gets the filters for all servers and its own, native ones first")
+  @Test
+  public void indexesFiltersByServer() {
+    List<FilterConfig> filters = loadFilters();
+    Query all1 = filters.get(0).getQuery();
+    Query machine = filters.get(1).getQuery();
+    Query jdbc = filters.get(2).getQuery();
+    Query all2 = filters.get(3).getQuery();
+    Query user = filters.get(4).getQuery();
+    FilterPlan plan = FilterPlan.compile(filters, FAILURES);
+
+    assertAll(
+        () -> assertFalse(plan.isEmpty()),
+        () -> assertArrayEquals(new Query[] {all1, all2, machine}, queriesFor(plan, "AdminServer")),
+        () ->
+            assertArrayEquals(
+                new Query[] {all1, jdbc, all2, machine}, queriesFor(plan, "managed-server-1")),
+        () ->
+            assertArrayEquals(
+                new Query[] {all1, jdbc, all2, user, machine},
+                queriesFor(plan, "managed-server-2")));
+  }
+
+  @DisplayName("The filters of the last server are reused")
+  @Test
+  public void reusesLastServer() {
+    FilterPlan plan = FilterPlan.compile(loadFilters(), FAILURES);
+
+    CompiledFilter[] first = plan.filtersFor("managed-server-1");
+    CompiledFilter[] second = plan.filtersFor(new String("managed-server-1"));
+
+    assertSame(first, second);
+  }
+
+  @DisplayName("A record rejected by a native filter never reaches WLDF")
+  @Test
+  public void nativeFilterRejects() {
+    FilterPlan plan = FilterPlan.compile(loadFilters(), FAILURES);
+    WLLogRecord ignored = new WLLogRecord(WLLevel.ERROR, "ignored");
+    ignored.setId("BEA-000449");
+    ignored.setServerName("AdminServer");
+    WLLogRecord notice = new WLLogRecord(WLLevel.NOTICE, "not severe enough");
+    notice.setId("BEA-000360");
+    notice.setServerName("AdminServer");
+
+    assertAll(
+        () -> assertFalse(plan.accepts(ignored)),
+        () -> assertFalse(plan.accepts(notice)));
+  }
+}
@@ -0,0 +1,110 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test the GzipContent class")
+public class GzipContentTest {
+
+  private static BulkBody createBody(ByteBufferPool pool, int documents) {
+    BulkBody body = new BulkBody(pool);
+    for (int i = 0; i < documents; i++) {
+      body.appendDocument(
+          "{\"messageID\":\"BEA-000" + i + "\",\"message\":\"Caf\u00e9 \u2603 line " + i
+              + "\",\"serverName\":\"managed-server1\",\"subSystem\":\"WorkManager\"}");
+    }
+    return body;
+  }
+
+  private static String gunzip(byte[] bytes) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+      byte[] buffer = new byte[1024];
+      int read;
+      while ((read = in.read(buffer)) >= 0) {
+        out.write(buffer, 0, read);
+      }
+    }
+    return new String(out.toByteArray(), StandardCharsets.UTF_8);
+  }
+
+  @DisplayName("Compressed bodies decompress to the original body")
+  @Test
+  public void roundTrips() throws IOException {
+    for (boolean direct : new boolean[] {false, true}) {
+      ByteBufferPool pool = new ByteBufferPool(64, 16, direct);
+      BulkBody body = createBody(pool, 200);
+      GzipContent content = GzipContent.compress(body, pool, 6);
+      ByteArrayOutputStream fromStream = new ByteArrayOutputStream();
+      content.writeTo(fromStream);
+      ByteArrayOutputStream fromChannel = new ByteArrayOutputStream();
+      content.writeTo(Channels.newChannel(fromChannel));
+
+      assertAll(
+          () -> assertEquals(body.toString(), gunzip(fromStream.toByteArray())),
+          () -> assertEquals(body.toString(), gunzip(fromChannel.toByteArray())),
+          () -> assertEquals(content.getContentLength(), fromStream.size()),
+          () -> assertEquals("gzip", content.getContentEncoding()),
+          () -> assertTrue(content.getContentLength() < body.size() / 4));
+      content.release();
+      body.release();
+    }
+  }
+
+  @DisplayName("Every compression level produces valid gzip data")
+  @Test
+  public void allLevelsAreValid() throws IOException {
+    ByteBufferPool pool = new ByteBufferPool(1024, 16, false);
+    BulkBody body = createBody(pool, 20);
+    for (int level = 0; level <= 9; level++) {
+      GzipContent content = GzipContent.compress(body, pool, level);
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      content.writeTo(out);
+      content.release();
+
+      assertEquals(body.toString(), gunzip(out.toByteArray()), "level " + level);
+    }
+  }
+
+  @DisplayName("An empty body compresses to an empty gzip stream")
+  @Test
+  public void emptyBody() throws IOException {
+    ByteBufferPool pool = new ByteBufferPool(1024, 16, false);
+    GzipContent content = GzipContent.compress(HttpContent.of(""), pool, 6);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    content.writeTo(out);
+
+    assertEquals("", gunzip(out.toByteArray()));
+  }
+
+  @DisplayName("Deflaters are reused by bodies compressed on new threads")
+  @Test
+  public void reusesCompressorsAcrossThreads() throws Exception {
+    ByteBufferPool pool = new ByteBufferPool(1024, 16, false);
+    BulkBody body = createBody(pool, 20);
+    GzipContent.compress(body, pool, 6).release();
+    long created = GzipContent.getCreatedCompressorCount();
+    for (int i = 0; i < 20; i++) {
+      // a new thread for each body, as with a virtual thread per bulk request
+      Thread thread = new Thread(() -> GzipContent.compress(body, pool, 6).release());
+      thread.start();
+      thread.join();
+    }
+
+    assertEquals(created, GzipContent.getCreatedCompressorCount());
+  }
+}
@@ -0,0 +1,48 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test the Histogram class")
+public class HistogramTest {
+
+  @DisplayName("Every value falls in a bucket whose upper end is within 1/16 of it")
+  @Test
+  public void bucketsHaveBoundedError() {
+    long[] values = {0, 1, 31, 32, 33, 1000, 123_456, 1L << 40, Long.MAX_VALUE};
+    for (long value : values) {
+      int index = Histogram.indexOf(value);
+      long highest = Histogram.highestValueIn(index);
+      assertAll(
+          () -> assertTrue(highest >= value, "bucket of " + value + " ends at " + highest),
+          () -> assertTrue(highest - value <= value / 16, "bucket of " + value + " too wide"),
+          () -> assertTrue(index == 0 || Histogram.highestValueIn(index - 1) < value));
+    }
+  }
+
+  @DisplayName("Percentiles, maximum, sum and cumulative counts are read from the buckets")
+  @Test
+  public void summarizesValues() {
+    Histogram histogram = new Histogram();
+    for (int i = 1; i <= 1000; i++) {
+      histogram.record(i);
+    }
+
+    assertAll(
+        () -> assertEquals(1000, histogram.getCount()),
+        () -> assertEquals(500500, histogram.getSum()),
+        () -> assertEquals(1000, histogram.getMax()),
+        () -> assertEquals(511, histogram.getValueAtPercentile(50)),
+        () -> assertEquals(1000, histogram.getValueAtPercentile(99.9)),
+        () -> assertEquals(31, histogram.getCountAtOrBelow(31)),
+        () -> assertEquals(511, histogram.getCountAtOrBelow(511)),
+        () -> assertEquals(1000, histogram.getCountAtOrBelow(5000)));
+  }
+}
@@ -0,0 +1,73 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import weblogic.logging.WLLevel;
+import weblogic.logging.WLLogRecord;
+
+@DisplayName("Test the JsonRecordEncoder class")
+public class JsonRecordEncoderTest {
+
+  private static String quote(String value) {
+    StringBuilder out = new StringBuilder();
+    JsonRecordEncoder.appendString(out, value);
+    return out.toString();
+  }
+
+  @DisplayName("Plain strings are only quoted")
+  @Test
+  public void plainStringsAreQuoted() {
+    assertEquals("\"Server started in RUNNING mode\"", quote("Server started in RUNNING mode"));
+  }
+
+  @DisplayName("Null values are written as JSON null")
+  @Test
+  public void nullIsWrittenAsNull() {
+    assertEquals("null", quote(null));
+  }
+
+  @DisplayName("Quotes and backslashes are escaped")
+  @Test
+  public void quotesAndBackslashesAreEscaped() {
+    assertEquals("\"C:\\\\domains\\\\\\\"base\\\"\"", quote("C:\\domains\\\"base\""));
+  }
+
+  @DisplayName("Line breaks and tabs from stack traces are escaped")
+  @Test
+  public void stackTraceWhitespaceIsEscaped() {
+    assertEquals(
+        "\"java.lang.Exception: boom\\r\\n\\tat Foo.bar(Foo.java:1)\"",
+        quote("java.lang.Exception: boom\r\n\tat Foo.bar(Foo.java:1)"));
+  }
+
+  @DisplayName("Other control characters are written as unicode escapes")
+  @Test
+  public void controlCharactersAreUnicodeEscaped() {
+    assertEquals("\"a\\u0000b\\u001fc\\b\\f\"", quote("a\u0000b\u001fc\b\f"));
+  }
+
+  @DisplayName("Non-ASCII characters are left as they are")
+  @Test
+  public void nonAsciiIsNotEscaped() {
+    assertEquals("\"Gr\u00fc\u00dfe \u2603\"", quote("Gr\u00fc\u00dfe \u2603"));
+  }
+
+  @DisplayName("A coalesced record carries its repeat count and first and last times")
+  @Test
+  public void coalescedRecordHasRepeatFields() {
+    WLLogRecord sample = new WLLogRecord(WLLevel.WARNING, "connection refused");
+    String json = new JsonRecordEncoder("domain1").encode(new CoalescedRecord(sample, 5, 10, 20));
+
+    assertTrue(
+        json.endsWith(
+            "\"domainUID\":\"domain1\",\"repeatCount\":5,\"firstTimestamp\":10,"
+                + "\"lastTimestamp\":20}"),
+        json);
+  }
+}
@@ -0,0 +1,151 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Formatter;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import weblogic.logging.exporter.config.FileCompression;
+import weblogic.logging.exporter.config.FileRotationInterval;
+import weblogic.logging.exporter.config.FileSyncPolicy;
+
+@DisplayName("Test the MappedFileHandler class")
+public class MappedFileHandlerTest {
+
+  @TempDir File directory;
+
+  private MappedFileHandler createHandler(String name, long limit, int count, boolean append)
+      throws IOException {
+    MappedFileHandler handler =
+        new MappedFileHandler(
+            new File(directory, name).getPath(),
+            limit,
+            count,
+            append,
+            FileRotationInterval.NONE,
+            FileCompression.NONE,
+            0,
+            FileSyncPolicy.INTERVAL,
+            10);
+    handler.setFormatter(
+        new Formatter() {
+          @Override
+          public String format(LogRecord record) {
+            return record.getMessage() + "\n";
+          }
+        });
+    return handler;
+  }
+
+  private static List<String> readLines(File file) throws IOException {
+    return Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+  }
+
+  private static void publishFromThreads(MappedFileHandler handler, int threads, int records)
+      throws InterruptedException {
+    List<Thread> started = new ArrayList<>();
+    for (int t = 0; t < threads; t++) {
+      final int thread = t;
+      started.add(
+          new Thread(
+              () -> {
+                for (int i = 0; i < records; i++) {
+                  handler.publish(
+                      new LogRecord(Level.INFO, String.format("thread-%d-%06d", thread, i)));
+                }
+              }));
+    }
+    started.forEach(Thread::start);
+    for (Thread thread : started) {
+      thread.join();
+    }
+  }
+
+  @DisplayName("Records from several threads are all written and the file is trimmed on close")
+  @Test
+  public void writesEveryRecord() throws Exception {
+    MappedFileHandler handler = createHandler("json.log", 0, 1, false);
+    publishFromThreads(handler, 4, 1000);
+    handler.close();
+
+    final File file = new File(directory, "json.log");
+    final List<String> lines = readLines(file);
+    assertAll(
+        () -> assertEquals(4000, lines.size()),
+        () -> assertEquals(4000 * 16, file.length()),
+        () -> assertTrue(lines.contains("thread-3-000999")),
+        () -> assertTrue(lines.indexOf("thread-0-000001") > lines.indexOf("thread-0-000000")));
+  }
+
+  @DisplayName("The file is rotated before it goes over the size limit")
+  @Test
+  public void rotatesAtTheSizeLimit() throws Exception {
+    MappedFileHandler handler = createHandler("json%g.log", 100, 3, false);
+    for (int i = 0; i < 20; i++) {
+      // 20 bytes per line, so five lines fill a file
+      handler.publish(new LogRecord(Level.INFO, String.format("record-%012d", i)));
+    }
+    handler.close();
+
+    final File current = new File(directory, "json0.log");
+    final File oldest = new File(directory, "json2.log");
+    assertAll(
+        () -> assertEquals(100, current.length()),
+        () -> assertEquals("record-000000000015", readLines(current).get(0)),
+        () -> assertEquals(100, oldest.length()),
+        () -> assertEquals("record-000000000005", readLines(oldest).get(0)),
+        () -> assertFalse(new File(directory, "json3.log").exists()));
+  }
+
+  @DisplayName("No record is lost or torn when threads race across rotations")
+  @Test
+  public void rotatesUnderContention() throws Exception {
+    MappedFileHandler handler = createHandler("json%g.log", 1000, 100, false);
+    publishFromThreads(handler, 4, 500);
+    handler.close();
+
+    int lines = 0;
+    for (int generation = 0; generation < 100; generation++) {
+      File file = new File(directory, "json" + generation + ".log");
+      if (!file.exists()) {
+        continue;
+      }
+      for (String line : readLines(file)) {
+        assertTrue(line.matches("thread-\\d-\\d{6}"), line);
+        lines++;
+      }
+      assertTrue(file.length() <= 1000, file + " is " + file.length() + " bytes");
+    }
+    assertEquals(2000, lines);
+  }
+
+  @DisplayName("The zero bytes left by a handler that was not closed are trimmed when appending")
+  @Test
+  public void trimsAnUnclosedWindow() throws Exception {
+    final File file = new File(directory, "json.log");
+    byte[] unclosed = new byte[4096];
+    byte[] first = "first\n".getBytes(StandardCharsets.UTF_8);
+    System.arraycopy(first, 0, unclosed, 0, first.length);
+    Files.write(file.toPath(), unclosed);
+    MappedFileHandler handler = createHandler("json.log", 0, 1, true);
+    handler.publish(new LogRecord(Level.INFO, "second"));
+    handler.close();
+
+    assertEquals(List.of("first", "second"), readLines(file));
+  }
+}
@@ -0,0 +1,286 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test the PooledHttpTransport class")
+public class PooledHttpTransportTest {
+
+  static {
+    // the stub writes response headers and body separately; without this, Nagle's algorithm and
+    // delayed acknowledgements stall every response by tens of milliseconds
+    System.setProperty("sun.net.httpserver.nodelay", "true");
+  }
+
+  private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicInteger maxInFlight = new AtomicInteger();
+  private final List<String> requests = new ArrayList<>();
+  private volatile String contentEncoding;
+  private HttpServer server;
+  private ExecutorService serverThreads;
+  private PooledHttpTransport transport;
+
+  @BeforeEach
+  public void startServer() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext("/", this::handle);
+    serverThreads = Executors.newFixedThreadPool(8);
+    server.setExecutor(serverThreads);
+    server.start();
+  }
+
+  @AfterEach
+  public void stopServer() {
+    if (transport != null) {
+      transport.close();
+    }
+    server.stop(0);
+    serverThreads.shutdownNow();
+  }
+
+  private PooledHttpTransport createTransport(int maxConnections) {
+    transport =
+        new PooledHttpTransport(
+            InetAddress.getLoopbackAddress().getHostAddress(),
+            server.getAddress().getPort(),
+            maxConnections,
+            5000,
+            5000);
+    return transport;
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    int current = inFlight.incrementAndGet();
+    maxInFlight.accumulateAndGet(current, Math::max);
+    try {
+      clientPorts.add(exchange.getRemoteAddress().getPort());
+      contentEncoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+      String body = readFully(exchange.getRequestBody());
+      synchronized (requests) {
+        requests.add(
+            exchange.getRequestMethod()
+                + " "
+                + exchange.getRequestURI()
+                + " "
+                + exchange.getRequestHeaders().getFirst("Content-Type")
+                + " "
+                + body);
+      }
+      String path = exchange.getRequestURI().getPath();
+      if (path.equals("/slow")) {
+        Thread.sleep(100);
+      }
+      // the client may start its next request as soon as it has read the response
+      inFlight.decrementAndGet();
+      if (path.equals("/dropped")) {
+        // closing the exchange before sending the headers closes the connection
+        return;
+      } else if (path.equals("/empty")) {
+        exchange.sendResponseHeaders(204, -1);
+      } else {
+        byte[] response = ("{\"echo\":" + body + "}").getBytes(StandardCharsets.UTF_8);
+        int status = path.equals("/missing") ? 404 : 200;
+        // a zero length makes the server use chunked transfer encoding
+        exchange.sendResponseHeaders(status, path.equals("/chunked") ? 0 : response.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+          out.write(response);
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      exchange.close();
+    }
+  }
+
+  private static String readFully(InputStream in) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    byte[] buffer = new byte[1024];
+    int read;
+    while ((read = in.read(buffer)) >= 0) {
+      out.write(buffer, 0, read);
+    }
+    return new String(out.toByteArray(), StandardCharsets.UTF_8);
+  }
+
+  @DisplayName("The request and a fixed length response are passed through")
+  @Test
+  public void sendsRequestAndReadsResponse() throws IOException {
+    Result result = createTransport(1).send("POST", "/index/doc/", HttpContent.of("{\"a\":1}"));
+
+    assertAll(
+        () -> assertTrue(result.isSuccessful()),
+        () -> assertEquals(200, result.getStatus()),
+        () -> assertEquals("{\"echo\":{\"a\":1}}", result.getResponse()),
+        () -> assertEquals("POST /index/doc/ application/json {\"a\":1}", requests.get(0)));
+  }
+
+  @DisplayName("The content encoding is sent as a header")
+  @Test
+  public void sendsContentEncoding() throws IOException {
+    ByteBufferPool pool = new ByteBufferPool(1024, 4, false);
+    GzipContent content = GzipContent.compress(HttpContent.of("{}"), pool, 1);
+
+    assertTrue(createTransport(1).send("POST", "/", content).isSuccessful());
+    assertEquals("gzip", contentEncoding);
+  }
+
+  @DisplayName("Chunked, empty and error responses are read to the end")
+  @Test
+  public void readsOtherResponseShapes() throws IOException {
+    createTransport(1);
+
+    Result chunked = transport.send("PUT", "/chunked", HttpContent.of("[1]"));
+    Result empty = transport.send("POST", "/empty", HttpContent.of("[2]"));
+    Result missing = transport.send("POST", "/missing", HttpContent.of("[3]"));
+
+    assertAll(
+        () -> assertEquals("{\"echo\":[1]}", chunked.getResponse()),
+        () -> assertTrue(empty.isSuccessful()),
+        () -> assertNull(empty.getResponse()),
+        () -> assertFalse(missing.isSuccessful()),
+        () -> assertEquals(404, missing.getStatus()),
+        () -> assertEquals(1, clientPorts.size()));
+  }
+
+  @DisplayName("Sequential requests reuse one persistent connection")
+  @Test
+  public void reusesConnection() throws IOException {
+    createTransport(4);
+    for (int i = 0; i < 20; i++) {
+      assertTrue(transport.send("POST", "/", HttpContent.of("{\"n\":" + i + "}")).isSuccessful());
+    }
+
+    assertEquals(1, clientPorts.size());
+  }
+
+  @DisplayName("Concurrent requests are limited to the maximum number of connections")
+  @Test
+  public void limitsConcurrentRequests() throws Exception {
+    createTransport(2);
+    ExecutorService clients = Executors.newFixedThreadPool(6);
+    try {
+      List<Future<Result>> results = new ArrayList<>();
+      for (int i = 0; i < 12; i++) {
+        results.add(clients.submit(() -> transport.send("POST", "/slow", HttpContent.of("{}"))));
+      }
+      for (Future<Result> result : results) {
+        assertTrue(result.get(10, TimeUnit.SECONDS).isSuccessful());
+      }
+    } finally {
+      clients.shutdownNow();
+    }
+
+    assertAll(
+        () -> assertTrue(maxInFlight.get() <= 2, "max in flight " + maxInFlight.get()),
+        () -> assertTrue(clientPorts.size() <= 2, "connections " + clientPorts.size()));
+  }
+
+  @DisplayName("A connection closed by the server is replaced transparently")
+  @Test
+  public void replacesClosedConnection() throws IOException {
+    createTransport(1);
+    assertTrue(transport.send("POST", "/", HttpContent.of("{}")).isSuccessful());
+    server.stop(0);
+    int port = server.getAddress().getPort();
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+    server.createContext("/", this::handle);
+    server.setExecutor(serverThreads);
+    server.start();
+
+    assertTrue(transport.send("POST", "/", HttpContent.of("{}")).isSuccessful());
+  }
+
+  @DisplayName("A request the server took is not sent again when the connection fails")
+  @Test
+  public void doesNotResendTakenRequest() throws IOException {
+    createTransport(1);
+    assertTrue(transport.send("POST", "/", HttpContent.of("{}")).isSuccessful());
+
+    assertThrows(IOException.class, () -> transport.send("POST", "/dropped", HttpContent.of("{}")));
+    assertEquals(2, requests.size());
+  }
+
+  @DisplayName("A write to a server that does not read times out")
+  @Test
+  public void timesOutStalledWrite() throws Exception {
+    try (ServerSocket stalled = new ServerSocket()) {
+      stalled.setReceiveBufferSize(4096);
+      stalled.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+      transport =
+          new PooledHttpTransport(
+              InetAddress.getLoopbackAddress().getHostAddress(),
+              stalled.getLocalPort(),
+              1,
+              5000,
+              200);
+      // far more than the socket buffers can hold, written a megabyte at a time
+      final ByteBuffer megabyte = ByteBuffer.allocate(1024 * 1024);
+      HttpContent large =
+          new HttpContent() {
+            @Override
+            public long getContentLength() {
+              return 256L * megabyte.capacity();
+            }
+
+            @Override
+            public void writeTo(WritableByteChannel channel) throws IOException {
+              for (int i = 0; i < 256; i++) {
+                ByteBuffer chunk = megabyte.duplicate();
+                while (chunk.hasRemaining()) {
+                  channel.write(chunk);
+                }
+              }
+            }
+
+            @Override
+            public void writeTo(OutputStream out) {
+              throw new UnsupportedOperationException();
+            }
+          };
+
+      assertTimeoutPreemptively(
+          Duration.ofSeconds(10),
+          () ->
+              assertThrows(
+                  SocketTimeoutException.class, () -> transport.send("POST", "/", large)));
+    }
+  }
+}
@@ -0,0 +1,104 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import weblogic.logging.WLLevel;
+import weblogic.logging.WLLogRecord;
+
+@DisplayName("Test the RateLimiter class")
+public class RateLimiterTest {
+
+  private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  private static WLLogRecord record(WLLevel level, String id) {
+    WLLogRecord record = new WLLogRecord(level, "message");
+    record.setId(id);
+    record.setServerName("managed-server-1");
+    return record;
+  }
+
+  private static int acquired(RateLimiter limiter, WLLogRecord record, int attempts, long now) {
+    int acquired = 0;
+    for (int i = 0; i < attempts; i++) {
+      if (limiter.tryAcquire(record, now)) {
+        acquired++;
+      }
+    }
+    return acquired;
+  }
+
+  @DisplayName("Records above the limit are suppressed until the next second")
+  @Test
+  public void limitsPerSecond() {
+    RateLimiter limiter = new RateLimiter(10, WLLogRecord::getId);
+    WLLogRecord storm = record(WLLevel.WARNING, "BEA-000000");
+    WLLogRecord quiet = record(WLLevel.WARNING, "BEA-000360");
+
+    int firstSecond = acquired(limiter, storm, 100, 5 * SECOND);
+    int other = acquired(limiter, quiet, 3, 5 * SECOND + 1);
+    int nextSecond = acquired(limiter, storm, 100, 6 * SECOND);
+
+    assertAll(
+        () -> assertEquals(10, firstSecond),
+        () -> assertEquals(3, other),
+        () -> assertEquals(10, nextSecond));
+  }
+
+  @DisplayName("Records of severity Error and above are never suppressed")
+  @Test
+  public void exemptsErrors() {
+    RateLimiter limiter = new RateLimiter(1, WLLogRecord::getId);
+
+    assertAll(
+        () -> assertEquals(50, acquired(limiter, record(WLLevel.ERROR, "BEA-1"), 50, SECOND)),
+        () -> assertEquals(50, acquired(limiter, record(WLLevel.CRITICAL, "BEA-1"), 50, SECOND)));
+  }
+
+  @DisplayName("A summary record reports the suppressed records of each key once")
+  @Test
+  public void summarizesSuppressedRecords() {
+    RateLimiter limiter = new RateLimiter(5, WLLogRecord::getId);
+    acquired(limiter, record(WLLevel.NOTICE, "BEA-000000"), 25, SECOND);
+
+    List<WLLogRecord> first = limiter.drainSummaries(60000);
+    List<WLLogRecord> second = limiter.drainSummaries(60000);
+
+    assertAll(
+        () -> assertEquals(1, first.size()),
+        () -> assertEquals("BEA-000000", first.get(0).getId()),
+        () -> assertEquals("managed-server-1", first.get(0).getServerName()),
+        () ->
+            assertEquals(
+                "20 similar records suppressed in the last 60000 ms", first.get(0).getMessage()),
+        () -> assertTrue(second.isEmpty()),
+        () -> assertEquals(0, limiter.getTrackedKeyCount()));
+  }
+
+  @DisplayName("Keys beyond the tracked maximum are summarized together")
+  @Test
+  public void boundsTrackedKeys() {
+    RateLimiter limiter = new RateLimiter(1, WLLogRecord::getId);
+    for (int i = 0; i < RateLimiter.MAX_TRACKED_KEYS + 10; i++) {
+      acquired(limiter, record(WLLevel.INFO, "BEA-" + i), 2, SECOND);
+    }
+
+    int tracked = limiter.getTrackedKeyCount();
+    List<WLLogRecord> summaries = limiter.drainSummaries(1000);
+
+    assertAll(
+        () -> assertEquals(RateLimiter.MAX_TRACKED_KEYS, tracked),
+        () -> assertEquals(RateLimiter.MAX_TRACKED_KEYS + 1, summaries.size()),
+        () ->
+            assertTrue(
+                summaries.get(summaries.size() - 1).getMessage().startsWith("10 records with")));
+  }
+}
@@ -0,0 +1,98 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import weblogic.logging.WLLevel;
+import weblogic.logging.WLLogRecord;
+
+@DisplayName("Test the RecordCoalescer class")
+public class RecordCoalescerTest {
+
+  private static WLLogRecord record(String message, long millis) {
+    WLLogRecord record = new WLLogRecord(WLLevel.WARNING, message);
+    record.setId("BEA-000000");
+    record.setServerName("managed-server-1");
+    record.setMillis(millis);
+    return record;
+  }
+
+  @DisplayName("Repeats within the window become one record with their count and times")
+  @Test
+  public void coalescesRepeats() {
+    RecordCoalescer coalescer = new RecordCoalescer(1000, 16);
+    boolean firstAbsorbed = coalescer.absorb(record("connection refused", 10_000));
+    int count = 0;
+    for (int i = 1; i <= 50; i++) {
+      if (coalescer.absorb(record("connection refused", 10_000 + i * 10))) {
+        count++;
+      }
+    }
+    int absorbed = count;
+    List<WLLogRecord> early = coalescer.drainExpired(10_500);
+    List<WLLogRecord> drained = coalescer.drainExpired(11_000);
+    CoalescedRecord coalesced = (CoalescedRecord) drained.get(0);
+
+    assertAll(
+        () -> assertFalse(firstAbsorbed),
+        () -> assertEquals(50, absorbed),
+        () -> assertTrue(early.isEmpty()),
+        () -> assertEquals(1, drained.size()),
+        () -> assertEquals(50, coalesced.getRepeatCount()),
+        () -> assertEquals(10_010, coalesced.getFirstMillis()),
+        () -> assertEquals(10_500, coalesced.getLastMillis()),
+        () -> assertEquals("connection refused", coalesced.getMessage()),
+        () -> assertEquals(0, coalescer.getOpenWindowCount()));
+  }
+
+  @DisplayName("Records that differ in any of the fields are not coalesced")
+  @Test
+  public void keepsDifferentRecords() {
+    RecordCoalescer coalescer = new RecordCoalescer(1000, 16);
+    coalescer.absorb(record("connection refused", 10_000));
+    boolean otherMessage = coalescer.absorb(record("connection reset", 10_001));
+    WLLogRecord otherServer = record("connection refused", 10_002);
+    otherServer.setServerName("managed-server-2");
+    boolean otherServerAbsorbed = coalescer.absorb(otherServer);
+
+    assertAll(
+        () -> assertFalse(otherMessage),
+        () -> assertFalse(otherServerAbsorbed),
+        () -> assertEquals(3, coalescer.getOpenWindowCount()),
+        () -> assertTrue(coalescer.drainAll().isEmpty()));
+  }
+
+  @DisplayName("A record after the window has ended is exported by itself")
+  @Test
+  public void endsWindow() {
+    RecordCoalescer coalescer = new RecordCoalescer(1000, 16);
+    coalescer.absorb(record("connection refused", 10_000));
+    boolean late = coalescer.absorb(record("connection refused", 11_000));
+
+    assertFalse(late);
+  }
+
+  @DisplayName("No more windows are opened than the limit")
+  @Test
+  public void limitsOpenWindows() {
+    RecordCoalescer coalescer = new RecordCoalescer(1000, 4);
+    for (int i = 0; i < 10; i++) {
+      coalescer.absorb(record("message " + i, 10_000));
+    }
+    boolean untracked = coalescer.absorb(record("message 9", 10_001));
+    boolean tracked = coalescer.absorb(record("message 0", 10_001));
+
+    assertAll(
+        () -> assertEquals(4, coalescer.getOpenWindowCount()),
+        () -> assertFalse(untracked),
+        () -> assertTrue(tracked));
+  }
+}
@@ -0,0 +1,68 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import weblogic.logging.WLLevel;
+
+@DisplayName("Test the SeverityThresholds class")
+public class SeverityThresholdsTest {
+
+  private static SeverityThresholds create() {
+    Map<String, String> subsystems = new LinkedHashMap<>();
+    subsystems.put("JDBC", "Warning");
+    subsystems.put("Diagnostics", "Off");
+    Map<String, String> loggers = new LinkedHashMap<>();
+    loggers.put("com.example", "Info");
+    loggers.put("com.example.orders", "Error");
+    loggers.put("JDBC", "Debug");
+    return SeverityThresholds.create(subsystems, loggers);
+  }
+
+  @DisplayName("No thresholds are built when none are configured")
+  @Test
+  public void noThresholds() {
+    assertNull(SeverityThresholds.create(Collections.emptyMap(), Collections.emptyMap()));
+  }
+
+  @DisplayName("A subsystem threshold takes precedence over a logger threshold")
+  @Test
+  public void subsystemFirst() {
+    SeverityThresholds thresholds = create();
+
+    assertAll(
+        () -> assertEquals(WLLevel.WARNING.intValue(), thresholds.levelValueFor("JDBC", "JDBC")),
+        () ->
+            assertEquals(WLLevel.OFF.intValue(), thresholds.levelValueFor("Diagnostics", null)),
+        () -> assertEquals(WLLevel.DEBUG.intValue(), thresholds.levelValueFor("JMS", "JDBC")));
+  }
+
+  @DisplayName("The longest logger name that is a whole-segment prefix wins")
+  @Test
+  public void loggerPrefixes() {
+    SeverityThresholds thresholds = create();
+
+    assertAll(
+        () -> assertEquals(WLLevel.INFO.intValue(), thresholds.levelValueFor(null, "com.example")),
+        () ->
+            assertEquals(
+                WLLevel.INFO.intValue(), thresholds.levelValueFor(null, "com.example.billing.Tax")),
+        () ->
+            assertEquals(
+                WLLevel.ERROR.intValue(),
+                thresholds.levelValueFor(null, "com.example.orders.Cart")),
+        () ->
+            assertEquals(
+                SeverityThresholds.NONE, thresholds.levelValueFor(null, "com.examples.Other")),
+        () -> assertEquals(SeverityThresholds.NONE, thresholds.levelValueFor("JMS", "org.other")));
+  }
+}
@@ -0,0 +1,163 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package weblogic.logging.exporter;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("Test the SpillLog class")
+public class SpillLogTest {
+
+  private static final int SEGMENT_BYTES = 4096;
+
+  @TempDir File directory;
+
+  private final FailureReporter failures =
+      new FailureReporter(new PrintStream(new ByteArrayOutputStream()));
+
+  private static void append(SpillLog log, String record) {
+    byte[] bytes = record.getBytes(StandardCharsets.UTF_8);
+    assertTrue(log.append(bytes, 0, bytes.length), "append " + record);
+  }
+
+  private static List<String> payloads(List<SpillLog.Entry> entries) {
+    List<String> payloads = new ArrayList<>();
+    for (SpillLog.Entry entry : entries) {
+      payloads.add(new String(entry.getPayload(), StandardCharsets.UTF_8));
+    }
+    return payloads;
+  }
+
+  @DisplayName("Records are read back oldest first and removed once committed")
+  @Test
+  public void readsInOrder() throws IOException {
+    SpillLog log = new SpillLog(directory, SEGMENT_BYTES, 1024 * 1024, failures);
+    append(log, "one");
+    append(log, "two");
+    append(log, "three");
+
+    List<SpillLog.Entry> first = log.peek(2, Long.MAX_VALUE);
+    List<String> firstPayloads = payloads(first);
+    log.commit(first);
+    List<String> rest = payloads(log.peek(10, Long.MAX_VALUE));
+    long pending = log.getPendingRecords();
+    log.close();
+
+    assertAll(
+        () -> assertEquals(List.of("one", "two"), firstPayloads),
+        () -> assertEquals(List.of("three"), rest),
+        () -> assertEquals(1, pending));
+  }
+
+  @DisplayName("A batch stops before the byte limit but always holds one record")
+  @Test
+  public void limitsBatchBytes() throws IOException {
+    SpillLog log = new SpillLog(directory, SEGMENT_BYTES, 1024 * 1024, failures);
+    append(log, "0123456789");
+    append(log, "0123456789");
+
+    List<String> limited = payloads(log.peek(10, 15));
+    List<String> tiny = payloads(log.peek(10, 1));
+    log.close();
+
+    assertAll(() -> assertEquals(1, limited.size()), () -> assertEquals(1, tiny.size()));
+  }
+
+  @DisplayName("Records not committed before a restart are replayed after it")
+  @Test
+  public void survivesRestart() throws IOException {
+    SpillLog log = new SpillLog(directory, SEGMENT_BYTES, 1024 * 1024, failures);
+    append(log, "replayed");
+    append(log, "pending-1");
+    append(log, "pending-2");
+    log.commit(log.peek(1, Long.MAX_VALUE));
+    log.close();
+
+    SpillLog reopened = new SpillLog(directory, SEGMENT_BYTES, 1024 * 1024, failures);
+    long pending = reopened.getPendingRecords();
+    append(reopened, "after-restart");
+    List<String> payloads = payloads(reopened.peek(10, Long.MAX_VALUE));
+    reopened.close();
+
+    assertAll(
+        () -> assertEquals(2, pending),
+        () -> assertEquals(List.of("pending-1", "pending-2", "after-restart"), payloads));
+  }
+
+  @DisplayName("Full segments roll over and are deleted once replayed")
+  @Test
+  public void rollsAndDeletesSegments() throws IOException {
+    SpillLog log = new SpillLog(directory, SEGMENT_BYTES, 1024 * 1024, failures);
+    String record = new String(new char[1000]).replace('\0', 'x');
+    for (int i = 0; i < 10; i++) {
+      append(log, record);
+    }
+    int segmentsBefore = log.getSegmentCount();
+
+    log.commit(log.peek(8, Long.MAX_VALUE));
+    int segmentsAfter = log.getSegmentCount();
+    String[] files = directory.list();
+    log.close();
+
+    assertAll(
+        () -> assertTrue(segmentsBefore >= 3, "segments before: " + segmentsBefore),
+        () -> assertEquals(1, segmentsAfter),
+        () -> assertEquals(1, files.length));
+  }
+
+  @DisplayName("Appends are refused once the size cap is reached")
+  @Test
+  public void enforcesSizeCap() throws IOException {
+    SpillLog log = new SpillLog(directory, SEGMENT_BYTES, 2 * SEGMENT_BYTES, failures);
+    byte[] record = new byte[1000];
+    int count = 0;
+    while (count < 100 && log.append(record, 0, record.length)) {
+      count++;
+    }
+    int stored = count;
+    int segments = log.getSegmentCount();
+    boolean tooLarge = log.append(new byte[SEGMENT_BYTES], 0, SEGMENT_BYTES);
+    log.close();
+
+    assertAll(
+        () -> assertEquals(2, segments),
+        () -> assertEquals(8, stored),
+        () -> assertFalse(tooLarge));
+  }
+
+  @DisplayName("A record with a bad checksum ends the segment on recovery")
+  @Test
+  public void stopsAtTornRecord() throws IOException {
+    SpillLog log = new SpillLog(directory, SEGMENT_BYTES, 1024 * 1024, failures);
+    append(log, "intact");
+    append(log, "torn");
+    log.close();
+    File[] segments = directory.listFiles();
+    try (RandomAccessFile file = new RandomAccessFile(segments[0], "rw")) {
+      // corrupt the payload of the second record, as if the crash came mid-write
+      file.seek(8 + "intact".length() + 8);
+      file.write('X');
+    }
+
+    SpillLog reopened = new SpillLog(directory, SEGMENT_BYTES, 1024 * 1024, failures);
+    List<String> payloads = payloads(reopened.peek(10, Long.MAX_VALUE));
+    reopened.close();
+
+    assertEquals(List.of("intact"), payloads);
+  }
+}
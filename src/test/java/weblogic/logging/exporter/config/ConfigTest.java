@@ -1,4 +1,4 @@
-// Copyright (c) 2019, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2019, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package weblogic.logging.exporter.config;
@@ -22,7 +22,7 @@ public class ConfigTest {
   private final PrintStream originalOut = System.out;
   private final PrintStream originalErr = System.err;
 
-  private static final String EXPECTED_STRING = "Config{host='host1', port=1234, indexName='index1', bulkSize=2, enabled=false, severity='Warning', filterConfigs=[FilterConfig{expression='MSGID != 'BEA-000449'', servers=[]}], domainUID='domain1', fileLoggingEnabled=false, outputFile='null', getMaxRollbackFiles=null, maxFileSize=null, appendToFile=false, fileLoggingLogLevel='INFO'}";
+  private static final String EXPECTED_STRING = "Config{host='host1', port=1234, indexName='index1', bulkSize=2, bulkLingerMs=1000, bulkMaxBytes=5242880, bufferSize=65536, bufferPoolSize=64, directBuffers=false, httpTransport=builtin, httpMaxConnections=4, httpConnectTimeoutMs=5000, httpReadTimeoutMs=30000, gzipEnabled=false, gzipLevel=6, bulkMaxRetries=3, bulkRetryBackoffMs=200, bulkRetryMaxMegabytes=64, spillDirectory='null', spillMaxMegabytes=512, spillSegmentMegabytes=16, minConcurrency=1, maxConcurrency=1, enabled=false, severity='Warning', subsystemSeverities={}, loggerSeverities={}, filterConfigs=[FilterConfig{expression='MSGID != 'BEA-000449'', servers=[]}], filterStatsIntervalMs=300000, slowFilterMicros=50, rateLimitPerSecond=0, rateLimitKey=messageID, rateLimitSummaryMs=60000, coalesceWindowMs=0, coalesceMaxKeys=1024, metricsPort=0, domainUID='domain1', asyncEnabled=false, queueCapacity=8192, queueOverflowPolicy=dropNewest, queueOverflowSeverity='Warning', senderThreads=1, fileLoggingEnabled=false, outputFile='null', getMaxRollbackFiles=null, maxFileSize=null, appendToFile=false, fileLoggingLogLevel='INFO', fileWriter=async, fileSyncPolicy=none, fileSyncIntervalMs=1000, fileQueueCapacity=8192, fileRotationInterval=none, fileCompression=none, fileRetentionMaxMegabytes=0}";
 
   @BeforeEach
   public void setUpStreams() {
@@ -50,10 +50,93 @@ public class ConfigTest {
         () -> assertEquals(true, config.getEnabled()),
         () -> assertEquals("wls", config.getIndexName()),
         () -> assertEquals(null, config.getSeverity()),
+        () -> assertTrue(config.getSubsystemSeverities().isEmpty()),
+        () -> assertTrue(config.getLoggerSeverities().isEmpty()),
         () -> assertTrue(config.getFilterConfigs() instanceof ArrayList),
         () -> assertEquals(0, config.getFilterConfigs().size()),
         () -> assertEquals(1, config.getBulkSize()),
-        () -> assertEquals("unknown", config.getDomainUID()));
+        () -> assertEquals(1000, config.getBulkLingerMs()),
+        () -> assertEquals(5 * 1024 * 1024, config.getBulkMaxBytes()),
+        () -> assertEquals(64 * 1024, config.getBufferSize()),
+        () -> assertEquals(64, config.getBufferPoolSize()),
+        () -> assertFalse(config.isDirectBuffers()),
+        () -> assertEquals(HttpTransportType.BUILTIN, config.getHttpTransport()),
+        () -> assertEquals(4, config.getHttpMaxConnections()),
+        () -> assertFalse(config.isGzipEnabled()),
+        () -> assertEquals(1, config.getMaxConcurrency()),
+        () -> assertEquals(3, config.getBulkMaxRetries()),
+        () -> assertEquals(64, config.getBulkRetryMaxMegabytes()),
+        () -> assertNull(config.getSpillDirectory()),
+        () -> assertEquals(300000, config.getFilterStatsIntervalMs()),
+        () -> assertEquals(50, config.getSlowFilterMicros()),
+        () -> assertEquals(0, config.getRateLimitPerSecond()),
+        () -> assertEquals(RateLimitKey.MESSAGE_ID, config.getRateLimitKey()),
+        () -> assertEquals(0, config.getCoalesceWindowMs()),
+        () -> assertEquals(1024, config.getCoalesceMaxKeys()),
+        () -> assertEquals(0, config.getMetricsPort()),
+        () -> assertEquals("unknown", config.getDomainUID()),
+        () -> assertFalse(config.isAsyncEnabled()),
+        () -> assertEquals(8192, config.getQueueCapacity()),
+        () -> assertEquals(QueueOverflowPolicy.DROP_NEWEST, config.getQueueOverflowPolicy()),
+        () -> assertEquals(1, config.getSenderThreads()),
+        () -> assertEquals(FileWriterType.ASYNC, config.getFileWriter()),
+        () -> assertEquals(FileSyncPolicy.NONE, config.getFileSyncPolicy()),
+        () -> assertEquals(1000, config.getFileSyncIntervalMs()),
+        () -> assertEquals(8192, config.getFileQueueCapacity()),
+        () -> assertEquals(FileRotationInterval.NONE, config.getFileRotationInterval()),
+        () -> assertEquals(FileCompression.NONE, config.getFileCompression()),
+        () -> assertEquals(0, config.getFileRetentionMaxMegabytes()));
+  }
+
+  @DisplayName("Create async config from file")
+  @Test
+  public void createAsyncConfigFromFile() {
+    Config config = Config.loadConfig(new File("src/test/resources/asyncConfig.yaml"));
+
+    assertAll(
+        "config",
+        () -> assertEquals(250, config.getBulkLingerMs()),
+        () -> assertEquals(1048576, config.getBulkMaxBytes()),
+        () -> assertTrue(config.isAsyncEnabled()),
+        () -> assertEquals(1024, config.getQueueCapacity()),
+        () ->
+            assertEquals(QueueOverflowPolicy.DROP_BELOW_SEVERITY, config.getQueueOverflowPolicy()),
+        () -> assertEquals("Error", config.getQueueOverflowSeverity()),
+        () -> assertEquals(2, config.getSenderThreads()));
+  }
+
+  @DisplayName("Create file logging config from file")
+  @Test
+  public void createFileConfigFromFile() {
+    Config config = Config.loadConfig(new File("src/test/resources/fileConfig.yaml"));
+
+    assertAll(
+        "config",
+        () -> assertTrue(config.isFileLoggingEnabled()),
+        () -> assertEquals("logs/json-logging%g.log", config.getOutputFile()),
+        () -> assertEquals(3, config.getGetMaxRollbackFiles()),
+        () -> assertEquals(1048576, config.getMaxFileSize()),
+        () -> assertTrue(config.getAppendToFile()),
+        () -> assertEquals(FileWriterType.ASYNC, config.getFileWriter()),
+        () -> assertEquals(FileSyncPolicy.INTERVAL, config.getFileSyncPolicy()),
+        () -> assertEquals(250, config.getFileSyncIntervalMs()),
+        () -> assertEquals(1024, config.getFileQueueCapacity()),
+        () -> assertEquals(FileRotationInterval.DAILY, config.getFileRotationInterval()),
+        () -> assertEquals(FileCompression.GZIP, config.getFileCompression()),
+        () -> assertEquals(200, config.getFileRetentionMaxMegabytes()));
+  }
+
+  @DisplayName("Exporting while writing the file hands records off without waiting")
+  @Test
+  public void isolatesFileFromExport() {
+    Config config = Config.loadConfig(new File("src/test/resources/exportAndFileConfig.yaml"));
+
+    assertAll(
+        "config",
+        () -> assertTrue(config.getEnabled()),
+        () -> assertTrue(config.isFileLoggingEnabled()),
+        () -> assertTrue(config.isAsyncEnabled()),
+        () -> assertEquals(QueueOverflowPolicy.DROP_NEWEST, config.getQueueOverflowPolicy()));
   }
 
   @DisplayName("Create config from file")
@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package weblogic.logging.exporter.config;
@@ -10,6 +10,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
@@ -43,6 +44,23 @@ public class MapUtilsTest {
     assertThat(MapUtils.getStringArray(map, "values"), arrayContaining("7", "8", "true"));
   }
 
+  @Test
+  public void whenStringMapValueIsMap_returnEntriesAsStringsInOrder() {
+    Map<String, Object> nested = new LinkedHashMap<>();
+    nested.put("JDBC", "Warning");
+    nested.put("Health", 3);
+    Map<String, Object> map = createMapWithValue(nested);
+
+    assertEquals("{JDBC=Warning, Health=3}", MapUtils.getStringMap(map, "values").toString());
+  }
+
+  @Test
+  public void whenStringMapValueIsNotMap_throwException() {
+    Map<String, Object> map = createMapWithValue("JDBC");
+
+    assertThrows(IllegalArgumentException.class, () -> MapUtils.getStringMap(map, "values"));
+  }
+
   @DisplayName("After creating a map, check that 'good' true values are correctly interpreted")
   @Test
   public void afterCreateMap_checkGoodTrueValues() {